@@ -1,8 +1,16 @@
 package io.kodlama.hrms.api.controllers;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import javax.servlet.http.HttpServletResponse;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -13,9 +21,17 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.kodlama.hrms.business.abstracts.JobPostingService;
+import io.kodlama.hrms.business.abstracts.JobPostingSnapshotService;
 import io.kodlama.hrms.core.utilities.results.DataResult;
 import io.kodlama.hrms.core.utilities.results.Result;
 import io.kodlama.hrms.entities.concretes.JobPosting;
+import io.kodlama.hrms.entities.dtos.CursorPageDto;
+import io.kodlama.hrms.entities.dtos.JobPostingBulkConfirmationDto;
+import io.kodlama.hrms.entities.dtos.JobPostingConfirmationResultDto;
+import io.kodlama.hrms.entities.dtos.JobPostingFacetCountsDto;
+import io.kodlama.hrms.entities.dtos.JobPostingFilterDto;
+import io.kodlama.hrms.entities.dtos.JobPostingSummaryDto;
+import io.kodlama.hrms.entities.dtos.PageDto;
 
 @RestController
 @RequestMapping("/api/jobPostings")
@@ -23,10 +39,12 @@ import io.kodlama.hrms.entities.concretes.JobPosting;
 public class JobPostingsController {
 
 	private JobPostingService jobPostingService;
+	private JobPostingSnapshotService jobPostingSnapshotService;
 
 	@Autowired
-	public JobPostingsController(JobPostingService jobPostingService) {
+	public JobPostingsController(JobPostingService jobPostingService, JobPostingSnapshotService jobPostingSnapshotService) {
 		this.jobPostingService = jobPostingService;
+		this.jobPostingSnapshotService = jobPostingSnapshotService;
 	}
 
 	@PostMapping("/add")
@@ -39,6 +57,13 @@ public class JobPostingsController {
 		return jobPostingService.getAll();
 	}
 
+	@GetMapping("/export")
+	public void export(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince, HttpServletResponse response) throws IOException {
+		response.setContentType("application/x-ndjson");
+		response.setCharacterEncoding("UTF-8");
+		jobPostingService.exportAsNdjson(updatedSince, response.getOutputStream());
+	}
+
 	@GetMapping("/getById")
 	public DataResult<JobPosting> getById(@RequestParam int id) {
 		return jobPostingService.getById(id);
@@ -49,6 +74,11 @@ public class JobPostingsController {
 		return jobPostingService.confirm(jobPostingId, companyStaffId, jobPostingConfirmationTypeId, isConfirmed);
 	}
 
+	@PutMapping("/confirmAll")
+	public DataResult<List<JobPostingConfirmationResultDto>> confirmAll(@RequestBody JobPostingBulkConfirmationDto jobPostingBulkConfirmationDto) {
+		return jobPostingService.confirmAll(jobPostingBulkConfirmationDto);
+	}
+
 	@PutMapping("/makeActiveOrPassive")
 	public Result makeActiveOrPassive(@RequestParam int id, @RequestParam boolean isActive) {
 		return jobPostingService.makeActiveOrPassive(id, isActive);
@@ -75,8 +105,18 @@ public class JobPostingsController {
 	}
 
 	@GetMapping("/getAllActiveOnesSortedByPostingDateTop6")
-	public DataResult<List<JobPosting>> getAllActiveOnesSortedByPostingDateTop6() {
-		return jobPostingService.getAllActiveOnesSortedByPostingDateTop6();
+	public ResponseEntity<byte[]> getAllActiveOnesSortedByPostingDateTop6() {
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(jobPostingSnapshotService.getLatestActiveOnesSnapshot());
+	}
+
+	@GetMapping("/getMostViewedActiveOnes")
+	public DataResult<List<JobPosting>> getMostViewedActiveOnes(@RequestParam(defaultValue = "10") int limit) {
+		return jobPostingService.getMostViewedActiveOnes(limit);
+	}
+
+	@GetMapping("/getAllActiveOnesByCursorSortedByPostingDate")
+	public DataResult<CursorPageDto<JobPosting>> getAllActiveOnesByCursorSortedByPostingDate(@RequestParam(required = false) String cursor, @RequestParam int pageSize) {
+		return jobPostingService.getAllActiveOnesByCursorSortedByPostingDate(cursor, pageSize);
 	}
 
 	@GetMapping("/getAllActiveOnesByEmployerIdSortedByPostingDate")
@@ -95,10 +135,51 @@ public class JobPostingsController {
 			@RequestParam int workingTimeId, @RequestParam int workingTypeId, @RequestParam int pageNo, @RequestParam int pageSize) {
 		return jobPostingService.getAllActiveOnesByPageFilteredByCityAndJobTitleAndWorkingTimeAndWorkingType(cityId, jobTitleId, workingTimeId, workingTypeId, pageNo, pageSize);
 	}
+
+	@GetMapping("/getAllActiveOnesByPageFiltered")
+	public DataResult<PageDto<JobPosting>> getAllActiveOnesByPageFiltered(JobPostingFilterDto filter, @RequestParam int pageNo, @RequestParam int pageSize,
+			@RequestParam(defaultValue = "postingDate") String sortBy, @RequestParam(defaultValue = "DESC") Sort.Direction sortDirection) {
+		return jobPostingService.getAllActiveOnesByPageFiltered(filter, pageNo, pageSize, sortBy, sortDirection);
+	}
+	
+	@GetMapping("/summaries/getAllActiveOnesByPageSortedByPostingDate")
+	public DataResult<List<JobPostingSummaryDto>> getAllActiveSummariesByPageSortedByPostingDate(@RequestParam int pageNo, @RequestParam int pageSize) {
+		return jobPostingService.getAllActiveSummariesByPageSortedByPostingDate(pageNo, pageSize);
+	}
+
+	@GetMapping("/summaries/getAllActiveOnesByEmployerIdSortedByPostingDate")
+	public DataResult<List<JobPostingSummaryDto>> getAllActiveSummariesByEmployerIdSortedByPostingDate(@RequestParam int employerId) {
+		return jobPostingService.getAllActiveSummariesByEmployerIdSortedByPostingDate(employerId);
+	}
+
+	@GetMapping("/summaries/getAllActiveOnesByPageFiltered")
+	public DataResult<PageDto<JobPostingSummaryDto>> getAllActiveSummariesByPageFiltered(JobPostingFilterDto filter, @RequestParam int pageNo, @RequestParam int pageSize) {
+		return jobPostingService.getAllActiveSummariesByPageFiltered(filter, pageNo, pageSize);
+	}
+
+	@GetMapping("/getActiveOnesFacetCounts")
+	public DataResult<JobPostingFacetCountsDto> getActiveOnesFacetCounts(JobPostingFilterDto filter) {
+		return jobPostingService.getActiveOnesFacetCounts(filter);
+	}
+	
+	@GetMapping("/searchActiveOnes")
+	public DataResult<PageDto<JobPosting>> searchActiveOnes(@RequestParam String query, JobPostingFilterDto filter, @RequestParam int pageNo, @RequestParam int pageSize) {
+		return jobPostingService.searchActiveOnes(query, filter, pageNo, pageSize);
+	}
 	
 	@GetMapping("/getAllOnesThatWaitingForPostingConfirmation")
 	public DataResult<List<JobPosting>> getAllOnesThatWaitingForPostingConfirmation() {
 		return jobPostingService.getAllOnesThatWaitingForPostingConfirmation();
 	}
 
+	@GetMapping("/getAllOnesThatWaitingForPostingConfirmationByPage")
+	public DataResult<PageDto<JobPosting>> getAllOnesThatWaitingForPostingConfirmationByPage(@RequestParam int pageNo, @RequestParam int pageSize) {
+		return jobPostingService.getAllOnesThatWaitingForPostingConfirmationByPage(pageNo, pageSize);
+	}
+
+	@GetMapping("/getCountOfOnesThatWaitingForPostingConfirmation")
+	public DataResult<Long> getCountOfOnesThatWaitingForPostingConfirmation() {
+		return jobPostingService.getCountOfOnesThatWaitingForPostingConfirmation();
+	}
+
 }
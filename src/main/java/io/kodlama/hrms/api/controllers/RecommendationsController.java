@@ -0,0 +1,40 @@
+package io.kodlama.hrms.api.controllers;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.kodlama.hrms.business.abstracts.RecommendationService;
+import io.kodlama.hrms.core.utilities.results.DataResult;
+import io.kodlama.hrms.entities.concretes.Candidate;
+import io.kodlama.hrms.entities.dtos.JobPostingSummaryDto;
+import io.kodlama.hrms.entities.dtos.RecommendationDto;
+
+@RestController
+@RequestMapping("/api/recommendations")
+@CrossOrigin
+public class RecommendationsController {
+
+	private RecommendationService recommendationService;
+
+	@Autowired
+	public RecommendationsController(RecommendationService recommendationService) {
+		this.recommendationService = recommendationService;
+	}
+
+	@GetMapping("/getJobPostingsForCandidate")
+	public DataResult<List<RecommendationDto<JobPostingSummaryDto>>> getJobPostingsForCandidate(@RequestParam int candidateId, @RequestParam(defaultValue = "10") int size) {
+		return recommendationService.getJobPostingsForCandidate(candidateId, size);
+	}
+
+	@GetMapping("/getCandidatesForJobPosting")
+	public DataResult<List<RecommendationDto<Candidate>>> getCandidatesForJobPosting(@RequestParam int jobPostingId, @RequestParam(defaultValue = "10") int size) {
+		return recommendationService.getCandidatesForJobPosting(jobPostingId, size);
+	}
+
+}
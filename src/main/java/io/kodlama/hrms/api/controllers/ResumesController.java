@@ -1,22 +1,47 @@
 package io.kodlama.hrms.api.controllers;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.servlet.http.HttpServletRequest;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import io.kodlama.hrms.business.abstracts.ResumeDocumentService;
+import io.kodlama.hrms.business.abstracts.ResumePdfService;
+import io.kodlama.hrms.business.abstracts.ResumeSearchService;
+import io.kodlama.hrms.business.abstracts.ResumeSectionService;
 import io.kodlama.hrms.business.abstracts.ResumeService;
 import io.kodlama.hrms.core.utilities.results.DataResult;
+import io.kodlama.hrms.core.utilities.results.ErrorDataResult;
 import io.kodlama.hrms.core.utilities.results.Result;
 import io.kodlama.hrms.entities.concretes.Resume;
+import io.kodlama.hrms.entities.dtos.PageDto;
+import io.kodlama.hrms.entities.dtos.ResumePatchDto;
+import io.kodlama.hrms.entities.dtos.ResumeSearchDto;
+import io.kodlama.hrms.entities.dtos.ResumeSectionsDto;
 import io.kodlama.hrms.entities.dtos.ResumeWithAllRelatedEntitiesDto;
 
 @RestController
@@ -25,10 +50,19 @@ import io.kodlama.hrms.entities.dtos.ResumeWithAllRelatedEntitiesDto;
 public class ResumesController {
 
 	private ResumeService resumeService;
+	private ResumeDocumentService resumeDocumentService;
+	private ResumeSearchService resumeSearchService;
+	private ResumeSectionService resumeSectionService;
+	private ResumePdfService resumePdfService;
 
 	@Autowired
-	public ResumesController(ResumeService resumeService) {
+	public ResumesController(ResumeService resumeService, ResumeDocumentService resumeDocumentService, ResumeSearchService resumeSearchService,
+			ResumeSectionService resumeSectionService, ResumePdfService resumePdfService) {
 		this.resumeService = resumeService;
+		this.resumeDocumentService = resumeDocumentService;
+		this.resumeSearchService = resumeSearchService;
+		this.resumeSectionService = resumeSectionService;
+		this.resumePdfService = resumePdfService;
 	}
 
 	@PostMapping("/add")
@@ -41,6 +75,11 @@ public class ResumesController {
 		return resumeService.update(resume);
 	}
 
+	@PatchMapping("/patch")
+	public Result patch(@RequestBody ResumePatchDto resumePatchDto) {
+		return resumeService.patch(resumePatchDto);
+	}
+
 	@DeleteMapping("/delete")
 	public Result delete(@RequestParam int id) {
 		return resumeService.delete(id);
@@ -56,6 +95,11 @@ public class ResumesController {
 		return resumeService.getById(id);
 	}
 
+	@PutMapping("/replaceSections")
+	public Result replaceSections(@RequestBody ResumeSectionsDto resumeSectionsDto) {
+		return resumeSectionService.replaceSections(resumeSectionsDto);
+	}
+
 	@PostMapping("/addCoverLetterToResume")
 	public Result addCoverLetterToResume(@RequestParam int resumeId, @RequestParam int coverLetterId) {
 		return resumeService.addCoverLetterToResume(resumeId, coverLetterId);
@@ -67,18 +111,86 @@ public class ResumesController {
 	}
 
 	@GetMapping("/getAllResumesDetailsByActivatedCandidate")
-	public DataResult<List<ResumeWithAllRelatedEntitiesDto>> getAllResumesDetailsByActivatedCandidate() {
-		return resumeService.getAllResumesDetailsByActivatedCandidate();
+	public DataResult<PageDto<ResumeWithAllRelatedEntitiesDto>> getAllResumesDetailsByActivatedCandidate(@RequestParam(defaultValue = "1") int pageNo, @RequestParam(defaultValue = "500") int pageSize) {
+		return resumeService.getAllResumesDetailsByActivatedCandidateByPage(pageNo, pageSize);
+	}
+
+	@GetMapping("/getAllResumesDetailsByActivatedCandidateByPage")
+	public DataResult<PageDto<ResumeWithAllRelatedEntitiesDto>> getAllResumesDetailsByActivatedCandidateByPage(@RequestParam int pageNo, @RequestParam int pageSize) {
+		return resumeService.getAllResumesDetailsByActivatedCandidateByPage(pageNo, pageSize);
+	}
+
+	@PostMapping("/search")
+	public DataResult<List<ResumeWithAllRelatedEntitiesDto>> search(@RequestBody ResumeSearchDto resumeSearchDto, @RequestParam(defaultValue = "20") int size) {
+		return resumeSearchService.search(resumeSearchDto, size);
 	}
 
 	@GetMapping("/getResumeDetailsByCandidateId")
 	public DataResult<ResumeWithAllRelatedEntitiesDto> getResumeDetailsByCandidateId(@RequestParam int candidateId) {
 		return resumeService.getResumeDetailsByCandidateId(candidateId);
 	}
+
+	@GetMapping("/getResumeDetailsByCandidateIdAsync")
+	public CompletableFuture<DataResult<ResumeWithAllRelatedEntitiesDto>> getResumeDetailsByCandidateIdAsync(@RequestParam int candidateId) {
+		return resumeService.getResumeDetailsByCandidateIdAsync(candidateId);
+	}
+
+	@GetMapping("/getResumeDocumentByCandidateId")
+	public ResponseEntity<byte[]> getResumeDocumentByCandidateId(@RequestParam int candidateId) {
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(resumeDocumentService.getByCandidateId(candidateId));
+	}
+	
+	@GetMapping("/getResumePdfByCandidateId")
+	public CompletableFuture<ResponseEntity<?>> getResumePdfByCandidateId(@RequestParam int candidateId, HttpServletRequest request) {
+		return resumePdfService.getByCandidateId(candidateId).thenCompose(result -> {
+
+			// The cached file may have been evicted since the lookup, it is rendered again once.
+			if (result.isSuccess() && !Files.exists(result.getData())) {
+				return resumePdfService.getByCandidateId(candidateId).thenApply(retry -> toPdfResponse(candidateId, retry, request));
+			}
+			return CompletableFuture.completedFuture(toPdfResponse(candidateId, result, request));
+		});
+	}
+
+	private static ResponseEntity<?> toPdfResponse(int candidateId, DataResult<Path> result, HttpServletRequest request) {
+
+		if (!result.isSuccess()) {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+		}
+
+		Path path = result.getData();
+		long size;
+		try {
+			size = Files.size(path);
+		} catch (IOException exception) {
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ErrorDataResult<Object>("Özgeçmiş PDF'i hazırlanamadı, lütfen tekrar deneyin."));
+		}
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_PDF);
+		headers.setContentDisposition(ContentDisposition.attachment().filename("resume-" + candidateId + ".pdf").build());
+		headers.setContentLength(size);
+
+		// Tomcat then hands the file to the kernel with sendfile instead of copying it through the JVM.
+		if (Boolean.TRUE.equals(request.getAttribute("org.apache.tomcat.sendfile.support"))) {
+			request.setAttribute("org.apache.tomcat.sendfile.filename", path.toAbsolutePath().toString());
+			request.setAttribute("org.apache.tomcat.sendfile.start", 0L);
+			request.setAttribute("org.apache.tomcat.sendfile.end", size);
+			return ResponseEntity.ok().headers(headers).build();
+		}
+
+		return ResponseEntity.ok().headers(headers).body(new FileSystemResource(path));
+	}
 	
 	@GetMapping("/getByCandidateId")
 	public DataResult<Resume> getByCandidateId(@RequestParam int candidateId) {
 		return resumeService.getByCandidateId(candidateId);
 	}
 
+	@ExceptionHandler(RejectedExecutionException.class)
+	@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+	public ErrorDataResult<Object> handleRejectedExecutionException(RejectedExecutionException exception) {
+		return new ErrorDataResult<Object>("Şu anda çok fazla istek var, lütfen daha sonra tekrar deneyin.");
+	}
+
 }
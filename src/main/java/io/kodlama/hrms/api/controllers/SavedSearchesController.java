@@ -0,0 +1,63 @@
+package io.kodlama.hrms.api.controllers;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.kodlama.hrms.business.abstracts.SavedSearchService;
+import io.kodlama.hrms.core.utilities.results.DataResult;
+import io.kodlama.hrms.core.utilities.results.Result;
+import io.kodlama.hrms.entities.concretes.SavedSearch;
+
+@RestController
+@RequestMapping("/api/savedSearches")
+@CrossOrigin
+public class SavedSearchesController {
+
+	private SavedSearchService savedSearchService;
+
+	@Autowired
+	public SavedSearchesController(SavedSearchService savedSearchService) {
+		this.savedSearchService = savedSearchService;
+	}
+
+	@PostMapping("/add")
+	public Result add(@RequestBody SavedSearch savedSearch) {
+		return savedSearchService.add(savedSearch);
+	}
+
+	@PutMapping("/update")
+	public Result update(@RequestBody SavedSearch savedSearch) {
+		return savedSearchService.update(savedSearch);
+	}
+
+	@DeleteMapping("/delete")
+	public Result delete(@RequestParam int id) {
+		return savedSearchService.delete(id);
+	}
+
+	@GetMapping("/getAll")
+	public DataResult<List<SavedSearch>> getAll() {
+		return savedSearchService.getAll();
+	}
+
+	@GetMapping("/getById")
+	public DataResult<SavedSearch> getById(@RequestParam int id) {
+		return savedSearchService.getById(id);
+	}
+
+	@GetMapping("/getAllByCandidateId")
+	public DataResult<List<SavedSearch>> getAllByCandidateId(@RequestParam int candidateId) {
+		return savedSearchService.getAllByCandidateId(candidateId);
+	}
+
+}
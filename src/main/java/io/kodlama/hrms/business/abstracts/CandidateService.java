@@ -14,4 +14,6 @@ public interface CandidateService extends BaseEntityService<Candidate> {
 
 	DataResult<Candidate> getByIdentityNumber(String identityNumber);
 
+	DataResult<List<Candidate>> getAllByIds(Iterable<Integer> ids);
+
 }
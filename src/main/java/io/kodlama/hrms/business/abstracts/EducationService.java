@@ -1,5 +1,6 @@
 package io.kodlama.hrms.business.abstracts;
 
+import java.util.Collection;
 import java.util.List;
 
 import io.kodlama.hrms.core.utilities.results.DataResult;
@@ -11,4 +12,6 @@ public interface EducationService extends BaseEntityService<Education> {
 
 	DataResult<List<Education>> getAllByResumeIdSortedByGraduationDate(int resumeId);
 
+	DataResult<List<Education>> getAllByResumeIdsSortedByGraduationDate(Collection<Integer> resumeIds);
+
 }
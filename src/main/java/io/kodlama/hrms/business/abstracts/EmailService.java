@@ -1,10 +1,15 @@
 package io.kodlama.hrms.business.abstracts;
 
+import java.util.List;
+
 import io.kodlama.hrms.core.entities.User;
 import io.kodlama.hrms.core.utilities.results.Result;
+import io.kodlama.hrms.entities.concretes.JobPosting;
 
 public interface EmailService {
 
 	Result sendEmail(User user);
 
+	Result sendJobPostingAlertToAll(List<? extends User> users, JobPosting jobPosting);
+
 }
@@ -1,5 +1,6 @@
 package io.kodlama.hrms.business.abstracts;
 
+import java.util.Collection;
 import java.util.List;
 
 import io.kodlama.hrms.core.utilities.results.DataResult;
@@ -11,4 +12,6 @@ public interface ExperienceService extends BaseEntityService<Experience> {
 
 	DataResult<List<Experience>> getAllByResumeIdSortedByTerminationDate(int resumeId);
 
+	DataResult<List<Experience>> getAllByResumeIdsSortedByTerminationDate(Collection<Integer> resumeIds);
+
 }
@@ -1,5 +1,8 @@
 package io.kodlama.hrms.business.abstracts;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.web.multipart.MultipartFile;
 
 import io.kodlama.hrms.core.utilities.results.DataResult;
@@ -12,4 +15,6 @@ public interface ImageService extends BaseEntityService<Image> {
 
 	DataResult<Image> getByUserId(int userId);
 
+	DataResult<List<Image>> getAllByUserIds(Collection<Integer> userIds);
+
 }
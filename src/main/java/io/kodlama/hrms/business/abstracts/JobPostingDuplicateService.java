@@ -0,0 +1,21 @@
+package io.kodlama.hrms.business.abstracts;
+
+import java.time.LocalDate;
+
+import io.kodlama.hrms.entities.concretes.JobPosting;
+
+public interface JobPostingDuplicateService {
+
+	void rebuild();
+
+	void refresh();
+
+	Integer findDuplicateId(JobPosting jobPosting);
+
+	void index(JobPosting jobPosting);
+
+	void remove(int jobPostingId);
+
+	int removeAllClosedBefore(LocalDate date);
+
+}
@@ -0,0 +1,9 @@
+package io.kodlama.hrms.business.abstracts;
+
+import io.kodlama.hrms.core.utilities.results.DataResult;
+
+public interface JobPostingExpiryService {
+
+	DataResult<Integer> expireClosedOnes();
+
+}
@@ -0,0 +1,34 @@
+package io.kodlama.hrms.business.abstracts;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import io.kodlama.hrms.entities.concretes.JobPosting;
+import io.kodlama.hrms.entities.dtos.JobPostingFacetCountsDto;
+import io.kodlama.hrms.entities.dtos.JobPostingFilterDto;
+
+public interface JobPostingSearchIndexService {
+
+	void rebuild();
+
+	void rebuildInBackground();
+
+	void refresh();
+
+	boolean isReady();
+
+	void index(JobPosting jobPosting);
+
+	void remove(int jobPostingId);
+
+	int removeAllClosedBefore(LocalDate date);
+
+	RoaringBitmap getAllActiveIdsFilteredBy(JobPostingFilterDto filter);
+
+	List<Integer> getPageOfIdsSortedByPostingDate(RoaringBitmap ids, int offset, int limit);
+
+	JobPostingFacetCountsDto getFacetCounts(JobPostingFilterDto filter);
+
+}
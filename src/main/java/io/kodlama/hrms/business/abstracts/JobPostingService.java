@@ -1,15 +1,29 @@
 package io.kodlama.hrms.business.abstracts;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Sort;
+
 import io.kodlama.hrms.core.utilities.results.DataResult;
 import io.kodlama.hrms.core.utilities.results.Result;
 import io.kodlama.hrms.entities.concretes.JobPosting;
+import io.kodlama.hrms.entities.dtos.CursorPageDto;
+import io.kodlama.hrms.entities.dtos.JobPostingBulkConfirmationDto;
+import io.kodlama.hrms.entities.dtos.JobPostingConfirmationResultDto;
+import io.kodlama.hrms.entities.dtos.JobPostingFacetCountsDto;
+import io.kodlama.hrms.entities.dtos.JobPostingFilterDto;
+import io.kodlama.hrms.entities.dtos.JobPostingSummaryDto;
+import io.kodlama.hrms.entities.dtos.PageDto;
 
 public interface JobPostingService extends BaseEntityService<JobPosting> {
 
 	Result confirm(int employerId, int companyStaffId, int jobPostingConfirmationTypeId, boolean isConfirmed);
 
+	DataResult<List<JobPostingConfirmationResultDto>> confirmAll(JobPostingBulkConfirmationDto jobPostingBulkConfirmationDto);
+
 	Result makeActiveOrPassive(int id, boolean isActive);
 	
 	DataResult<List<JobPosting>> getAllByIsActive(boolean isActive);
@@ -20,14 +34,34 @@ public interface JobPostingService extends BaseEntityService<JobPosting> {
 
 	DataResult<List<JobPosting>> getAllActiveOnesByPageSortedByPostingDate(int pageNo, int pageSize);
 
-	DataResult<List<JobPosting>> getAllActiveOnesSortedByPostingDateTop6();
+	DataResult<List<JobPosting>> getMostViewedActiveOnes(int limit);
+
+	DataResult<CursorPageDto<JobPosting>> getAllActiveOnesByCursorSortedByPostingDate(String cursor, int pageSize);
 
 	DataResult<List<JobPosting>> getAllActiveOnesByEmployerIdSortedByPostingDate(int employerId);
 	
 	DataResult<List<JobPosting>> getAllActiveOnesFilteredByCityAndJobTitleAndWorkingTimeAndWorkingType(int cityId, int jobTitleId, int workingTimeId, int workingTypeId);
 
 	DataResult<List<JobPosting>> getAllActiveOnesByPageFilteredByCityAndJobTitleAndWorkingTimeAndWorkingType(int cityId, int jobTitleId, int workingTimeId, int workingTypeId, int pageNo, int pageSize);
+
+	DataResult<PageDto<JobPosting>> getAllActiveOnesByPageFiltered(JobPostingFilterDto filter, int pageNo, int pageSize, String sortBy, Sort.Direction sortDirection);
+
+	DataResult<List<JobPostingSummaryDto>> getAllActiveSummariesByPageSortedByPostingDate(int pageNo, int pageSize);
+
+	DataResult<List<JobPostingSummaryDto>> getAllActiveSummariesByEmployerIdSortedByPostingDate(int employerId);
+
+	DataResult<PageDto<JobPostingSummaryDto>> getAllActiveSummariesByPageFiltered(JobPostingFilterDto filter, int pageNo, int pageSize);
+
+	DataResult<JobPostingFacetCountsDto> getActiveOnesFacetCounts(JobPostingFilterDto filter);
+
+	DataResult<PageDto<JobPosting>> searchActiveOnes(String query, JobPostingFilterDto filter, int pageNo, int pageSize);
 	
 	DataResult<List<JobPosting>> getAllOnesThatWaitingForPostingConfirmation();
 
+	void exportAsNdjson(LocalDateTime updatedSince, OutputStream outputStream) throws IOException;
+
+	DataResult<PageDto<JobPosting>> getAllOnesThatWaitingForPostingConfirmationByPage(int pageNo, int pageSize);
+
+	DataResult<Long> getCountOfOnesThatWaitingForPostingConfirmation();
+
 }
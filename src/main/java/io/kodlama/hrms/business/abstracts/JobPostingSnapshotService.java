@@ -0,0 +1,9 @@
+package io.kodlama.hrms.business.abstracts;
+
+public interface JobPostingSnapshotService {
+
+	byte[] getLatestActiveOnesSnapshot();
+
+	void invalidate();
+
+}
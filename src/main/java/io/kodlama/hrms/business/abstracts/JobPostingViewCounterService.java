@@ -0,0 +1,11 @@
+package io.kodlama.hrms.business.abstracts;
+
+public interface JobPostingViewCounterService {
+
+	void recordView(int jobPostingId);
+
+	void remove(int jobPostingId);
+
+	void flush();
+
+}
@@ -1,7 +1,13 @@
 package io.kodlama.hrms.business.abstracts;
 
+import java.util.Collection;
+import java.util.List;
+
+import io.kodlama.hrms.core.utilities.results.DataResult;
 import io.kodlama.hrms.entities.concretes.LanguageLevel;
 
 public interface LanguageLevelService extends BaseEntityService<LanguageLevel> {
 
+	DataResult<List<LanguageLevel>> getAllByResumeIds(Collection<Integer> resumeIds);
+
 }
@@ -1,7 +1,13 @@
 package io.kodlama.hrms.business.abstracts;
 
+import java.util.Collection;
+import java.util.List;
+
+import io.kodlama.hrms.core.utilities.results.DataResult;
 import io.kodlama.hrms.entities.concretes.Link;
 
 public interface LinkService extends BaseEntityService<Link> {
 
+	DataResult<List<Link>> getAllByResumeIds(Collection<Integer> resumeIds);
+
 }
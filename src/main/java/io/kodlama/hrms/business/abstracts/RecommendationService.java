@@ -0,0 +1,30 @@
+package io.kodlama.hrms.business.abstracts;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import io.kodlama.hrms.core.utilities.results.DataResult;
+import io.kodlama.hrms.entities.concretes.Candidate;
+import io.kodlama.hrms.entities.concretes.JobPosting;
+import io.kodlama.hrms.entities.dtos.JobPostingSummaryDto;
+import io.kodlama.hrms.entities.dtos.RecommendationDto;
+
+public interface RecommendationService {
+
+	void rebuild();
+
+	void refresh();
+
+	void indexResume(int resumeId);
+
+	void indexJobPosting(JobPosting jobPosting);
+
+	void removeJobPosting(int jobPostingId);
+
+	int removeAllJobPostingsClosedBefore(LocalDate date);
+
+	DataResult<List<RecommendationDto<JobPostingSummaryDto>>> getJobPostingsForCandidate(int candidateId, int size);
+
+	DataResult<List<RecommendationDto<Candidate>>> getCandidatesForJobPosting(int jobPostingId, int size);
+
+}
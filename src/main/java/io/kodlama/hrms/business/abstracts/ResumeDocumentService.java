@@ -0,0 +1,9 @@
+package io.kodlama.hrms.business.abstracts;
+
+public interface ResumeDocumentService {
+
+	byte[] getByCandidateId(int candidateId);
+
+	void rebuild(int resumeId);
+
+}
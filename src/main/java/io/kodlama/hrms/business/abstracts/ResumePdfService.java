@@ -0,0 +1,14 @@
+package io.kodlama.hrms.business.abstracts;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+import io.kodlama.hrms.core.utilities.results.DataResult;
+
+public interface ResumePdfService {
+
+	CompletableFuture<DataResult<Path>> getByCandidateId(int candidateId);
+
+	void evictExpired();
+
+}
@@ -0,0 +1,19 @@
+package io.kodlama.hrms.business.abstracts;
+
+import java.util.List;
+
+import io.kodlama.hrms.core.utilities.results.DataResult;
+import io.kodlama.hrms.entities.dtos.ResumeSearchDto;
+import io.kodlama.hrms.entities.dtos.ResumeWithAllRelatedEntitiesDto;
+
+public interface ResumeSearchService {
+
+	void rebuild();
+
+	void refresh();
+
+	void index(int resumeId);
+
+	DataResult<List<ResumeWithAllRelatedEntitiesDto>> search(ResumeSearchDto resumeSearchDto, int size);
+
+}
@@ -0,0 +1,10 @@
+package io.kodlama.hrms.business.abstracts;
+
+import io.kodlama.hrms.core.utilities.results.Result;
+import io.kodlama.hrms.entities.dtos.ResumeSectionsDto;
+
+public interface ResumeSectionService {
+
+	Result replaceSections(ResumeSectionsDto resumeSectionsDto);
+
+}
@@ -1,22 +1,31 @@
 package io.kodlama.hrms.business.abstracts;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import io.kodlama.hrms.core.utilities.results.DataResult;
 import io.kodlama.hrms.core.utilities.results.Result;
 import io.kodlama.hrms.entities.concretes.Resume;
+import io.kodlama.hrms.entities.dtos.PageDto;
+import io.kodlama.hrms.entities.dtos.ResumePatchDto;
 import io.kodlama.hrms.entities.dtos.ResumeWithAllRelatedEntitiesDto;
 
 public interface ResumeService extends BaseEntityService<Resume> {
 
+	Result patch(ResumePatchDto resumePatchDto);
+
 	Result addCoverLetterToResume(int resumeId, int coverLetterId);
 	
 	Result deleteCoverLetterFromResume(int resumeId);
 
-	DataResult<List<ResumeWithAllRelatedEntitiesDto>> getAllResumesDetailsByActivatedCandidate();
+	DataResult<PageDto<ResumeWithAllRelatedEntitiesDto>> getAllResumesDetailsByActivatedCandidateByPage(int pageNo, int pageSize);
+
+	DataResult<List<ResumeWithAllRelatedEntitiesDto>> getResumesDetailsByIds(List<Integer> resumeIds);
 
 	DataResult<Resume> getByCandidateId(int candidateId);
 
 	DataResult<ResumeWithAllRelatedEntitiesDto> getResumeDetailsByCandidateId(int candidateId);
 
+	CompletableFuture<DataResult<ResumeWithAllRelatedEntitiesDto>> getResumeDetailsByCandidateIdAsync(int candidateId);
+
 }
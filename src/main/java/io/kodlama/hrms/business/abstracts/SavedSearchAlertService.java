@@ -0,0 +1,18 @@
+package io.kodlama.hrms.business.abstracts;
+
+import io.kodlama.hrms.entities.concretes.JobPosting;
+import io.kodlama.hrms.entities.concretes.SavedSearch;
+
+public interface SavedSearchAlertService {
+
+	void rebuild();
+
+	void refresh();
+
+	void index(SavedSearch savedSearch);
+
+	void remove(int savedSearchId);
+
+	void notifyMatchingCandidates(JobPosting jobPosting);
+
+}
@@ -0,0 +1,12 @@
+package io.kodlama.hrms.business.abstracts;
+
+import java.util.List;
+
+import io.kodlama.hrms.core.utilities.results.DataResult;
+import io.kodlama.hrms.entities.concretes.SavedSearch;
+
+public interface SavedSearchService extends BaseEntityService<SavedSearch> {
+
+	DataResult<List<SavedSearch>> getAllByCandidateId(int candidateId);
+
+}
@@ -1,7 +1,13 @@
 package io.kodlama.hrms.business.abstracts;
 
+import java.util.Collection;
+import java.util.List;
+
+import io.kodlama.hrms.core.utilities.results.DataResult;
 import io.kodlama.hrms.entities.concretes.Skill;
 
 public interface SkillService extends BaseEntityService<Skill> {
 
+	DataResult<List<Skill>> getAllByResumeIds(Collection<Integer> resumeIds);
+
 }
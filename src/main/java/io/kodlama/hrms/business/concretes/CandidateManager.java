@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import io.kodlama.hrms.business.abstracts.CandidateService;
@@ -11,6 +12,7 @@ import io.kodlama.hrms.business.abstracts.ResumeService;
 import io.kodlama.hrms.business.abstracts.UserActivationService;
 import io.kodlama.hrms.business.abstracts.UserService;
 import io.kodlama.hrms.business.adapters.mernis.UserCheckService;
+import io.kodlama.hrms.business.events.ResumeChangedEvent;
 import io.kodlama.hrms.core.utilities.results.DataResult;
 import io.kodlama.hrms.core.utilities.results.ErrorResult;
 import io.kodlama.hrms.core.utilities.results.Result;
@@ -29,14 +31,17 @@ public class CandidateManager implements CandidateService {
 	private UserService userService;
 	private UserCheckService userCheckService;
 	private UserActivationService userActivationService;
+	private ApplicationEventPublisher applicationEventPublisher;
 
 	@Autowired
-	public CandidateManager(CandidateDao candidateDao, ResumeService resumeService, UserService userService, UserCheckService userCheckService, UserActivationService userActivationService) {
+	public CandidateManager(CandidateDao candidateDao, ResumeService resumeService, UserService userService, UserCheckService userCheckService, UserActivationService userActivationService,
+			ApplicationEventPublisher applicationEventPublisher) {
 		this.candidateDao = candidateDao;
 		this.resumeService = resumeService;
 		this.userService = userService;
 		this.userCheckService = userCheckService;
 		this.userActivationService = userActivationService;
+		this.applicationEventPublisher = applicationEventPublisher;
 	}
 
 	@Override
@@ -80,6 +85,7 @@ public class CandidateManager implements CandidateService {
 		}
 
 		candidateDao.save(candidate);
+		publishResumeChanged(candidate.getId());
 		return new SuccessResult("İş arayan güncellendi.");
 	}
 
@@ -116,6 +122,7 @@ public class CandidateManager implements CandidateService {
 
 		candidateDao.save(candidate);
 		userActivationService.update(userActivation);
+		publishResumeChanged(candidate.getId());
 		return new SuccessResult("Üyelik işlemleri tamamlanmıştır.");
 	}
 	
@@ -129,6 +136,11 @@ public class CandidateManager implements CandidateService {
 		return new SuccessDataResult<Candidate>(candidateDao.getByIdentityNumber(identityNumber));
 	}
 
+	@Override
+	public DataResult<List<Candidate>> getAllByIds(Iterable<Integer> ids) {
+		return new SuccessDataResult<List<Candidate>>(candidateDao.findAllById(ids));
+	}
+
 	private boolean checkIfEmailExists(String email) {
 
 		boolean result = false;
@@ -151,6 +163,14 @@ public class CandidateManager implements CandidateService {
 		return result;
 	}
 
+	private void publishResumeChanged(int candidateId) {
+
+		Resume resume = resumeService.getByCandidateId(candidateId).getData();
+		if (resume != null) {
+			applicationEventPublisher.publishEvent(new ResumeChangedEvent(resume.getId()));
+		}
+	}
+
 	private Result validateCandidate(Candidate candidate) {
 
 		if (!checkIfEmailExists(candidate.getEmail())) {
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 
 import io.kodlama.hrms.business.abstracts.CompanyStaffService;
 import io.kodlama.hrms.core.utilities.results.DataResult;
+import io.kodlama.hrms.core.utilities.results.ErrorDataResult;
 import io.kodlama.hrms.core.utilities.results.Result;
 import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
 import io.kodlama.hrms.core.utilities.results.SuccessResult;
@@ -66,7 +67,9 @@ public class CompanyStaffManager implements CompanyStaffService {
 
 	@Override
 	public DataResult<CompanyStaff> getById(int id) {
-		return new SuccessDataResult<CompanyStaff>(companyStaffDao.getById(id));
+		return companyStaffDao.findById(id)
+				.<DataResult<CompanyStaff>>map(SuccessDataResult::new)
+				.orElseGet(() -> new ErrorDataResult<CompanyStaff>("Şirket personeli bulunamadı."));
 	}
 
 }
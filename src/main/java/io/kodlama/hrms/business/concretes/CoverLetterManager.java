@@ -3,9 +3,11 @@ package io.kodlama.hrms.business.concretes;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import io.kodlama.hrms.business.abstracts.CoverLetterService;
+import io.kodlama.hrms.business.events.ResumeChangedEvent;
 import io.kodlama.hrms.core.utilities.results.DataResult;
 import io.kodlama.hrms.core.utilities.results.Result;
 import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
@@ -17,10 +19,12 @@ import io.kodlama.hrms.entities.concretes.CoverLetter;
 public class CoverLetterManager implements CoverLetterService {
 
 	private CoverLetterDao coverLetterDao;
+	private ApplicationEventPublisher applicationEventPublisher;
 
 	@Autowired
-	public CoverLetterManager(CoverLetterDao coverLetterDao) {
+	public CoverLetterManager(CoverLetterDao coverLetterDao, ApplicationEventPublisher applicationEventPublisher) {
 		this.coverLetterDao = coverLetterDao;
+		this.applicationEventPublisher = applicationEventPublisher;
 	}
 
 	@Override
@@ -34,13 +38,17 @@ public class CoverLetterManager implements CoverLetterService {
 	public Result update(CoverLetter coverLetter) {
 
 		coverLetterDao.save(coverLetter);
+		publishResumeChanged(coverLetterDao.getResumeIdById(coverLetter.getId()));
 		return new SuccessResult("Ön yazı güncellendi.");
 	}
 
 	@Override
 	public Result delete(int id) {
 
+		Integer resumeId = coverLetterDao.getResumeIdById(id);
+
 		coverLetterDao.deleteById(id);
+		publishResumeChanged(resumeId);
 		return new SuccessResult("Ön yazı silindi.");
 	}
 
@@ -59,4 +67,10 @@ public class CoverLetterManager implements CoverLetterService {
 		return new SuccessDataResult<List<CoverLetter>>(coverLetterDao.getByCandidate_Id(candidateId));
 	}
 
+	private void publishResumeChanged(Integer resumeId) {
+		if (resumeId != null) {
+			applicationEventPublisher.publishEvent(new ResumeChangedEvent(resumeId));
+		}
+	}
+
 }
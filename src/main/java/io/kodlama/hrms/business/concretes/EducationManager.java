@@ -1,12 +1,15 @@
 package io.kodlama.hrms.business.concretes;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import io.kodlama.hrms.business.abstracts.EducationService;
+import io.kodlama.hrms.business.events.ResumeChangedEvent;
 import io.kodlama.hrms.core.utilities.results.DataResult;
 import io.kodlama.hrms.core.utilities.results.Result;
 import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
@@ -18,16 +21,19 @@ import io.kodlama.hrms.entities.concretes.Education;
 public class EducationManager implements EducationService {
 
 	private EducationDao educationDao;
+	private ApplicationEventPublisher applicationEventPublisher;
 
 	@Autowired
-	public EducationManager(EducationDao educationDao) {
+	public EducationManager(EducationDao educationDao, ApplicationEventPublisher applicationEventPublisher) {
 		this.educationDao = educationDao;
+		this.applicationEventPublisher = applicationEventPublisher;
 	}
 
 	@Override
 	public Result add(Education education) {
 
 		educationDao.save(education);
+		publishResumeChanged(education.getResume() == null ? null : education.getResume().getId());
 		return new SuccessResult("Eğitim eklendi.");
 	}
 
@@ -35,13 +41,17 @@ public class EducationManager implements EducationService {
 	public Result update(Education education) {
 
 		educationDao.save(education);
+		publishResumeChanged(education.getResume() == null ? null : education.getResume().getId());
 		return new SuccessResult("Eğitim güncellendi.");
 	}
 
 	@Override
 	public Result delete(int id) {
 
+		Integer resumeId = educationDao.getResumeIdById(id);
+
 		educationDao.deleteById(id);
+		publishResumeChanged(resumeId);
 		return new SuccessResult("Eğitim silindi.");
 	}
 
@@ -68,4 +78,18 @@ public class EducationManager implements EducationService {
 		return new SuccessDataResult<List<Education>>(educationDao.getByResume_Id(resumeId, sort));
 	}
 
+	@Override
+	public DataResult<List<Education>> getAllByResumeIdsSortedByGraduationDate(Collection<Integer> resumeIds) {
+
+		Sort sort = Sort.by(Sort.Direction.DESC, "graduationDate");
+
+		return new SuccessDataResult<List<Education>>(educationDao.getByResume_IdIn(resumeIds, sort));
+	}
+
+	private void publishResumeChanged(Integer resumeId) {
+		if (resumeId != null) {
+			applicationEventPublisher.publishEvent(new ResumeChangedEvent(resumeId));
+		}
+	}
+
 }
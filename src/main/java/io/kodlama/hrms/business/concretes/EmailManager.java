@@ -1,11 +1,14 @@
 package io.kodlama.hrms.business.concretes;
 
+import java.util.List;
+
 import org.springframework.stereotype.Service;
 
 import io.kodlama.hrms.business.abstracts.EmailService;
 import io.kodlama.hrms.core.entities.User;
 import io.kodlama.hrms.core.utilities.results.Result;
 import io.kodlama.hrms.core.utilities.results.SuccessResult;
+import io.kodlama.hrms.entities.concretes.JobPosting;
 
 @Service
 public class EmailManager implements EmailService {
@@ -15,4 +18,9 @@ public class EmailManager implements EmailService {
 		return new SuccessResult(user.getEmail() + " adresine e-posta gönderildi.");
 	}
 
+	@Override
+	public Result sendJobPostingAlertToAll(List<? extends User> users, JobPosting jobPosting) {
+		return new SuccessResult(users.size() + " adrese " + jobPosting.getId() + " numaralı iş ilanı için e-posta gönderildi.");
+	}
+
 }
@@ -139,7 +139,11 @@ public class EmployerManager implements EmployerService {
 	public Result confirm(int employerId, int companyStaffId, int userConfirmationTypeId, boolean isConfirmed) {
 
 		Employer employer = getById(employerId).getData();
-		CompanyStaff companyStaff = companyStaffService.getById(companyStaffId).getData();
+		DataResult<CompanyStaff> companyStaffResult = companyStaffService.getById(companyStaffId);
+		if (!companyStaffResult.isSuccess()) {
+			return companyStaffResult;
+		}
+		CompanyStaff companyStaff = companyStaffResult.getData();
 		UserConfirmationType userConfirmationType = userConfirmationTypeService.getById(userConfirmationTypeId).getData();
 		UpdatedEmployer updatedEmployer = updatedEmployerService.getByEmployerId(employerId).getData();
 
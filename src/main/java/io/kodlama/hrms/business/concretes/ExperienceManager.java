@@ -1,12 +1,15 @@
 package io.kodlama.hrms.business.concretes;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import io.kodlama.hrms.business.abstracts.ExperienceService;
+import io.kodlama.hrms.business.events.ResumeChangedEvent;
 import io.kodlama.hrms.core.utilities.results.DataResult;
 import io.kodlama.hrms.core.utilities.results.Result;
 import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
@@ -18,16 +21,19 @@ import io.kodlama.hrms.entities.concretes.Experience;
 public class ExperienceManager implements ExperienceService {
 
 	private ExperienceDao experienceDao;
+	private ApplicationEventPublisher applicationEventPublisher;
 
 	@Autowired
-	public ExperienceManager(ExperienceDao experienceDao) {
+	public ExperienceManager(ExperienceDao experienceDao, ApplicationEventPublisher applicationEventPublisher) {
 		this.experienceDao = experienceDao;
+		this.applicationEventPublisher = applicationEventPublisher;
 	}
 
 	@Override
 	public Result add(Experience experience) {
 
 		experienceDao.save(experience);
+		publishResumeChanged(experience.getResume() == null ? null : experience.getResume().getId());
 		return new SuccessResult("İş deneyimi eklendi.");
 	}
 
@@ -35,13 +41,17 @@ public class ExperienceManager implements ExperienceService {
 	public Result update(Experience experience) {
 
 		experienceDao.save(experience);
+		publishResumeChanged(experience.getResume() == null ? null : experience.getResume().getId());
 		return new SuccessResult("İş deneyimi güncellendi.");
 	}
 
 	@Override
 	public Result delete(int id) {
 
+		Integer resumeId = experienceDao.getResumeIdById(id);
+
 		experienceDao.deleteById(id);
+		publishResumeChanged(resumeId);
 		return new SuccessResult("İş deneyimi silindi.");
 	}
 
@@ -68,4 +78,18 @@ public class ExperienceManager implements ExperienceService {
 		return new SuccessDataResult<List<Experience>>(experienceDao.getByResume_Id(resumeId, sort));
 	}
 
+	@Override
+	public DataResult<List<Experience>> getAllByResumeIdsSortedByTerminationDate(Collection<Integer> resumeIds) {
+
+		Sort sort = Sort.by(Sort.Direction.DESC, "terminationDate");
+
+		return new SuccessDataResult<List<Experience>>(experienceDao.getAllByResumeIdIn(resumeIds, sort));
+	}
+
+	private void publishResumeChanged(Integer resumeId) {
+		if (resumeId != null) {
+			applicationEventPublisher.publishEvent(new ResumeChangedEvent(resumeId));
+		}
+	}
+
 }
@@ -1,15 +1,18 @@
 package io.kodlama.hrms.business.concretes;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import io.kodlama.hrms.business.abstracts.ImageService;
 import io.kodlama.hrms.business.abstracts.UserService;
 import io.kodlama.hrms.business.adapters.cloudinary.CloudStorageService;
+import io.kodlama.hrms.business.events.ResumeChangedEvent;
 import io.kodlama.hrms.core.utilities.results.DataResult;
 import io.kodlama.hrms.core.utilities.results.Result;
 import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
@@ -23,18 +26,21 @@ public class ImageManager implements ImageService {
 	private ImageDao imageDao;
 	private CloudStorageService cloudStorageService;
 	private UserService userService;
+	private ApplicationEventPublisher applicationEventPublisher;
 
 	@Autowired
-	public ImageManager(ImageDao imageDao, CloudStorageService cloudStorageService, UserService userService) {
+	public ImageManager(ImageDao imageDao, CloudStorageService cloudStorageService, UserService userService, ApplicationEventPublisher applicationEventPublisher) {
 		this.imageDao = imageDao;
 		this.cloudStorageService = cloudStorageService;
 		this.userService = userService;
+		this.applicationEventPublisher = applicationEventPublisher;
 	}
 
 	@Override
 	public Result add(Image image) {
 
 		imageDao.save(image);
+		publishResumeChanged(image.getUser() == null ? null : imageDao.getResumeIdByUserId(image.getUser().getId()));
 		return new SuccessResult("İmaj eklendi.");
 	}
 
@@ -42,6 +48,7 @@ public class ImageManager implements ImageService {
 	public Result update(Image image) {
 
 		imageDao.save(image);
+		publishResumeChanged(image.getUser() == null ? null : imageDao.getResumeIdByUserId(image.getUser().getId()));
 		return new SuccessResult("İmaj güncellendi.");
 	}
 
@@ -54,8 +61,11 @@ public class ImageManager implements ImageService {
 		int indexOfExtension = splitImageUrlArray[splitImageUrlArray.length - 1].indexOf(".");
 		String publicIdOfImage = splitImageUrlArray[splitImageUrlArray.length - 1].substring(0, indexOfExtension);
 
+		Integer resumeId = imageDao.getResumeIdByUserId(image.getUser().getId());
+
 		cloudStorageService.delete(publicIdOfImage);
 		imageDao.deleteById(id);
+		publishResumeChanged(resumeId);
 		return new SuccessResult("İmaj silindi.");
 	}
 
@@ -86,4 +96,15 @@ public class ImageManager implements ImageService {
 		return new SuccessDataResult<Image>(imageDao.getByUser_Id(userId));
 	}
 
+	@Override
+	public DataResult<List<Image>> getAllByUserIds(Collection<Integer> userIds) {
+		return new SuccessDataResult<List<Image>>(imageDao.getByUser_IdIn(userIds));
+	}
+
+	private void publishResumeChanged(Integer resumeId) {
+		if (resumeId != null) {
+			applicationEventPublisher.publishEvent(new ResumeChangedEvent(resumeId));
+		}
+	}
+
 }
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 
 import io.kodlama.hrms.business.abstracts.JobPostingConfirmationTypeService;
 import io.kodlama.hrms.core.utilities.results.DataResult;
+import io.kodlama.hrms.core.utilities.results.ErrorDataResult;
 import io.kodlama.hrms.core.utilities.results.Result;
 import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
 import io.kodlama.hrms.core.utilities.results.SuccessResult;
@@ -45,7 +46,9 @@ public class JobPostingConfirmationTypeManager implements JobPostingConfirmation
 
 	@Override
 	public DataResult<JobPostingConfirmationType> getById(int id) {
-		return new SuccessDataResult<JobPostingConfirmationType>(jobPostingConfirmationTypeDao.getById(id));
+		return jobPostingConfirmationTypeDao.findById(id)
+				.<DataResult<JobPostingConfirmationType>>map(SuccessDataResult::new)
+				.orElseGet(() -> new ErrorDataResult<JobPostingConfirmationType>("İş ilanı onay tipi bulunamadı."));
 	}
 
 }
@@ -0,0 +1,435 @@
+package io.kodlama.hrms.business.concretes;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.kodlama.hrms.business.abstracts.JobPostingDuplicateService;
+import io.kodlama.hrms.dataAccess.abstracts.JobPostingDao;
+import io.kodlama.hrms.entities.concretes.JobPosting;
+import io.kodlama.hrms.entities.dtos.JobPostingFingerprintEntryDto;
+
+@Service
+public class JobPostingDuplicateManager implements JobPostingDuplicateService {
+
+	private static final Logger logger = LoggerFactory.getLogger(JobPostingDuplicateManager.class);
+
+	private static final Locale TURKISH = new Locale("tr", "TR");
+	private static final int BANDS = 4;
+	private static final int BAND_BITS = Long.SIZE / BANDS;
+
+	// Rows updated this long before the previous refresh are read again, so clock skew between the
+	// nodes and transactions that commit after the refresh read past them do not hide a change.
+	private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(5);
+	private static final int REFRESH_BATCH_SIZE = 1000;
+
+	private JobPostingDao jobPostingDao;
+	private int maxDistance;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private volatile boolean ready;
+
+	// Changes made while a rebuild or refresh reads the database, replayed once its result is applied.
+	private List<Runnable> mutationsDuringRebuild;
+
+	// Start of the last rebuild or refresh, the next refresh reads the postings updated since then.
+	private LocalDateTime refreshedAt;
+
+	// 64-bit SimHash of the description, cut into four 16-bit bands. Two signatures that differ in
+	// at most three bits share at least one band, so a lookup only verifies the postings of the same
+	// employer, job title and city that landed in one of the posting's four buckets.
+	private Map<Long, RoaringBitmap> buckets = new HashMap<Long, RoaringBitmap>();
+	private Map<Integer, Fingerprint> fingerprints = new HashMap<Integer, Fingerprint>();
+
+	// Every open posting the index knows of, including those without a description to fingerprint.
+	private RoaringBitmap indexedIds = new RoaringBitmap();
+
+	// The bands only guarantee a shared bucket for signatures at most BANDS - 1 bits apart, a larger
+	// distance would silently miss duplicates.
+	@Autowired
+	public JobPostingDuplicateManager(JobPostingDao jobPostingDao, @Value("${hrms.jobPosting.duplicate-max-distance:3}") int maxDistance) {
+
+		if (maxDistance < 0 || maxDistance > BANDS - 1) {
+			throw new IllegalArgumentException("hrms.jobPosting.duplicate-max-distance must be between 0 and " + (BANDS - 1) + ", was " + maxDistance);
+		}
+
+		this.jobPostingDao = jobPostingDao;
+		this.maxDistance = maxDistance;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		try {
+			rebuild();
+		} catch (RuntimeException exception) {
+			logger.warn("Job posting duplicate index could not be built, only postings added from now on will be checked", exception);
+		}
+	}
+
+	// Postings are added and edited on every node but each node only indexes its own, so every node
+	// refreshes from the database and a duplicate of a posting made anywhere is caught everywhere.
+	@Scheduled(fixedDelayString = "${hrms.jobPosting.duplicate-refresh-interval:30000}", initialDelayString = "${hrms.jobPosting.duplicate-refresh-interval:30000}")
+	public void onSchedule() {
+
+		if (!ready) {
+			return;
+		}
+
+		try {
+			refresh();
+		} catch (RuntimeException exception) {
+			logger.warn("Job posting duplicate index could not be refreshed", exception);
+		}
+	}
+
+	@Override
+	public synchronized void rebuild() {
+
+		LocalDateTime startedAt = LocalDateTime.now();
+		openMutationLog();
+
+		List<JobPostingFingerprintEntryDto> entries;
+		try {
+			entries = jobPostingDao.getAllOpenFingerprintEntries();
+		} catch (RuntimeException exception) {
+			closeMutationLog();
+			throw exception;
+		}
+
+		Map<Long, RoaringBitmap> newBuckets = new HashMap<Long, RoaringBitmap>();
+		Map<Integer, Fingerprint> newFingerprints = new HashMap<Integer, Fingerprint>();
+		RoaringBitmap newIndexedIds = new RoaringBitmap();
+		for (JobPostingFingerprintEntryDto entry : entries) {
+			newIndexedIds.add(entry.getId());
+			Fingerprint fingerprint = fingerprintOf(entry);
+			if (fingerprint != null) {
+				add(newBuckets, newFingerprints, entry.getId(), fingerprint);
+			}
+		}
+
+		lock.writeLock().lock();
+		try {
+			buckets = newBuckets;
+			fingerprints = newFingerprints;
+			indexedIds = newIndexedIds;
+
+			// Every mutation sets a posting's final state, so replaying one the snapshot already saw is harmless.
+			mutationsDuringRebuild.forEach(Runnable::run);
+			mutationsDuringRebuild = null;
+			refreshedAt = startedAt;
+			ready = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// Reads the open postings updated since the last refresh, plus the open ones the index does not
+	// have, and drops the indexed ones deleted or closed since. Deletions leave no updated row behind,
+	// so they are only found by comparing the open ids.
+	@Override
+	public synchronized void refresh() {
+
+		if (!ready) {
+			rebuild();
+			return;
+		}
+
+		LocalDateTime startedAt = LocalDateTime.now();
+		openMutationLog();
+
+		RoaringBitmap openIds = new RoaringBitmap();
+		List<JobPostingFingerprintEntryDto> entries;
+		try {
+			jobPostingDao.getAllOpenIds().forEach(openIds::add);
+			entries = new ArrayList<JobPostingFingerprintEntryDto>(jobPostingDao.getAllOpenFingerprintEntriesUpdatedSince(refreshedAt.minus(REFRESH_OVERLAP)));
+
+			RoaringBitmap knownIds;
+			lock.readLock().lock();
+			try {
+				knownIds = indexedIds.clone();
+			} finally {
+				lock.readLock().unlock();
+			}
+
+			List<Integer> missingIds = new ArrayList<Integer>();
+			RoaringBitmap.andNot(openIds, knownIds).forEach((int id) -> missingIds.add(id));
+			for (int from = 0; from < missingIds.size(); from += REFRESH_BATCH_SIZE) {
+				entries.addAll(jobPostingDao.getAllOpenFingerprintEntriesByIdIn(missingIds.subList(from, Math.min(from + REFRESH_BATCH_SIZE, missingIds.size()))));
+			}
+		} catch (RuntimeException exception) {
+			closeMutationLog();
+			throw exception;
+		}
+
+		lock.writeLock().lock();
+		try {
+			RoaringBitmap.andNot(indexedIds, openIds).forEach((int id) -> delete(id));
+			entries.forEach(entry -> replace(entry.getId(), fingerprintOf(entry)));
+
+			mutationsDuringRebuild.forEach(Runnable::run);
+			mutationsDuringRebuild = null;
+			refreshedAt = startedAt;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public Integer findDuplicateId(JobPosting jobPosting) {
+
+		// Without words every description hashes to the same signature, there is nothing to compare.
+		if (!hasText(jobPosting.getJobDescription())) {
+			return null;
+		}
+
+		Fingerprint fingerprint = fingerprintOf(jobPosting);
+		LocalDate today = LocalDate.now();
+
+		lock.readLock().lock();
+		try {
+			for (int band = 0; band < BANDS; band++) {
+				RoaringBitmap ids = buckets.get(fingerprint.bucketKey(band));
+				if (ids == null) {
+					continue;
+				}
+				for (int id : ids) {
+					Fingerprint other = fingerprints.get(id);
+					if (id != jobPosting.getId() && fingerprint.isSameJobAs(other)
+							&& (other.closingDate == null || !other.closingDate.isBefore(today))
+							&& Long.bitCount(fingerprint.signature ^ other.signature) <= maxDistance) {
+						return id;
+					}
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		return null;
+	}
+
+	@Override
+	public void index(JobPosting jobPosting) {
+
+		int id = jobPosting.getId();
+		Fingerprint fingerprint = hasText(jobPosting.getJobDescription()) ? fingerprintOf(jobPosting) : null;
+
+		lock.writeLock().lock();
+		try {
+			logMutation(() -> replace(id, fingerprint));
+			replace(id, fingerprint);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void remove(int jobPostingId) {
+
+		lock.writeLock().lock();
+		try {
+			logMutation(() -> delete(jobPostingId));
+			delete(jobPostingId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public int removeAllClosedBefore(LocalDate date) {
+
+		lock.writeLock().lock();
+		try {
+			logMutation(() -> deleteClosedBefore(date));
+			return deleteClosedBefore(date);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void openMutationLog() {
+
+		lock.writeLock().lock();
+		try {
+			mutationsDuringRebuild = new ArrayList<Runnable>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void closeMutationLog() {
+
+		lock.writeLock().lock();
+		try {
+			mutationsDuringRebuild = null;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void logMutation(Runnable mutation) {
+		if (mutationsDuringRebuild != null) {
+			mutationsDuringRebuild.add(mutation);
+		}
+	}
+
+	private void replace(int id, Fingerprint fingerprint) {
+
+		delete(id);
+		indexedIds.add(id);
+		if (fingerprint != null) {
+			add(buckets, fingerprints, id, fingerprint);
+		}
+	}
+
+	private int deleteClosedBefore(LocalDate date) {
+
+		List<Integer> closedIds = fingerprints.entrySet().stream()
+				.filter(entry -> entry.getValue().closingDate != null && entry.getValue().closingDate.isBefore(date))
+				.map(Map.Entry::getKey)
+				.collect(Collectors.toList());
+
+		closedIds.forEach(this::delete);
+		return closedIds.size();
+	}
+
+	private void delete(int id) {
+
+		indexedIds.remove(id);
+		Fingerprint fingerprint = fingerprints.remove(id);
+		if (fingerprint == null) {
+			return;
+		}
+
+		for (int band = 0; band < BANDS; band++) {
+			long key = fingerprint.bucketKey(band);
+			RoaringBitmap ids = buckets.get(key);
+			if (ids != null) {
+				ids.remove(id);
+				if (ids.isEmpty()) {
+					buckets.remove(key);
+				}
+			}
+		}
+	}
+
+	private static void add(Map<Long, RoaringBitmap> buckets, Map<Integer, Fingerprint> fingerprints, int id, Fingerprint fingerprint) {
+
+		for (int band = 0; band < BANDS; band++) {
+			buckets.computeIfAbsent(fingerprint.bucketKey(band), key -> new RoaringBitmap()).add(id);
+		}
+		fingerprints.put(id, fingerprint);
+	}
+
+	private static Fingerprint fingerprintOf(JobPosting jobPosting) {
+		return new Fingerprint(
+				jobPosting.getEmployer() == null ? null : jobPosting.getEmployer().getId(),
+				jobPosting.getJobTitle() == null ? null : jobPosting.getJobTitle().getId(),
+				jobPosting.getCity() == null ? null : jobPosting.getCity().getId(),
+				simHash(jobPosting.getJobDescription()),
+				jobPosting.getClosingDate());
+	}
+
+	private static Fingerprint fingerprintOf(JobPostingFingerprintEntryDto entry) {
+		return hasText(entry.getJobDescription())
+				? new Fingerprint(entry.getEmployerId(), entry.getJobTitleId(), entry.getCityId(), simHash(entry.getJobDescription()), entry.getClosingDate())
+				: null;
+	}
+
+	private static boolean hasText(String text) {
+		return text != null && text.codePoints().anyMatch(Character::isLetterOrDigit);
+	}
+
+	// Word bigrams are hashed and every bit of the signature takes the majority vote of the
+	// corresponding bit across them, so small edits only flip a few bits.
+	private static long simHash(String text) {
+
+		if (text == null) {
+			return 0;
+		}
+
+		String[] words = text.toLowerCase(TURKISH).split("[^\\p{L}\\p{N}]+");
+		int[] votes = new int[Long.SIZE];
+		String previous = null;
+		for (String word : words) {
+			if (word.isEmpty()) {
+				continue;
+			}
+			long hash = hash(previous == null ? word : previous + " " + word);
+			for (int bit = 0; bit < Long.SIZE; bit++) {
+				votes[bit] += ((hash >>> bit) & 1) == 1 ? 1 : -1;
+			}
+			previous = word;
+		}
+
+		long signature = 0;
+		for (int bit = 0; bit < Long.SIZE; bit++) {
+			if (votes[bit] > 0) {
+				signature |= 1L << bit;
+			}
+		}
+		return signature;
+	}
+
+	private static long hash(String value) {
+
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+	private static final class Fingerprint {
+
+		private final Integer employerId;
+		private final Integer jobTitleId;
+		private final Integer cityId;
+		private final long signature;
+		private final LocalDate closingDate;
+
+		Fingerprint(Integer employerId, Integer jobTitleId, Integer cityId, long signature, LocalDate closingDate) {
+			this.employerId = employerId;
+			this.jobTitleId = jobTitleId;
+			this.cityId = cityId;
+			this.signature = signature;
+			this.closingDate = closingDate;
+		}
+
+		long bucketKey(int band) {
+			long bandValue = (signature >>> (band * BAND_BITS)) & ((1L << BAND_BITS) - 1);
+			long job = Objects.hash(employerId, jobTitleId, cityId);
+			return (job << 20) ^ ((long) band << BAND_BITS) ^ bandValue;
+		}
+
+		boolean isSameJobAs(Fingerprint other) {
+			return other != null && Objects.equals(employerId, other.employerId) && Objects.equals(jobTitleId, other.jobTitleId) && Objects.equals(cityId, other.cityId);
+		}
+
+	}
+
+}
@@ -0,0 +1,93 @@
+package io.kodlama.hrms.business.concretes;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.kodlama.hrms.business.abstracts.JobPostingDuplicateService;
+import io.kodlama.hrms.business.abstracts.JobPostingExpiryService;
+import io.kodlama.hrms.business.abstracts.JobPostingSearchIndexService;
+import io.kodlama.hrms.business.abstracts.JobPostingSnapshotService;
+import io.kodlama.hrms.business.abstracts.RecommendationService;
+import io.kodlama.hrms.core.utilities.results.DataResult;
+import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
+
+@Service
+public class JobPostingExpiryManager implements JobPostingExpiryService {
+
+	private static final Logger logger = LoggerFactory.getLogger(JobPostingExpiryManager.class);
+
+	// Each chunk is its own auto-committed statement. SKIP LOCKED lets several nodes run the job at
+	// the same time: a node skips the rows another node is already expiring instead of waiting on them.
+	// Bumping updated_at is what tells the other nodes: their periodic index refreshes drop the expired rows.
+	private static final String EXPIRE_CHUNK_SQL = "UPDATE job_postings SET is_active = false, updated_at = now() WHERE id IN ("
+			+ "SELECT id FROM job_postings WHERE is_active = true AND closing_date < ? "
+			+ "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED) RETURNING id";
+
+	private JdbcTemplate jdbcTemplate;
+	private JobPostingSearchIndexService jobPostingSearchIndexService;
+	private JobPostingSnapshotService jobPostingSnapshotService;
+	private RecommendationService recommendationService;
+	private JobPostingDuplicateService jobPostingDuplicateService;
+
+	@Value("${hrms.jobPosting.expiry-batch-size:500}")
+	private int batchSize;
+
+	@Autowired
+	public JobPostingExpiryManager(JdbcTemplate jdbcTemplate, JobPostingSearchIndexService jobPostingSearchIndexService, JobPostingSnapshotService jobPostingSnapshotService,
+			RecommendationService recommendationService, JobPostingDuplicateService jobPostingDuplicateService) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.jobPostingSearchIndexService = jobPostingSearchIndexService;
+		this.jobPostingSnapshotService = jobPostingSnapshotService;
+		this.recommendationService = recommendationService;
+		this.jobPostingDuplicateService = jobPostingDuplicateService;
+	}
+
+	@Scheduled(cron = "${hrms.jobPosting.expiry-cron:0 */15 * * * *}")
+	public void onSchedule() {
+		expireClosedOnes();
+	}
+
+	@Override
+	public DataResult<Integer> expireClosedOnes() {
+
+		// The database clock decides what is closed, so the UPDATE and the eviction below use the same
+		// cutoff no matter the node's time zone or clock skew.
+		LocalDate cutoff = jdbcTemplate.queryForObject("SELECT CURRENT_DATE", Date.class).toLocalDate();
+
+		int expiredCount = 0;
+		List<Integer> expiredIds;
+		do {
+			expiredIds = jdbcTemplate.queryForList(EXPIRE_CHUNK_SQL, Integer.class, Date.valueOf(cutoff), batchSize);
+			for (int jobPostingId : expiredIds) {
+				jobPostingSearchIndexService.remove(jobPostingId);
+				recommendationService.removeJobPosting(jobPostingId);
+				jobPostingDuplicateService.remove(jobPostingId);
+			}
+			expiredCount += expiredIds.size();
+		} while (expiredIds.size() == batchSize);
+
+		// Evicting by closing date, rather than only by the rows updated above, also cleans the in-memory
+		// indexes of nodes whose run found the rows already expired by another node: every node runs
+		// this sweep, so all of them converge within one schedule period after the closing date passes.
+		int evictedCount = jobPostingSearchIndexService.removeAllClosedBefore(cutoff);
+		recommendationService.removeAllJobPostingsClosedBefore(cutoff);
+		jobPostingDuplicateService.removeAllClosedBefore(cutoff);
+
+		if (expiredCount > 0 || evictedCount > 0) {
+			jobPostingSnapshotService.invalidate();
+			logger.info("Expired {} job postings, evicted {} more closed ones from the search index", expiredCount, evictedCount);
+		}
+
+		return new SuccessDataResult<Integer>(expiredCount, expiredCount + " iş ilanının süresi doldu.");
+	}
+
+}
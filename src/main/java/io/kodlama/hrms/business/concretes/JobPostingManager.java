@@ -1,63 +1,151 @@
 package io.kodlama.hrms.business.concretes;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.roaringbitmap.RoaringBitmap;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.kodlama.hrms.business.abstracts.CompanyStaffService;
 import io.kodlama.hrms.business.abstracts.JobPostingConfirmationService;
 import io.kodlama.hrms.business.abstracts.JobPostingConfirmationTypeService;
+import io.kodlama.hrms.business.abstracts.JobPostingDuplicateService;
+import io.kodlama.hrms.business.abstracts.JobPostingSearchIndexService;
 import io.kodlama.hrms.business.abstracts.JobPostingService;
+import io.kodlama.hrms.business.abstracts.JobPostingSnapshotService;
+import io.kodlama.hrms.business.abstracts.JobPostingViewCounterService;
+import io.kodlama.hrms.business.abstracts.RecommendationService;
+import io.kodlama.hrms.business.abstracts.SavedSearchAlertService;
 import io.kodlama.hrms.core.utilities.results.DataResult;
+import io.kodlama.hrms.core.utilities.results.ErrorDataResult;
 import io.kodlama.hrms.core.utilities.results.ErrorResult;
 import io.kodlama.hrms.core.utilities.results.Result;
 import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
 import io.kodlama.hrms.core.utilities.results.SuccessResult;
 import io.kodlama.hrms.dataAccess.abstracts.JobPostingDao;
+import io.kodlama.hrms.dataAccess.abstracts.JobPostingSummaryDao;
+import io.kodlama.hrms.dataAccess.specifications.JobPostingSpecifications;
 import io.kodlama.hrms.entities.concretes.CompanyStaff;
 import io.kodlama.hrms.entities.concretes.JobPosting;
 import io.kodlama.hrms.entities.concretes.JobPostingConfirmation;
 import io.kodlama.hrms.entities.concretes.JobPostingConfirmationType;
+import io.kodlama.hrms.entities.dtos.CursorPageDto;
+import io.kodlama.hrms.entities.dtos.JobPostingBulkConfirmationDto;
+import io.kodlama.hrms.entities.dtos.JobPostingConfirmationResultDto;
+import io.kodlama.hrms.entities.dtos.JobPostingExportDto;
+import io.kodlama.hrms.entities.dtos.JobPostingFacetCountsDto;
+import io.kodlama.hrms.entities.dtos.JobPostingFilterDto;
+import io.kodlama.hrms.entities.dtos.JobPostingSummaryDto;
+import io.kodlama.hrms.entities.dtos.PageDto;
 
 @Service
 public class JobPostingManager implements JobPostingService {
 
+	private static final Pattern SALARY_PATTERN = Pattern.compile(
+			"\\s*(?:tl|try|\u20ba)?\\s*([0-9]+|[0-9]{1,3}(?:[.,][0-9]{3})+)(?:[.,][0-9]{1,2})?\\s*(?:tl|try|\u20ba)?\\s*", Pattern.CASE_INSENSITIVE);
+
+	private static final int MAX_MOST_VIEWED_LIMIT = 100;
+
+	private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+	private static final Set<String> SORTABLE_FIELDS = Set.of("postingDate", "closingDate", "numberOfOpenPositions", "salaryMinAmount", "salaryMaxAmount");
+
 	private JobPostingDao jobPostingDao;
+	private JobPostingSummaryDao jobPostingSummaryDao;
 	private JobPostingConfirmationService jobPostingConfirmationService;
 	private JobPostingConfirmationTypeService jobPostingConfirmationTypeService;
 	private CompanyStaffService companyStaffService;
+	private JobPostingSearchIndexService jobPostingSearchIndexService;
+	private JobPostingSnapshotService jobPostingSnapshotService;
+	private JdbcTemplate jdbcTemplate;
+	private ObjectMapper objectMapper;
+	private JobPostingViewCounterService jobPostingViewCounterService;
+	private SavedSearchAlertService savedSearchAlertService;
+	private RecommendationService recommendationService;
+	private JobPostingDuplicateService jobPostingDuplicateService;
 
 	@Autowired
-	public JobPostingManager(JobPostingDao jobPostingDao, JobPostingConfirmationService jobPostingConfirmationService, JobPostingConfirmationTypeService jobPostingConfirmationTypeService, CompanyStaffService companyStaffService) {
+	public JobPostingManager(JobPostingDao jobPostingDao, JobPostingSummaryDao jobPostingSummaryDao, JobPostingConfirmationService jobPostingConfirmationService, JobPostingConfirmationTypeService jobPostingConfirmationTypeService, CompanyStaffService companyStaffService,
+			JobPostingSearchIndexService jobPostingSearchIndexService, JobPostingSnapshotService jobPostingSnapshotService, JdbcTemplate jdbcTemplate,
+			ObjectMapper objectMapper, JobPostingViewCounterService jobPostingViewCounterService, SavedSearchAlertService savedSearchAlertService,
+			RecommendationService recommendationService, JobPostingDuplicateService jobPostingDuplicateService) {
 		this.jobPostingDao = jobPostingDao;
+		this.jobPostingSummaryDao = jobPostingSummaryDao;
 		this.jobPostingConfirmationService = jobPostingConfirmationService;
 		this.jobPostingConfirmationTypeService = jobPostingConfirmationTypeService;
 		this.companyStaffService = companyStaffService;
+		this.jobPostingSearchIndexService = jobPostingSearchIndexService;
+		this.jobPostingSnapshotService = jobPostingSnapshotService;
+		this.jdbcTemplate = jdbcTemplate;
+		this.objectMapper = objectMapper;
+		this.jobPostingViewCounterService = jobPostingViewCounterService;
+		this.savedSearchAlertService = savedSearchAlertService;
+		this.recommendationService = recommendationService;
+		this.jobPostingDuplicateService = jobPostingDuplicateService;
 	}
 
 	@Override
 	public Result add(JobPosting jobPosting) {
 
+		Integer duplicateId = jobPostingDuplicateService.findDuplicateId(jobPosting);
+		if (duplicateId != null) {
+			return new ErrorResult("Bu iş ilanı " + duplicateId + " numaralı ilanla neredeyse aynıdır.");
+		}
+
 		jobPosting.setPostingDate(LocalDateTime.now());
 		jobPosting.setActive(false);
+		jobPosting.setUpdatedAt(jobPosting.getPostingDate());
+		setSalaryAmounts(jobPosting);
 
 		jobPostingDao.save(jobPosting);
+		jobPostingSearchIndexService.index(jobPosting);
+		jobPostingDuplicateService.index(jobPosting);
 		return new SuccessResult("İş ilanı onay aşamasındadır.");
 	}
 
 	@Override
 	public Result update(JobPosting jobPosting) {
 
+		jobPosting.setUpdatedAt(LocalDateTime.now());
+		setSalaryAmounts(jobPosting);
+
 		jobPostingDao.save(jobPosting);
+		jobPostingSearchIndexService.index(jobPosting);
+		recommendationService.indexJobPosting(jobPosting);
+		jobPostingDuplicateService.index(jobPosting);
+		jobPostingSnapshotService.invalidate();
 		return new SuccessResult("İş ilanı güncellendi.");
 	}
 
@@ -65,6 +153,11 @@ public class JobPostingManager implements JobPostingService {
 	public Result delete(int id) {
 
 		jobPostingDao.deleteById(id);
+		jobPostingSearchIndexService.remove(id);
+		recommendationService.removeJobPosting(id);
+		jobPostingDuplicateService.remove(id);
+		jobPostingSnapshotService.invalidate();
+		jobPostingViewCounterService.remove(id);
 		return new SuccessResult("İş ilanı silindi.");
 	}
 
@@ -75,15 +168,28 @@ public class JobPostingManager implements JobPostingService {
 
 	@Override
 	public DataResult<JobPosting> getById(int id) {
-		return new SuccessDataResult<JobPosting>(jobPostingDao.getById(id));
+
+		JobPosting jobPosting = jobPostingDao.findById(id).orElse(null);
+		if (jobPosting == null) {
+			return new ErrorDataResult<JobPosting>("İş ilanı bulunamadı.");
+		}
+
+		jobPostingViewCounterService.recordView(id);
+		return new SuccessDataResult<JobPosting>(jobPosting);
 	}
 
 	@Override
 	public Result confirm(int jobPostingId, int companyStaffId, int jobPostingConfirmationTypeId, boolean isConfirmed) {
 
-		JobPosting jobPosting = getById(jobPostingId).getData();
-		CompanyStaff companyStaff = companyStaffService.getById(companyStaffId).getData();
-		JobPostingConfirmationType jobPostingConfirmationType = jobPostingConfirmationTypeService.getById(jobPostingConfirmationTypeId).getData();
+		JobPosting jobPosting = jobPostingDao.getById(jobPostingId);
+		DataResult<CompanyStaff> companyStaff = companyStaffService.getById(companyStaffId);
+		if (!companyStaff.isSuccess()) {
+			return companyStaff;
+		}
+		DataResult<JobPostingConfirmationType> jobPostingConfirmationType = jobPostingConfirmationTypeService.getById(jobPostingConfirmationTypeId);
+		if (!jobPostingConfirmationType.isSuccess()) {
+			return jobPostingConfirmationType;
+		}
 
 		if (!isConfirmed) {
 			delete(jobPosting.getId());
@@ -91,12 +197,105 @@ public class JobPostingManager implements JobPostingService {
 		}
 
 		jobPosting.setActive(true);
+		jobPosting.setUpdatedAt(LocalDateTime.now());
 
 		jobPostingDao.save(jobPosting);
-		jobPostingConfirmationService.add(new JobPostingConfirmation(jobPosting, companyStaff, jobPostingConfirmationType, isConfirmed));
+		jobPostingSearchIndexService.index(jobPosting);
+		recommendationService.indexJobPosting(jobPosting);
+		jobPostingSnapshotService.invalidate();
+		jobPostingConfirmationService.add(new JobPostingConfirmation(jobPosting, companyStaff.getData(), jobPostingConfirmationType.getData(), isConfirmed));
+		savedSearchAlertService.notifyMatchingCandidates(jobPosting);
 		return new SuccessResult("İş ilanı onaylandı.");
 	}
 
+	@Override
+	@Transactional
+	public DataResult<List<JobPostingConfirmationResultDto>> confirmAll(JobPostingBulkConfirmationDto jobPostingBulkConfirmationDto) {
+
+		if (jobPostingBulkConfirmationDto.getJobPostingIds() == null || jobPostingBulkConfirmationDto.getJobPostingIds().isEmpty()
+				|| jobPostingBulkConfirmationDto.getJobPostingIds().stream().anyMatch(Objects::isNull)) {
+			return new ErrorDataResult<List<JobPostingConfirmationResultDto>>("Değerlendirilecek iş ilanları belirtilmelidir.");
+		}
+		if (!companyStaffService.getById(jobPostingBulkConfirmationDto.getCompanyStaffId()).isSuccess()) {
+			return new ErrorDataResult<List<JobPostingConfirmationResultDto>>("Şirket personeli bulunamadı.");
+		}
+		if (!jobPostingConfirmationTypeService.getById(jobPostingBulkConfirmationDto.getJobPostingConfirmationTypeId()).isSuccess()) {
+			return new ErrorDataResult<List<JobPostingConfirmationResultDto>>("İş ilanı onay tipi bulunamadı.");
+		}
+
+		Set<Integer> requestedIds = new LinkedHashSet<Integer>(jobPostingBulkConfirmationDto.getJobPostingIds());
+		List<JobPosting> jobPostings = jobPostingDao.getAllWaitingForPostingConfirmationByIdIn(requestedIds);
+		List<Integer> jobPostingIds = jobPostings.stream().map(JobPosting::getId).collect(Collectors.toList());
+
+		if (!jobPostingIds.isEmpty()) {
+			if (jobPostingBulkConfirmationDto.isConfirmed()) {
+				activateAndConfirmAll(jobPostings, jobPostingBulkConfirmationDto);
+			} else {
+				jobPostingDao.deleteAllByIdInBatch(jobPostingIds);
+				afterCommit(() -> {
+					jobPostingIds.forEach(jobPostingSearchIndexService::remove);
+					jobPostingIds.forEach(recommendationService::removeJobPosting);
+					jobPostingIds.forEach(jobPostingDuplicateService::remove);
+					jobPostingSnapshotService.invalidate();
+				});
+			}
+		}
+
+		String message = jobPostingBulkConfirmationDto.isConfirmed() ? "İş ilanı onaylandı." : "İş ilanı onaylanmadı.";
+		List<JobPostingConfirmationResultDto> results = new ArrayList<JobPostingConfirmationResultDto>();
+		for (int requestedId : requestedIds) {
+			results.add(jobPostingIds.contains(requestedId)
+					? new JobPostingConfirmationResultDto(requestedId, true, message)
+					: new JobPostingConfirmationResultDto(requestedId, false, "İş ilanı bulunamadı veya daha önce değerlendirildi."));
+		}
+
+		return new SuccessDataResult<List<JobPostingConfirmationResultDto>>(results, jobPostingIds.size() + " iş ilanı değerlendirildi.");
+	}
+
+	private void activateAndConfirmAll(List<JobPosting> jobPostings, JobPostingBulkConfirmationDto jobPostingBulkConfirmationDto) {
+
+		jobPostingDao.activateAllByIdIn(jobPostings.stream().map(JobPosting::getId).collect(Collectors.toList()));
+
+		Timestamp confirmedDate = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(
+				"INSERT INTO job_posting_confirmations (is_confirmed, is_confirmed_date, job_posting_id, company_staff_id, job_posting_confirmation_type_id) VALUES (?, ?, ?, ?, ?)",
+				jobPostings,
+				jobPostings.size(),
+				(preparedStatement, jobPosting) -> {
+					preparedStatement.setBoolean(1, true);
+					preparedStatement.setTimestamp(2, confirmedDate);
+					preparedStatement.setInt(3, jobPosting.getId());
+					preparedStatement.setInt(4, jobPostingBulkConfirmationDto.getCompanyStaffId());
+					preparedStatement.setInt(5, jobPostingBulkConfirmationDto.getJobPostingConfirmationTypeId());
+				});
+
+		jobPostings.forEach(jobPosting -> jobPosting.setActive(true));
+		afterCommit(() -> {
+			for (JobPosting jobPosting : jobPostings) {
+				jobPostingSearchIndexService.index(jobPosting);
+				recommendationService.indexJobPosting(jobPosting);
+				savedSearchAlertService.notifyMatchingCandidates(jobPosting);
+			}
+			jobPostingSnapshotService.invalidate();
+		});
+	}
+
+	// In-memory indexes, the snapshot and alerts must not see postings a rolled back transaction never stored.
+	private static void afterCommit(Runnable action) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
 	@Override
 	public Result makeActiveOrPassive(int id, boolean isActive) {
 
@@ -104,7 +303,7 @@ public class JobPostingManager implements JobPostingService {
 				? "İlan aktifleştirildi."
 				: "İlan pasifleştirildi.";
 
-		JobPosting jobPosting = getById(id).getData();
+		JobPosting jobPosting = jobPostingDao.getById(id);
 		jobPosting.setActive(isActive);
 
 		update(jobPosting);
@@ -141,11 +340,37 @@ public class JobPostingManager implements JobPostingService {
 	}
 
 	@Override
-	public DataResult<List<JobPosting>> getAllActiveOnesSortedByPostingDateTop6() {
+	public DataResult<List<JobPosting>> getMostViewedActiveOnes(int limit) {
+		return new SuccessDataResult<List<JobPosting>>(jobPostingDao.getMostViewedActiveOnes(PageRequest.of(0, Math.max(1, Math.min(limit, MAX_MOST_VIEWED_LIMIT)))));
+	}
+
+	@Override
+	public DataResult<CursorPageDto<JobPosting>> getAllActiveOnesByCursorSortedByPostingDate(String cursor, int pageSize) {
+
+		pageSize = Math.max(1, Math.min(pageSize, MAX_CURSOR_PAGE_SIZE));
+		Pageable pageable = PageRequest.of(0, pageSize + 1, Sort.by(Sort.Direction.DESC, "postingDate").and(Sort.by(Sort.Direction.DESC, "id")));
+		List<JobPosting> jobPostings;
+
+		if (cursor == null || cursor.isEmpty()) {
+			jobPostings = jobPostingDao.getByIsActive(true, pageable);
+		} else {
+			try {
+				String[] keys = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+				jobPostings = jobPostingDao.getActiveOnesSortedByPostingDateAfter(LocalDateTime.parse(keys[0]), Integer.parseInt(keys[1]), PageRequest.of(0, pageSize + 1));
+			} catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException exception) {
+				return new ErrorDataResult<CursorPageDto<JobPosting>>("Geçersiz sayfa imleci.");
+			}
+		}
+
+		String nextCursor = null;
 
-		List<JobPosting> result = getAllActiveOnesByPageSortedByPostingDate(1, 6).getData();
+		if (jobPostings.size() > pageSize) {
+			jobPostings = jobPostings.subList(0, pageSize);
+			JobPosting last = jobPostings.get(pageSize - 1);
+			nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString((last.getPostingDate() + "|" + last.getId()).getBytes(StandardCharsets.UTF_8));
+		}
 
-		return new SuccessDataResult<List<JobPosting>>(result);
+		return new SuccessDataResult<CursorPageDto<JobPosting>>(new CursorPageDto<JobPosting>(jobPostings, nextCursor));
 	}
 
 	@Override
@@ -159,51 +384,223 @@ public class JobPostingManager implements JobPostingService {
 	@Override
 	public DataResult<List<JobPosting>> getAllActiveOnesFilteredByCityAndJobTitleAndWorkingTimeAndWorkingType(int cityId, int jobTitleId, int workingTimeId, int workingTypeId) {
 		
-		List<JobPosting> result = new ArrayList<JobPosting>();
-		
-		Stream<JobPosting> stream = getAllActiveOnesSortedByPostingDate().getData().stream();		
+		JobPostingFilterDto filter = new JobPostingFilterDto(cityId, jobTitleId, workingTimeId, workingTypeId);
 		
-		Predicate<JobPosting> cityCondition = cityId != 0 
-				? (jobPosting -> jobPosting.getCity().getId() == cityId) 
-				: (jobPosting -> jobPosting.getCity().getId() > 0);
-		Predicate<JobPosting> jobTitleCondition = jobTitleId != 0 
-				? (jobPosting -> jobPosting.getJobTitle().getId() == jobTitleId)
-				: (jobPosting -> jobPosting.getJobTitle().getId() > 0);
-		Predicate<JobPosting> workingTimeCondition = workingTimeId != 0 
-				? (jobPosting -> jobPosting.getWorkingTime().getId() == workingTimeId)
-				: (jobPosting -> jobPosting.getWorkingTime().getId() > 0);
-		Predicate<JobPosting> workingTypeCondition = workingTypeId != 0 
-				? (jobPosting -> jobPosting.getWorkingType().getId() == workingTypeId)
-				: (jobPosting -> jobPosting.getWorkingType().getId() > 0);	 
+		if (jobPostingSearchIndexService.isReady()) {
+			RoaringBitmap ids = jobPostingSearchIndexService.getAllActiveIdsFilteredBy(filter);
+			
+			return new SuccessDataResult<List<JobPosting>>(getAllByIdsSortedByPostingDate(ids, 0, ids.getCardinality()));
+		}
 		
-		stream.filter(workingTimeCondition).filter(workingTypeCondition).filter(cityCondition).filter(jobTitleCondition).forEach(jobPosting -> result.add(jobPosting));
+		Specification<JobPosting> specification = JobPostingSpecifications.activeOnesFilteredBy(filter);
+		Sort sort = Sort.by(Sort.Direction.DESC, "postingDate");
 		
-		return new SuccessDataResult<List<JobPosting>>(result);
+		return new SuccessDataResult<List<JobPosting>>(jobPostingDao.findAll(specification, sort));
 	}
 
 	@Override
 	public DataResult<List<JobPosting>> getAllActiveOnesByPageFilteredByCityAndJobTitleAndWorkingTimeAndWorkingType(int cityId, int jobTitleId, int workingTimeId, int workingTypeId, int pageNo, int pageSize) {
 		
-		int skipCount = (pageNo -1) * pageSize;	     
+		JobPostingFilterDto filter = new JobPostingFilterDto(cityId, jobTitleId, workingTimeId, workingTypeId);
+		
+		return new SuccessDataResult<List<JobPosting>>(getAllActiveOnesByPageFiltered(filter, pageNo, pageSize, "postingDate", Sort.Direction.DESC).getData().getContent());
+	}
+
+	@Override
+	public DataResult<PageDto<JobPosting>> getAllActiveOnesByPageFiltered(JobPostingFilterDto filter, int pageNo, int pageSize, String sortBy, Sort.Direction sortDirection) {
+		
+		if (!SORTABLE_FIELDS.contains(sortBy)) {
+			return new ErrorDataResult<PageDto<JobPosting>>("Geçersiz sıralama alanı: " + sortBy);
+		}
+		
+		if (jobPostingSearchIndexService.isReady() && !filter.hasSalaryRange() && sortBy.equals("postingDate") && sortDirection == Sort.Direction.DESC) {
+			RoaringBitmap ids = jobPostingSearchIndexService.getAllActiveIdsFilteredBy(filter);
+			int totalElements = ids.getCardinality();
+			List<JobPosting> content = getAllByIdsSortedByPostingDate(ids, (pageNo - 1) * pageSize, pageSize);
+			
+			return new SuccessDataResult<PageDto<JobPosting>>(new PageDto<JobPosting>(content, pageNo, pageSize, totalElements, (totalElements + pageSize - 1) / pageSize));
+		}
+		
+		Pageable pageable = PageRequest.of(pageNo - 1, pageSize, Sort.by(sortDirection, sortBy).and(Sort.by(sortDirection, "id")));
+		Page<JobPosting> page = jobPostingDao.findAll(JobPostingSpecifications.activeOnesFilteredBy(filter), pageable);
+		
+		return new SuccessDataResult<PageDto<JobPosting>>(new PageDto<JobPosting>(page));
+	}
+
+	@Override
+	public DataResult<List<JobPostingSummaryDto>> getAllActiveSummariesByPageSortedByPostingDate(int pageNo, int pageSize) {
+		
+		Pageable pageable = PageRequest.of(pageNo - 1, pageSize, Sort.by("postingDate").descending().and(Sort.by("id").descending()));
 		
-		List<JobPosting> result = getAllActiveOnesFilteredByCityAndJobTitleAndWorkingTimeAndWorkingType(cityId, jobTitleId, workingTimeId, workingTypeId).getData();	
+		return new SuccessDataResult<List<JobPostingSummaryDto>>(jobPostingDao.getActiveSummaries(pageable));
+	}
 
-		return new SuccessDataResult<List<JobPosting>>(result.stream().skip(skipCount).limit(pageSize).collect(Collectors.toList()));
+	@Override
+	public DataResult<List<JobPostingSummaryDto>> getAllActiveSummariesByEmployerIdSortedByPostingDate(int employerId) {
+		
+		Sort sort = Sort.by(Sort.Direction.DESC, "postingDate");
+		
+		return new SuccessDataResult<List<JobPostingSummaryDto>>(jobPostingDao.getActiveSummariesByEmployerId(employerId, sort));
+	}
+
+	@Override
+	public DataResult<PageDto<JobPostingSummaryDto>> getAllActiveSummariesByPageFiltered(JobPostingFilterDto filter, int pageNo, int pageSize) {
+		
+		if (!jobPostingSearchIndexService.isReady() || filter.hasSalaryRange()) {
+			return new SuccessDataResult<PageDto<JobPostingSummaryDto>>(new PageDto<JobPostingSummaryDto>(
+					jobPostingSummaryDao.getActiveSummariesFilteredBy(filter, PageRequest.of(pageNo - 1, pageSize))));
+		}
+		
+		RoaringBitmap ids = jobPostingSearchIndexService.getAllActiveIdsFilteredBy(filter);
+		int totalElements = ids.getCardinality();
+		List<Integer> pageIds = jobPostingSearchIndexService.getPageOfIdsSortedByPostingDate(ids, (pageNo - 1) * pageSize, pageSize);
+		
+		Map<Integer, JobPostingSummaryDto> summariesById = jobPostingDao.getSummariesByIdIn(pageIds).stream()
+				.collect(Collectors.toMap(JobPostingSummaryDto::getId, Function.identity()));
+		List<JobPostingSummaryDto> content = pageIds.stream().map(summariesById::get).filter(Objects::nonNull).collect(Collectors.toList());
+		
+		return new SuccessDataResult<PageDto<JobPostingSummaryDto>>(new PageDto<JobPostingSummaryDto>(content, pageNo, pageSize, totalElements, (totalElements + pageSize - 1) / pageSize));
+	}
+
+	@Override
+	public DataResult<JobPostingFacetCountsDto> getActiveOnesFacetCounts(JobPostingFilterDto filter) {
+		
+		if (jobPostingSearchIndexService.isReady()) {
+			return new SuccessDataResult<JobPostingFacetCountsDto>(jobPostingSearchIndexService.getFacetCounts(filter));
+		}
+		
+		// The index warms up off the request thread, until then every facet is one GROUP BY over the active postings.
+		jobPostingSearchIndexService.rebuildInBackground();
+		
+		return new SuccessDataResult<JobPostingFacetCountsDto>(new JobPostingFacetCountsDto(
+				countActiveOnes(filter, null).values().stream().mapToLong(Integer::longValue).sum(),
+				countActiveOnes(filter, "city_id"),
+				countActiveOnes(filter, "job_title_id"),
+				countActiveOnes(filter, "working_time_id"),
+				countActiveOnes(filter, "working_type_id")
+				));
+	}
+
+	@Override
+	public DataResult<PageDto<JobPosting>> searchActiveOnes(String query, JobPostingFilterDto filter, int pageNo, int pageSize) {
+		
+		if (query == null || query.isBlank()) {
+			return new ErrorDataResult<PageDto<JobPosting>>("Arama metni boş olamaz.");
+		}
+		
+		Page<JobPosting> page = jobPostingDao.searchActiveOnes(query, filter.getCityId(), filter.getJobTitleId(), filter.getWorkingTimeId(), filter.getWorkingTypeId(), PageRequest.of(pageNo - 1, pageSize));
+		
+		return new SuccessDataResult<PageDto<JobPosting>>(new PageDto<JobPosting>(page));
 	}
 
 	@Override
 	public DataResult<List<JobPosting>> getAllOnesThatWaitingForPostingConfirmation() {
 		
-		List<JobPosting> result = new ArrayList<JobPosting>();
-		List<JobPosting> passiveJobPosting = getAllByIsActive(false).getData();
+		Sort sort = Sort.by(Sort.Direction.ASC, "postingDate");
+		
+		return new SuccessDataResult<List<JobPosting>>(jobPostingDao.getAllWaitingForPostingConfirmation(sort));
+	}
+
+	@Override
+	public DataResult<PageDto<JobPosting>> getAllOnesThatWaitingForPostingConfirmationByPage(int pageNo, int pageSize) {
+		
+		Pageable pageable = PageRequest.of(pageNo - 1, pageSize, Sort.by("postingDate").ascending().and(Sort.by("id").ascending()));
 		
-		for (JobPosting jobPosting : passiveJobPosting) {
-			if (jobPostingConfirmationService.getByJobPostingId(jobPosting.getId()).getData() == null) {
-				result.add(jobPosting);
+		return new SuccessDataResult<PageDto<JobPosting>>(new PageDto<JobPosting>(jobPostingDao.getAllWaitingForPostingConfirmation(pageable)));
+	}
+
+	@Override
+	public DataResult<Long> getCountOfOnesThatWaitingForPostingConfirmation() {
+		return new SuccessDataResult<Long>(jobPostingDao.countWaitingForPostingConfirmation());
+	}
+
+	// Rows are projected straight into DTOs, so nothing accumulates in the persistence context and
+	// the fetch size hint keeps the PostgreSQL driver on a server-side cursor: memory stays flat.
+	@Override
+	@Transactional(readOnly = true)
+	public void exportAsNdjson(LocalDateTime updatedSince, OutputStream outputStream) throws IOException {
+
+		OutputStream bufferedOutputStream = new BufferedOutputStream(outputStream, 64 * 1024);
+
+		try (Stream<JobPostingExportDto> jobPostings = updatedSince == null
+				? jobPostingDao.streamAllForExport()
+				: jobPostingDao.streamAllForExportUpdatedSince(updatedSince)) {
+
+			for (Iterator<JobPostingExportDto> iterator = jobPostings.iterator(); iterator.hasNext();) {
+				bufferedOutputStream.write(objectMapper.writeValueAsBytes(iterator.next()));
+				bufferedOutputStream.write('\n');
 			}
 		}
-		
-		return new SuccessDataResult<List<JobPosting>>(result);
+
+		bufferedOutputStream.flush();
+	}
+
+	// Counts the active postings matching every selected facet but the grouped one, per value of the grouped column.
+	// With no column, the single entry under key 0 is the count matching all selected facets.
+	private Map<Integer, Integer> countActiveOnes(JobPostingFilterDto filter, String groupedColumn) {
+
+		StringBuilder sql = new StringBuilder("SELECT ").append(groupedColumn == null ? "0" : groupedColumn)
+				.append(", count(*) FROM job_postings WHERE is_active = true");
+		List<Object> args = new ArrayList<Object>();
+
+		appendFacetCondition(sql, args, "city_id", filter.getCityId(), groupedColumn);
+		appendFacetCondition(sql, args, "job_title_id", filter.getJobTitleId(), groupedColumn);
+		appendFacetCondition(sql, args, "working_time_id", filter.getWorkingTimeId(), groupedColumn);
+		appendFacetCondition(sql, args, "working_type_id", filter.getWorkingTypeId(), groupedColumn);
+
+		if (groupedColumn != null) {
+			sql.append(" AND ").append(groupedColumn).append(" IS NOT NULL GROUP BY ").append(groupedColumn);
+		}
+
+		Map<Integer, Integer> counts = new HashMap<Integer, Integer>();
+		jdbcTemplate.query(sql.toString(), resultSet -> {
+			counts.put(resultSet.getInt(1), resultSet.getInt(2));
+		}, args.toArray());
+
+		return counts;
+	}
+
+	private static void appendFacetCondition(StringBuilder sql, List<Object> args, String column, int selectedId, String groupedColumn) {
+		if (selectedId != 0 && !column.equals(groupedColumn)) {
+			sql.append(" AND ").append(column).append(" = ?");
+			args.add(selectedId);
+		}
+	}
+
+	private List<JobPosting> getAllByIdsSortedByPostingDate(RoaringBitmap ids, int offset, int limit) {
+
+		List<Integer> pageIds = jobPostingSearchIndexService.getPageOfIdsSortedByPostingDate(ids, offset, limit);
+
+		Map<Integer, JobPosting> jobPostingsById = jobPostingDao.findAllById(pageIds).stream()
+				.collect(Collectors.toMap(JobPosting::getId, Function.identity()));
+
+		return pageIds.stream().map(jobPostingsById::get).filter(Objects::nonNull).collect(Collectors.toList());
+	}
+
+	// Always recomputed, so an edited salary text never keeps the amounts parsed from its old value.
+	private static void setSalaryAmounts(JobPosting jobPosting) {
+
+		jobPosting.setSalaryMinAmount(parseSalary(jobPosting.getSalaryMin()));
+		jobPosting.setSalaryMaxAmount(parseSalary(jobPosting.getSalaryMax()));
+	}
+
+	// Same rules as parse_salary in schema.sql: a single amount, optionally with thousands separators,
+	// a 1-2 digit fraction (dropped) and a currency, so "15.000,50 TL" becomes 15000. Anything else,
+	// such as a range ("10-15 bin") or a unit word ("15k"), has no numeric amount.
+	static BigDecimal parseSalary(String salary) {
+
+		if (salary == null) {
+			return null;
+		}
+
+		Matcher matcher = SALARY_PATTERN.matcher(salary);
+		if (!matcher.matches()) {
+			return null;
+		}
+
+		String digits = matcher.group(1).replaceAll("[^0-9]", "");
+
+		return digits.length() > 10 ? null : new BigDecimal(digits);
 	}
 
 }
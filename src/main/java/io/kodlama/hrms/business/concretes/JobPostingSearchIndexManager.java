@@ -0,0 +1,470 @@
+package io.kodlama.hrms.business.concretes;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.kodlama.hrms.business.abstracts.JobPostingSearchIndexService;
+import io.kodlama.hrms.dataAccess.abstracts.JobPostingDao;
+import io.kodlama.hrms.entities.concretes.JobPosting;
+import io.kodlama.hrms.entities.dtos.JobPostingFacetCountsDto;
+import io.kodlama.hrms.entities.dtos.JobPostingFilterDto;
+import io.kodlama.hrms.entities.dtos.JobPostingIndexEntryDto;
+
+@Service
+public class JobPostingSearchIndexManager implements JobPostingSearchIndexService {
+
+	private static final Logger logger = LoggerFactory.getLogger(JobPostingSearchIndexManager.class);
+
+	// Rows updated this long before the previous refresh are read again, so clock skew between the
+	// nodes and transactions that commit after the refresh read past them do not hide a change.
+	private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(5);
+	private static final int REFRESH_BATCH_SIZE = 1000;
+
+	private JobPostingDao jobPostingDao;
+	private TaskExecutor jobPostingIndexExecutor;
+
+	// Same order as the database path: newest posting date first, ties broken by the larger id.
+	private static final Comparator<JobPostingIndexEntryDto> POSTING_DATE_DESCENDING = Comparator
+			.comparing(JobPostingIndexEntryDto::getPostingDate, Comparator.nullsFirst(Comparator.<LocalDateTime>reverseOrder()))
+			.thenComparing(JobPostingIndexEntryDto::getId, Comparator.reverseOrder());
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private volatile boolean ready;
+	private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+	// Changes made while a rebuild or refresh reads the database, replayed once its result is applied.
+	private List<Runnable> mutationsDuringRebuild;
+
+	// Start of the last rebuild or refresh, the next refresh reads the postings updated since then.
+	private LocalDateTime refreshedAt;
+
+	// Every active posting, plus one bitmap of posting ids per facet value. Documents keep the
+	// indexed facet values of each posting so it can be taken out of its old bitmaps on change.
+	private RoaringBitmap activeIds = new RoaringBitmap();
+	private Map<Integer, RoaringBitmap> cityIds = new HashMap<Integer, RoaringBitmap>();
+	private Map<Integer, RoaringBitmap> jobTitleIds = new HashMap<Integer, RoaringBitmap>();
+	private Map<Integer, RoaringBitmap> workingTimeIds = new HashMap<Integer, RoaringBitmap>();
+	private Map<Integer, RoaringBitmap> workingTypeIds = new HashMap<Integer, RoaringBitmap>();
+	private Map<Integer, JobPostingIndexEntryDto> documents = new HashMap<Integer, JobPostingIndexEntryDto>();
+	private NavigableSet<JobPostingIndexEntryDto> documentsByPostingDate = new TreeSet<JobPostingIndexEntryDto>(POSTING_DATE_DESCENDING);
+
+	@Autowired
+	public JobPostingSearchIndexManager(JobPostingDao jobPostingDao, @Qualifier("jobPostingIndexExecutor") TaskExecutor jobPostingIndexExecutor) {
+		this.jobPostingDao = jobPostingDao;
+		this.jobPostingIndexExecutor = jobPostingIndexExecutor;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		try {
+			rebuild();
+		} catch (RuntimeException exception) {
+			logger.warn("Job posting search index could not be built, filters will be served from the database", exception);
+		}
+	}
+
+	// Other nodes change postings too and only tell their own index. Each node therefore refreshes
+	// its index from the database, so a change made anywhere shows up everywhere within an interval.
+	@Scheduled(fixedDelayString = "${hrms.jobPosting.index-refresh-interval:30000}", initialDelayString = "${hrms.jobPosting.index-refresh-interval:30000}")
+	public void onSchedule() {
+
+		if (!ready) {
+			return;
+		}
+
+		try {
+			refresh();
+		} catch (RuntimeException exception) {
+			logger.warn("Job posting search index could not be refreshed", exception);
+		}
+	}
+
+	@Override
+	public synchronized void rebuild() {
+
+		LocalDateTime startedAt = LocalDateTime.now();
+		openMutationLog();
+
+		List<JobPostingIndexEntryDto> entries;
+		try {
+			entries = jobPostingDao.getAllActiveIndexEntries();
+		} catch (RuntimeException exception) {
+			closeMutationLog();
+			throw exception;
+		}
+
+		RoaringBitmap newActiveIds = new RoaringBitmap();
+		Map<Integer, RoaringBitmap> newCityIds = new HashMap<Integer, RoaringBitmap>();
+		Map<Integer, RoaringBitmap> newJobTitleIds = new HashMap<Integer, RoaringBitmap>();
+		Map<Integer, RoaringBitmap> newWorkingTimeIds = new HashMap<Integer, RoaringBitmap>();
+		Map<Integer, RoaringBitmap> newWorkingTypeIds = new HashMap<Integer, RoaringBitmap>();
+		Map<Integer, JobPostingIndexEntryDto> newDocuments = new HashMap<Integer, JobPostingIndexEntryDto>();
+		NavigableSet<JobPostingIndexEntryDto> newDocumentsByPostingDate = new TreeSet<JobPostingIndexEntryDto>(POSTING_DATE_DESCENDING);
+
+		for (JobPostingIndexEntryDto entry : entries) {
+			newActiveIds.add(entry.getId());
+			addToBitmap(newCityIds, entry.getCityId(), entry.getId());
+			addToBitmap(newJobTitleIds, entry.getJobTitleId(), entry.getId());
+			addToBitmap(newWorkingTimeIds, entry.getWorkingTimeId(), entry.getId());
+			addToBitmap(newWorkingTypeIds, entry.getWorkingTypeId(), entry.getId());
+			newDocuments.put(entry.getId(), entry);
+			newDocumentsByPostingDate.add(entry);
+		}
+
+		runOptimize(newActiveIds, newCityIds, newJobTitleIds, newWorkingTimeIds, newWorkingTypeIds);
+
+		lock.writeLock().lock();
+		try {
+			activeIds = newActiveIds;
+			cityIds = newCityIds;
+			jobTitleIds = newJobTitleIds;
+			workingTimeIds = newWorkingTimeIds;
+			workingTypeIds = newWorkingTypeIds;
+			documents = newDocuments;
+			documentsByPostingDate = newDocumentsByPostingDate;
+
+			// Every mutation sets a posting's final state, so replaying one the snapshot already saw is harmless.
+			mutationsDuringRebuild.forEach(Runnable::run);
+			mutationsDuringRebuild = null;
+			refreshedAt = startedAt;
+			ready = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		logger.info("Job posting search index built with {} active postings", entries.size());
+	}
+
+	// Reads the active postings updated since the last refresh, plus the active ones the index does not
+	// have, and drops the indexed ones no longer active. Deletions leave no updated row behind, so they
+	// are only found by comparing the active ids, which is an index-only scan.
+	@Override
+	public synchronized void refresh() {
+
+		if (!ready) {
+			rebuild();
+			return;
+		}
+
+		LocalDateTime startedAt = LocalDateTime.now();
+		openMutationLog();
+
+		RoaringBitmap activeIdsInDatabase = new RoaringBitmap();
+		List<JobPostingIndexEntryDto> entries;
+		try {
+			jobPostingDao.getAllActiveIds().forEach(activeIdsInDatabase::add);
+			entries = new ArrayList<JobPostingIndexEntryDto>(jobPostingDao.getAllActiveIndexEntriesUpdatedSince(refreshedAt.minus(REFRESH_OVERLAP)));
+
+			RoaringBitmap indexedIds;
+			lock.readLock().lock();
+			try {
+				indexedIds = activeIds.clone();
+			} finally {
+				lock.readLock().unlock();
+			}
+
+			List<Integer> missingIds = new ArrayList<Integer>();
+			RoaringBitmap.andNot(activeIdsInDatabase, indexedIds).forEach((int id) -> missingIds.add(id));
+			for (int from = 0; from < missingIds.size(); from += REFRESH_BATCH_SIZE) {
+				entries.addAll(jobPostingDao.getAllActiveIndexEntriesByIdIn(missingIds.subList(from, Math.min(from + REFRESH_BATCH_SIZE, missingIds.size()))));
+			}
+		} catch (RuntimeException exception) {
+			closeMutationLog();
+			throw exception;
+		}
+
+		lock.writeLock().lock();
+		try {
+			RoaringBitmap.andNot(activeIds, activeIdsInDatabase).forEach((int id) -> removeDocument(id));
+			entries.forEach(this::putDocument);
+
+			mutationsDuringRebuild.forEach(Runnable::run);
+			mutationsDuringRebuild = null;
+			refreshedAt = startedAt;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// At most one background rebuild is queued at a time, callers keep answering from the database meanwhile.
+	@Override
+	public void rebuildInBackground() {
+
+		if (!rebuildQueued.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			jobPostingIndexExecutor.execute(() -> {
+				try {
+					rebuild();
+				} catch (RuntimeException exception) {
+					logger.warn("Job posting search index could not be rebuilt in the background", exception);
+				} finally {
+					rebuildQueued.set(false);
+				}
+			});
+		} catch (TaskRejectedException exception) {
+			rebuildQueued.set(false);
+			logger.warn("Job posting search index rebuild could not be queued");
+		}
+	}
+
+	@Override
+	public boolean isReady() {
+		return ready;
+	}
+
+	@Override
+	public void index(JobPosting jobPosting) {
+
+		if (!jobPosting.isActive()) {
+			remove(jobPosting.getId());
+			return;
+		}
+
+		JobPostingIndexEntryDto entry = new JobPostingIndexEntryDto(
+				jobPosting.getId(),
+				jobPosting.getCity() == null ? null : jobPosting.getCity().getId(),
+				jobPosting.getJobTitle() == null ? null : jobPosting.getJobTitle().getId(),
+				jobPosting.getWorkingTime() == null ? null : jobPosting.getWorkingTime().getId(),
+				jobPosting.getWorkingType() == null ? null : jobPosting.getWorkingType().getId(),
+				jobPosting.getPostingDate(),
+				jobPosting.getClosingDate()
+				);
+
+		lock.writeLock().lock();
+		try {
+			logMutation(() -> putDocument(entry));
+			putDocument(entry);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void remove(int jobPostingId) {
+
+		lock.writeLock().lock();
+		try {
+			logMutation(() -> removeDocument(jobPostingId));
+			removeDocument(jobPostingId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public int removeAllClosedBefore(LocalDate date) {
+
+		lock.writeLock().lock();
+		try {
+			logMutation(() -> removeDocumentsClosedBefore(date));
+			return removeDocumentsClosedBefore(date);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public RoaringBitmap getAllActiveIdsFilteredBy(JobPostingFilterDto filter) {
+
+		lock.readLock().lock();
+		try {
+			return FastAggregation.and(
+					activeIds,
+					selectionOf(cityIds, filter.getCityId()),
+					selectionOf(jobTitleIds, filter.getJobTitleId()),
+					selectionOf(workingTimeIds, filter.getWorkingTimeId()),
+					selectionOf(workingTypeIds, filter.getWorkingTypeId())
+					);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public List<Integer> getPageOfIdsSortedByPostingDate(RoaringBitmap ids, int offset, int limit) {
+
+		List<Integer> pageIds = new ArrayList<Integer>();
+		lock.readLock().lock();
+		try {
+			int skipped = 0;
+			for (JobPostingIndexEntryDto entry : documentsByPostingDate) {
+				if (pageIds.size() >= limit) {
+					break;
+				}
+				if (!ids.contains(entry.getId())) {
+					continue;
+				}
+				if (skipped < offset) {
+					skipped++;
+					continue;
+				}
+				pageIds.add(entry.getId());
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		return pageIds;
+	}
+
+	// Each facet is counted against the other facets' selections only, so the counts shown next to
+	// the options of a facet tell how many postings would match if that option were picked instead.
+	@Override
+	public JobPostingFacetCountsDto getFacetCounts(JobPostingFilterDto filter) {
+
+		lock.readLock().lock();
+		try {
+			RoaringBitmap city = selectionOf(cityIds, filter.getCityId());
+			RoaringBitmap jobTitle = selectionOf(jobTitleIds, filter.getJobTitleId());
+			RoaringBitmap workingTime = selectionOf(workingTimeIds, filter.getWorkingTimeId());
+			RoaringBitmap workingType = selectionOf(workingTypeIds, filter.getWorkingTypeId());
+
+			return new JobPostingFacetCountsDto(
+					FastAggregation.and(city, jobTitle, workingTime, workingType).getLongCardinality(),
+					countsOf(cityIds, FastAggregation.and(jobTitle, workingTime, workingType)),
+					countsOf(jobTitleIds, FastAggregation.and(city, workingTime, workingType)),
+					countsOf(workingTimeIds, FastAggregation.and(city, jobTitle, workingType)),
+					countsOf(workingTypeIds, FastAggregation.and(city, jobTitle, workingTime))
+					);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private RoaringBitmap selectionOf(Map<Integer, RoaringBitmap> bitmaps, int selectedId) {
+		return selectedId == 0 ? activeIds : bitmaps.getOrDefault(selectedId, new RoaringBitmap());
+	}
+
+	private static Map<Integer, Integer> countsOf(Map<Integer, RoaringBitmap> bitmaps, RoaringBitmap base) {
+
+		Map<Integer, Integer> counts = new HashMap<Integer, Integer>();
+		for (Map.Entry<Integer, RoaringBitmap> entry : bitmaps.entrySet()) {
+			counts.put(entry.getKey(), RoaringBitmap.andCardinality(entry.getValue(), base));
+		}
+
+		return counts;
+	}
+
+	private void openMutationLog() {
+
+		lock.writeLock().lock();
+		try {
+			mutationsDuringRebuild = new ArrayList<Runnable>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void closeMutationLog() {
+
+		lock.writeLock().lock();
+		try {
+			mutationsDuringRebuild = null;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void logMutation(Runnable mutation) {
+		if (mutationsDuringRebuild != null) {
+			mutationsDuringRebuild.add(mutation);
+		}
+	}
+
+	private void putDocument(JobPostingIndexEntryDto entry) {
+
+		removeDocument(entry.getId());
+
+		activeIds.add(entry.getId());
+		addToBitmap(cityIds, entry.getCityId(), entry.getId());
+		addToBitmap(jobTitleIds, entry.getJobTitleId(), entry.getId());
+		addToBitmap(workingTimeIds, entry.getWorkingTimeId(), entry.getId());
+		addToBitmap(workingTypeIds, entry.getWorkingTypeId(), entry.getId());
+		documents.put(entry.getId(), entry);
+		documentsByPostingDate.add(entry);
+	}
+
+	private int removeDocumentsClosedBefore(LocalDate date) {
+
+		List<Integer> closedIds = documents.values().stream()
+				.filter(entry -> entry.getClosingDate() != null && entry.getClosingDate().isBefore(date))
+				.map(JobPostingIndexEntryDto::getId)
+				.collect(Collectors.toList());
+
+		closedIds.forEach(this::removeDocument);
+		return closedIds.size();
+	}
+
+	private void removeDocument(int jobPostingId) {
+
+		JobPostingIndexEntryDto entry = documents.remove(jobPostingId);
+		if (entry == null) {
+			return;
+		}
+
+		documentsByPostingDate.remove(entry);
+		activeIds.remove(jobPostingId);
+		removeFromBitmap(cityIds, entry.getCityId(), jobPostingId);
+		removeFromBitmap(jobTitleIds, entry.getJobTitleId(), jobPostingId);
+		removeFromBitmap(workingTimeIds, entry.getWorkingTimeId(), jobPostingId);
+		removeFromBitmap(workingTypeIds, entry.getWorkingTypeId(), jobPostingId);
+	}
+
+	// A posting without a value for a facet is only in activeIds, so no facet ever counts a bucket for a missing value.
+	private static void addToBitmap(Map<Integer, RoaringBitmap> bitmaps, Integer key, int jobPostingId) {
+		if (key != null) {
+			bitmaps.computeIfAbsent(key, k -> new RoaringBitmap()).add(jobPostingId);
+		}
+	}
+
+	private static void removeFromBitmap(Map<Integer, RoaringBitmap> bitmaps, Integer key, int jobPostingId) {
+
+		RoaringBitmap bitmap = key == null ? null : bitmaps.get(key);
+		if (bitmap == null) {
+			return;
+		}
+
+		bitmap.remove(jobPostingId);
+		if (bitmap.isEmpty()) {
+			bitmaps.remove(key);
+		}
+	}
+
+	@SafeVarargs
+	private static void runOptimize(RoaringBitmap activeIds, Map<Integer, RoaringBitmap>... facets) {
+
+		activeIds.runOptimize();
+		for (Map<Integer, RoaringBitmap> facet : facets) {
+			facet.values().forEach(RoaringBitmap::runOptimize);
+		}
+	}
+
+}
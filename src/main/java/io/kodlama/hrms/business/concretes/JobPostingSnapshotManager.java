@@ -0,0 +1,90 @@
+package io.kodlama.hrms.business.concretes;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.kodlama.hrms.business.abstracts.JobPostingSnapshotService;
+import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
+import io.kodlama.hrms.dataAccess.abstracts.JobPostingDao;
+import io.kodlama.hrms.entities.concretes.JobPosting;
+
+@Service
+public class JobPostingSnapshotManager implements JobPostingSnapshotService {
+
+	private JobPostingDao jobPostingDao;
+	private ObjectMapper objectMapper;
+
+	@Value("${hrms.jobPosting.snapshot-size:6}")
+	private int snapshotSize;
+
+	// The landing page response, serialized once. Every invalidation bumps the generation so a
+	// rebuild that raced with a change does not publish a snapshot that is already stale.
+	private volatile byte[] snapshot;
+	private final AtomicLong generation = new AtomicLong();
+
+	@Autowired
+	public JobPostingSnapshotManager(JobPostingDao jobPostingDao, ObjectMapper objectMapper) {
+		this.jobPostingDao = jobPostingDao;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public byte[] getLatestActiveOnesSnapshot() {
+
+		byte[] current = snapshot;
+		if (current != null) {
+			return current;
+		}
+
+		return rebuild();
+	}
+
+	// Changes made on other nodes only invalidate their own snapshot, so every snapshot is dropped
+	// after an interval at the latest. Rebuilding it is a single six row query.
+	@Scheduled(fixedDelayString = "${hrms.jobPosting.snapshot-refresh-interval:30000}")
+	public void onSchedule() {
+		invalidate();
+	}
+
+	@Override
+	public void invalidate() {
+
+		generation.incrementAndGet();
+		snapshot = null;
+	}
+
+	private synchronized byte[] rebuild() {
+
+		if (snapshot != null) {
+			return snapshot;
+		}
+
+		long startedGeneration = generation.get();
+
+		List<JobPosting> jobPostings = jobPostingDao.getByIsActive(true, PageRequest.of(0, snapshotSize, Sort.by(Sort.Direction.DESC, "postingDate").and(Sort.by(Sort.Direction.DESC, "id"))));
+
+		byte[] rebuilt;
+		try {
+			rebuilt = objectMapper.writeValueAsBytes(new SuccessDataResult<List<JobPosting>>(jobPostings));
+		} catch (JsonProcessingException exception) {
+			throw new IllegalStateException("Job posting snapshot could not be serialized", exception);
+		}
+
+		if (generation.get() == startedGeneration) {
+			snapshot = rebuilt;
+		}
+
+		return rebuilt;
+	}
+
+}
@@ -0,0 +1,94 @@
+package io.kodlama.hrms.business.concretes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.kodlama.hrms.business.abstracts.JobPostingViewCounterService;
+
+@Service
+public class JobPostingViewCounterManager implements JobPostingViewCounterService {
+
+	private static final Logger logger = LoggerFactory.getLogger(JobPostingViewCounterManager.class);
+
+	// The EXISTS guard drops the views of a posting deleted since they were recorded instead of
+	// resurrecting a count row for it.
+	private static final String UPSERT_SQL = "INSERT INTO job_posting_view_counts (job_posting_id, view_count) "
+			+ "SELECT ?, ? WHERE EXISTS (SELECT 1 FROM job_postings WHERE id = ?) "
+			+ "ON CONFLICT (job_posting_id) DO UPDATE SET view_count = job_posting_view_counts.view_count + EXCLUDED.view_count";
+
+	private JdbcTemplate jdbcTemplate;
+
+	// Views since the last flush, per posting. LongAdder stripes increments across cells so hot
+	// postings do not make request threads contend on a single counter.
+	private final Map<Integer, LongAdder> pendingViews = new ConcurrentHashMap<Integer, LongAdder>();
+
+	@Autowired
+	public JobPostingViewCounterManager(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@Override
+	public void recordView(int jobPostingId) {
+
+		LongAdder views = pendingViews.computeIfAbsent(jobPostingId, id -> new LongAdder());
+		views.increment();
+
+		// A flush may have dropped this counter as idle just before the increment, carry it over to the live one.
+		if (pendingViews.get(jobPostingId) != views) {
+			pendingViews.computeIfAbsent(jobPostingId, id -> new LongAdder()).add(views.sumThenReset());
+		}
+	}
+
+	@Override
+	public void remove(int jobPostingId) {
+
+		pendingViews.remove(jobPostingId);
+		jdbcTemplate.update("DELETE FROM job_posting_view_counts WHERE job_posting_id = ?", jobPostingId);
+	}
+
+	@Override
+	@PreDestroy
+	@Scheduled(fixedDelayString = "${hrms.jobPosting.view-count-flush-interval:30000}")
+	public synchronized void flush() {
+
+		List<long[]> deltas = new ArrayList<long[]>();
+		for (Map.Entry<Integer, LongAdder> entry : pendingViews.entrySet()) {
+			long delta = entry.getValue().sumThenReset();
+			if (delta > 0) {
+				deltas.add(new long[] { entry.getKey(), delta });
+			} else {
+				// Idle for a whole interval, so the map only holds postings that are actually being viewed.
+				pendingViews.remove(entry.getKey(), entry.getValue());
+			}
+		}
+
+		if (deltas.isEmpty()) {
+			return;
+		}
+
+		try {
+			jdbcTemplate.batchUpdate(UPSERT_SQL, deltas, deltas.size(), (preparedStatement, delta) -> {
+				preparedStatement.setInt(1, (int) delta[0]);
+				preparedStatement.setLong(2, delta[1]);
+				preparedStatement.setInt(3, (int) delta[0]);
+			});
+		} catch (RuntimeException exception) {
+			// Put the deltas back so the next flush retries them instead of losing the views.
+			deltas.forEach(delta -> pendingViews.computeIfAbsent((int) delta[0], id -> new LongAdder()).add(delta[1]));
+			logger.warn("Job posting view counts could not be flushed, {} postings will be retried", deltas.size(), exception);
+		}
+	}
+
+}
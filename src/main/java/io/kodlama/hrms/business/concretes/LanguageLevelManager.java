@@ -1,11 +1,14 @@
 package io.kodlama.hrms.business.concretes;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import io.kodlama.hrms.business.abstracts.LanguageLevelService;
+import io.kodlama.hrms.business.events.ResumeChangedEvent;
 import io.kodlama.hrms.core.utilities.results.DataResult;
 import io.kodlama.hrms.core.utilities.results.Result;
 import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
@@ -17,16 +20,19 @@ import io.kodlama.hrms.entities.concretes.LanguageLevel;
 public class LanguageLevelManager implements LanguageLevelService {
 
 	private LanguageLevelDao languageLevelDao;
+	private ApplicationEventPublisher applicationEventPublisher;
 
 	@Autowired
-	public LanguageLevelManager(LanguageLevelDao languageLevelDao) {
+	public LanguageLevelManager(LanguageLevelDao languageLevelDao, ApplicationEventPublisher applicationEventPublisher) {
 		this.languageLevelDao = languageLevelDao;
+		this.applicationEventPublisher = applicationEventPublisher;
 	}
 
 	@Override
 	public Result add(LanguageLevel languageLevel) {
 
 		languageLevelDao.save(languageLevel);
+		publishResumeChanged(languageLevel.getResume() == null ? null : languageLevel.getResume().getId());
 		return new SuccessResult("Dil seviyesi eklendi.");
 	}
 
@@ -34,13 +40,17 @@ public class LanguageLevelManager implements LanguageLevelService {
 	public Result update(LanguageLevel languageLevel) {
 
 		languageLevelDao.save(languageLevel);
+		publishResumeChanged(languageLevel.getResume() == null ? null : languageLevel.getResume().getId());
 		return new SuccessResult("Dil seviyesi güncellendi.");
 	}
 
 	@Override
 	public Result delete(int id) {
 
+		Integer resumeId = languageLevelDao.getResumeIdById(id);
+
 		languageLevelDao.deleteById(id);
+		publishResumeChanged(resumeId);
 		return new SuccessResult("Dil seviyesi silindi.");
 	}
 
@@ -54,4 +64,15 @@ public class LanguageLevelManager implements LanguageLevelService {
 		return new SuccessDataResult<LanguageLevel>(languageLevelDao.getById(id));
 	}
 
+	@Override
+	public DataResult<List<LanguageLevel>> getAllByResumeIds(Collection<Integer> resumeIds) {
+		return new SuccessDataResult<List<LanguageLevel>>(languageLevelDao.getAllByResumeIdIn(resumeIds));
+	}
+
+	private void publishResumeChanged(Integer resumeId) {
+		if (resumeId != null) {
+			applicationEventPublisher.publishEvent(new ResumeChangedEvent(resumeId));
+		}
+	}
+
 }
@@ -1,12 +1,18 @@
 package io.kodlama.hrms.business.concretes;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import io.kodlama.hrms.business.abstracts.LeaveService;
 import io.kodlama.hrms.business.abstracts.UserService;
@@ -25,15 +31,23 @@ import io.kodlama.hrms.entities.concretes.LeaveBalance;
 @Service
 public class LeaveManager implements LeaveService {
 
+	private static final String OVERLAPPING_LEAVE_MESSAGE = "You already have a leave application for this period";
+	private static final String OVERLAP_CONSTRAINT = "ex_leaves_employee_period";
+
 	private LeaveDao leaveDao;
 	private LeaveBalanceDao leaveBalanceDao;
 	private UserService userService;
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate transactionTemplate;
 
 	@Autowired
-	public LeaveManager(LeaveDao leaveDao, LeaveBalanceDao leaveBalanceDao, UserService userService) {
+	public LeaveManager(LeaveDao leaveDao, LeaveBalanceDao leaveBalanceDao, UserService userService, JdbcTemplate jdbcTemplate,
+			PlatformTransactionManager transactionManager) {
 		this.leaveDao = leaveDao;
 		this.leaveBalanceDao = leaveBalanceDao;
 		this.userService = userService;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
 	}
 
 	@Override
@@ -100,21 +114,41 @@ public class LeaveManager implements LeaveService {
 			}
 		}
 
-		// Check for overlapping leaves
-		List<Leave> overlappingLeaves = this.leaveDao.getByEmployeeIdAndDateRange(employeeId, startDate, endDate);
-		if (!overlappingLeaves.isEmpty()) {
-			return new ErrorResult("You already have a leave application for this period");
-		}
+		Result result = this.transactionTemplate.execute(status -> {
 
-		// Check for pending leaves limit (max 3 pending applications)
-		int pendingCount = this.leaveDao.countPendingLeavesByEmployeeId(employeeId);
-		if (pendingCount >= 3) {
-			return new ErrorResult("You cannot have more than 3 pending leave applications");
-		}
+			// Applications of one employee are checked and saved one at a time. schema.sql falls back to a
+			// plain index when old rows already overlap, then nothing else keeps two of them apart.
+			this.jdbcTemplate.queryForList("SELECT id FROM users WHERE id = ? FOR UPDATE", Integer.class, employeeId);
 
-		// Create leave application
-		Leave leave = new Leave(employeeResult.getData(), startDate, endDate, leaveType, reason);
-		this.leaveDao.save(leave);
+			// Check for overlapping pending or approved leaves
+			if (this.leaveDao.existsActiveOverlapping(employeeId, startDate, endDate)) {
+				return new ErrorResult(OVERLAPPING_LEAVE_MESSAGE);
+			}
+
+			// Check for pending leaves limit (max 3 pending applications)
+			int pendingCount = this.leaveDao.countPendingLeavesByEmployeeId(employeeId);
+			if (pendingCount >= 3) {
+				return new ErrorResult("You cannot have more than 3 pending leave applications");
+			}
+
+			// Create leave application
+			Leave leave = new Leave(employeeResult.getData(), startDate, endDate, leaveType, reason);
+			try {
+				this.leaveDao.save(leave);
+			} catch (DataIntegrityViolationException exception) {
+				// Only the exclusion constraint means an overlap, any other violation is a real error.
+				if (!violates(exception, OVERLAP_CONSTRAINT)) {
+					throw exception;
+				}
+				status.setRollbackOnly();
+				return new ErrorResult(OVERLAPPING_LEAVE_MESSAGE);
+			}
+			return null;
+		});
+
+		if (result != null) {
+			return result;
+		}
 
 		return new SuccessResult("Leave application submitted successfully");
 	}
@@ -233,6 +267,21 @@ public class LeaveManager implements LeaveService {
 		return new SuccessDataResult<List<Leave>>(leaves, "Employee leaves for year listed successfully");
 	}
 
+	// Hibernate names the constraint for the violations its dialect knows, exclusion violations only
+	// carry it in the driver's message.
+	private static boolean violates(DataIntegrityViolationException exception, String constraint) {
+
+		for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ConstraintViolationException && constraint.equals(((ConstraintViolationException) cause).getConstraintName())) {
+				return true;
+			}
+			if (cause instanceof SQLException && cause.getMessage() != null && cause.getMessage().contains("\"" + constraint + "\"")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private LeaveBalance getOrCreateLeaveBalance(int employeeId, int year) {
 		Optional<LeaveBalance> balanceOpt = this.leaveBalanceDao.getByEmployee_IdAndYear(employeeId, year);
 		if (balanceOpt.isPresent()) {
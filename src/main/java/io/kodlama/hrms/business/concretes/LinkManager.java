@@ -1,11 +1,14 @@
 package io.kodlama.hrms.business.concretes;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import io.kodlama.hrms.business.abstracts.LinkService;
+import io.kodlama.hrms.business.events.ResumeChangedEvent;
 import io.kodlama.hrms.core.utilities.results.DataResult;
 import io.kodlama.hrms.core.utilities.results.Result;
 import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
@@ -17,16 +20,19 @@ import io.kodlama.hrms.entities.concretes.Link;
 public class LinkManager implements LinkService {
 
 	private LinkDao linkDao;
+	private ApplicationEventPublisher applicationEventPublisher;
 
 	@Autowired
-	public LinkManager(LinkDao linkDao) {
+	public LinkManager(LinkDao linkDao, ApplicationEventPublisher applicationEventPublisher) {
 		this.linkDao = linkDao;
+		this.applicationEventPublisher = applicationEventPublisher;
 	}
 
 	@Override
 	public Result add(Link link) {
 
 		linkDao.save(link);
+		publishResumeChanged(link.getResume() == null ? null : link.getResume().getId());
 		return new SuccessResult("Link eklendi.");
 	}
 
@@ -34,13 +40,17 @@ public class LinkManager implements LinkService {
 	public Result update(Link link) {
 
 		linkDao.save(link);
+		publishResumeChanged(link.getResume() == null ? null : link.getResume().getId());
 		return new SuccessResult("Link güncellendi.");
 	}
 
 	@Override
 	public Result delete(int id) {
 
+		Integer resumeId = linkDao.getResumeIdById(id);
+
 		linkDao.deleteById(id);
+		publishResumeChanged(resumeId);
 		return new SuccessResult("Link silindi.");
 	}
 
@@ -54,4 +64,15 @@ public class LinkManager implements LinkService {
 		return new SuccessDataResult<Link>(linkDao.getById(id));
 	}
 
+	@Override
+	public DataResult<List<Link>> getAllByResumeIds(Collection<Integer> resumeIds) {
+		return new SuccessDataResult<List<Link>>(linkDao.getAllByResumeIdIn(resumeIds));
+	}
+
+	private void publishResumeChanged(Integer resumeId) {
+		if (resumeId != null) {
+			applicationEventPublisher.publishEvent(new ResumeChangedEvent(resumeId));
+		}
+	}
+
 }
@@ -0,0 +1,641 @@
+package io.kodlama.hrms.business.concretes;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.kodlama.hrms.business.abstracts.CandidateService;
+import io.kodlama.hrms.business.abstracts.RecommendationService;
+import io.kodlama.hrms.business.events.ResumeChangedEvent;
+import io.kodlama.hrms.core.utilities.results.DataResult;
+import io.kodlama.hrms.core.utilities.results.ErrorDataResult;
+import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
+import io.kodlama.hrms.dataAccess.abstracts.JobPostingDao;
+import io.kodlama.hrms.dataAccess.abstracts.ResumeDao;
+import io.kodlama.hrms.entities.concretes.Candidate;
+import io.kodlama.hrms.entities.concretes.JobPosting;
+import io.kodlama.hrms.entities.dtos.JobPostingFeatureRowDto;
+import io.kodlama.hrms.entities.dtos.JobPostingSummaryDto;
+import io.kodlama.hrms.entities.dtos.RecommendationDto;
+import io.kodlama.hrms.entities.dtos.ResumeFeatureRowDto;
+
+@Service
+public class RecommendationManager implements RecommendationService {
+
+	private static final Logger logger = LoggerFactory.getLogger(RecommendationManager.class);
+
+	private static final Locale TURKISH = new Locale("tr", "TR");
+	private static final int REBUILD_BATCH_SIZE = 1000;
+	private static final int MAX_SIZE = 100;
+
+	// Rows updated this long before the previous refresh are read again, so clock skew between the
+	// nodes and transactions that commit after the refresh read past them do not hide a change.
+	private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(5);
+
+	private ResumeDao resumeDao;
+	private JobPostingDao jobPostingDao;
+	private CandidateService candidateService;
+	private TaskExecutor resumeIndexExecutor;
+
+	// The current generation of vectors together with the dictionary their term ids come from. Vectors
+	// are immutable and scoring reads one generation without locking. A rebuild fills a fresh generation
+	// and swaps it in as a whole, replaying the changes made while it ran against the new dictionary.
+	private volatile Vectors vectors = new Vectors();
+	private volatile boolean ready;
+
+	private final Object mutationLock = new Object();
+	private List<Consumer<Vectors>> mutationsDuringRebuild;
+
+	// Start of the last rebuild or refresh, the next refresh reads the rows updated since then.
+	private LocalDateTime refreshedAt;
+
+	@Autowired
+	public RecommendationManager(ResumeDao resumeDao, JobPostingDao jobPostingDao, CandidateService candidateService,
+			@Qualifier("resumeIndexExecutor") TaskExecutor resumeIndexExecutor) {
+		this.resumeDao = resumeDao;
+		this.jobPostingDao = jobPostingDao;
+		this.candidateService = candidateService;
+		this.resumeIndexExecutor = resumeIndexExecutor;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		try {
+			rebuild();
+		} catch (RuntimeException exception) {
+			logger.warn("Recommendation vectors could not be built, recommendations will be empty until the next change", exception);
+		}
+	}
+
+	// Other nodes change postings and resumes too and only tell their own vectors. Each node therefore
+	// refreshes from the database, so a change made anywhere is scored everywhere within an interval.
+	@Scheduled(fixedDelayString = "${hrms.recommendation.refresh-interval:30000}", initialDelayString = "${hrms.recommendation.refresh-interval:30000}")
+	public void onSchedule() {
+
+		if (!ready) {
+			return;
+		}
+
+		try {
+			refresh();
+		} catch (RuntimeException exception) {
+			logger.warn("Recommendation vectors could not be refreshed", exception);
+		}
+	}
+
+	// Refreshes only ever add words to the dictionary, the nightly rebuild drops the ones no vector uses anymore.
+	@Scheduled(cron = "${hrms.recommendation.rebuild-cron:0 30 3 * * *}")
+	public void onRebuildSchedule() {
+		try {
+			rebuild();
+		} catch (RuntimeException exception) {
+			logger.warn("Recommendation vectors could not be rebuilt", exception);
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onResumeChanged(ResumeChangedEvent event) {
+		try {
+			resumeIndexExecutor.execute(() -> indexResume(event.getResumeId()));
+		} catch (TaskRejectedException exception) {
+			logger.warn("Resume index queue is full, recommendation vector of resume {} is stale", event.getResumeId());
+		}
+	}
+
+	@Override
+	public synchronized void rebuild() {
+
+		LocalDateTime startedAt = LocalDateTime.now();
+		openMutationLog();
+
+		Vectors newVectors = new Vectors();
+		try {
+			List<Integer> resumeIds = resumeDao.getAllIds();
+			for (int from = 0; from < resumeIds.size(); from += REBUILD_BATCH_SIZE) {
+				for (ResumeFeatures features : loadResumeFeatures(resumeIds.subList(from, Math.min(from + REBUILD_BATCH_SIZE, resumeIds.size())))) {
+					newVectors.putResumeVector(features);
+				}
+			}
+
+			jobPostingDao.getAllActiveFeatureRows().forEach(newVectors::putJobPostingVector);
+		} catch (RuntimeException exception) {
+			closeMutationLog();
+			throw exception;
+		}
+
+		synchronized (mutationLock) {
+			// Every change sets the final state of one vector, so replaying one the rebuild already saw is harmless.
+			mutationsDuringRebuild.forEach(mutation -> mutation.accept(newVectors));
+			mutationsDuringRebuild = null;
+			vectors = newVectors;
+			refreshedAt = startedAt;
+			ready = true;
+		}
+	}
+
+	// Reads the active postings updated since the last refresh and the resumes whose document was rebuilt
+	// since, plus the ones the vectors do not have, and drops the vectors of postings no longer active and
+	// of deleted resumes. Deletions leave no updated row behind, so they are only found by comparing the ids.
+	@Override
+	public synchronized void refresh() {
+
+		if (!ready) {
+			rebuild();
+			return;
+		}
+
+		LocalDateTime startedAt = LocalDateTime.now();
+		LocalDateTime updatedSince = refreshedAt.minus(REFRESH_OVERLAP);
+		openMutationLog();
+
+		Vectors current = vectors;
+		RoaringBitmap activeJobPostingIds = new RoaringBitmap();
+		RoaringBitmap resumeIds = new RoaringBitmap();
+		List<JobPostingFeatureRowDto> jobPostingRows;
+		RoaringBitmap changedResumeIds;
+		List<ResumeFeatures> resumeFeatures = new ArrayList<ResumeFeatures>();
+		try {
+			jobPostingDao.getAllActiveIds().forEach(activeJobPostingIds::add);
+			jobPostingRows = new ArrayList<JobPostingFeatureRowDto>(jobPostingDao.getAllActiveFeatureRowsUpdatedSince(updatedSince));
+			List<Integer> missingJobPostingIds = toList(RoaringBitmap.andNot(activeJobPostingIds, bitmapOf(current.jobPostingVectors.keySet())));
+			for (int from = 0; from < missingJobPostingIds.size(); from += REBUILD_BATCH_SIZE) {
+				jobPostingRows.addAll(jobPostingDao.getAllActiveFeatureRowsByIdIn(missingJobPostingIds.subList(from, Math.min(from + REBUILD_BATCH_SIZE, missingJobPostingIds.size()))));
+			}
+
+			resumeDao.getAllIds().forEach(resumeIds::add);
+			changedResumeIds = RoaringBitmap.andNot(resumeIds, bitmapOf(current.resumeVectors.keySet()));
+			resumeDao.getIdsWithDocumentUpdatedSince(updatedSince).forEach(changedResumeIds::add);
+			List<Integer> changedResumeIdList = toList(changedResumeIds);
+			for (int from = 0; from < changedResumeIdList.size(); from += REBUILD_BATCH_SIZE) {
+				resumeFeatures.addAll(loadResumeFeatures(changedResumeIdList.subList(from, Math.min(from + REBUILD_BATCH_SIZE, changedResumeIdList.size()))));
+			}
+		} catch (RuntimeException exception) {
+			closeMutationLog();
+			throw exception;
+		}
+
+		synchronized (mutationLock) {
+			RoaringBitmap.andNot(bitmapOf(current.jobPostingVectors.keySet()), activeJobPostingIds).forEach((int id) -> current.jobPostingVectors.remove(id));
+			jobPostingRows.forEach(current::putJobPostingVector);
+
+			// A changed resume without features lost its candidate, it is dropped like a deleted one.
+			RoaringBitmap resumeIdsToRemove = RoaringBitmap.andNot(bitmapOf(current.resumeVectors.keySet()), resumeIds);
+			resumeIdsToRemove.or(changedResumeIds);
+			resumeFeatures.forEach(features -> resumeIdsToRemove.remove(features.resumeId));
+			resumeIdsToRemove.forEach((int id) -> current.removeResumeVector(id));
+			resumeFeatures.forEach(current::putResumeVector);
+
+			mutationsDuringRebuild.forEach(mutation -> mutation.accept(current));
+			mutationsDuringRebuild = null;
+			refreshedAt = startedAt;
+		}
+	}
+
+	@Override
+	public void indexResume(int resumeId) {
+
+		List<ResumeFeatures> features = loadResumeFeatures(Collections.singletonList(resumeId));
+
+		apply(features.isEmpty()
+				? current -> current.removeResumeVector(resumeId)
+				: current -> current.putResumeVector(features.get(0)));
+	}
+
+	@Override
+	public void indexJobPosting(JobPosting jobPosting) {
+
+		if (!jobPosting.isActive()) {
+			removeJobPosting(jobPosting.getId());
+			return;
+		}
+
+		JobPostingFeatureRowDto row = new JobPostingFeatureRowDto(jobPosting.getId(),
+				jobPosting.getJobTitle() == null ? null : jobPosting.getJobTitle().getId(),
+				jobPosting.getJobTitle() == null ? null : jobPosting.getJobTitle().getTitle(),
+				jobPosting.getJobDescription(),
+				jobPosting.getClosingDate());
+
+		apply(current -> current.putJobPostingVector(row));
+	}
+
+	@Override
+	public void removeJobPosting(int jobPostingId) {
+		apply(current -> current.jobPostingVectors.remove(jobPostingId));
+	}
+
+	@Override
+	public int removeAllJobPostingsClosedBefore(LocalDate date) {
+
+		int[] removedCount = new int[1];
+		apply(current -> {
+			for (JobPostingVector jobPostingVector : current.jobPostingVectors.values()) {
+				if (jobPostingVector.closingDate != null && jobPostingVector.closingDate.isBefore(date)
+						&& current.jobPostingVectors.remove(jobPostingVector.id, jobPostingVector)) {
+					removedCount[0]++;
+				}
+			}
+		});
+		return removedCount[0];
+	}
+
+	@Override
+	public DataResult<List<RecommendationDto<JobPostingSummaryDto>>> getJobPostingsForCandidate(int candidateId, int size) {
+
+		Vectors current = vectors;
+		Integer resumeId = current.resumeIdsByCandidateId.get(candidateId);
+		ResumeVector resumeVector = resumeId == null ? null : current.resumeVectors.get(resumeId);
+		if (resumeVector == null) {
+			return new ErrorDataResult<List<RecommendationDto<JobPostingSummaryDto>>>("Özgeçmiş bulunamadı.");
+		}
+
+		LocalDate today = LocalDate.now();
+		List<Scored> scores = current.jobPostingVectors.values().parallelStream()
+				.filter(jobPostingVector -> jobPostingVector.closingDate == null || !jobPostingVector.closingDate.isBefore(today))
+				.map(jobPostingVector -> new Scored(jobPostingVector.id, score(resumeVector, jobPostingVector)))
+				.filter(scored -> scored.score > 0)
+				.collect(topScores(size));
+
+		Map<Integer, JobPostingSummaryDto> summaries = scores.isEmpty()
+				? Collections.emptyMap()
+				: jobPostingDao.getSummariesByIdIn(ids(scores)).stream().collect(Collectors.toMap(JobPostingSummaryDto::getId, Function.identity()));
+
+		return new SuccessDataResult<List<RecommendationDto<JobPostingSummaryDto>>>(toRecommendations(scores, summaries));
+	}
+
+	@Override
+	public DataResult<List<RecommendationDto<Candidate>>> getCandidatesForJobPosting(int jobPostingId, int size) {
+
+		Vectors current = vectors;
+		JobPostingVector jobPostingVector = current.jobPostingVectors.get(jobPostingId);
+		if (jobPostingVector == null) {
+			return new ErrorDataResult<List<RecommendationDto<Candidate>>>("Aktif iş ilanı bulunamadı.");
+		}
+
+		List<Scored> scores = current.resumeVectors.values().parallelStream()
+				.filter(resumeVector -> resumeVector.activated)
+				.map(resumeVector -> new Scored(resumeVector.candidateId, score(resumeVector, jobPostingVector)))
+				.filter(scored -> scored.score > 0)
+				.collect(topScores(size));
+
+		Map<Integer, Candidate> candidates = scores.isEmpty()
+				? Collections.emptyMap()
+				: candidateService.getAllByIds(ids(scores)).getData().stream().collect(Collectors.toMap(Candidate::getId, Function.identity()));
+
+		return new SuccessDataResult<List<RecommendationDto<Candidate>>>(toRecommendations(scores, candidates));
+	}
+
+	int getTermCount() {
+		return vectors.termIds.size();
+	}
+
+	// A matching job title weighs most and grows with the months spent in it, every skill or
+	// education department whose words all appear in the posting adds to it, and so does every
+	// spoken language the posting mentions, scaled by proficiency rank.
+	static double score(ResumeVector resumeVector, JobPostingVector jobPostingVector) {
+
+		double score = 0;
+
+		if (jobPostingVector.jobTitleId != null) {
+			for (int i = 0; i < resumeVector.jobTitleIds.length; i++) {
+				if (resumeVector.jobTitleIds[i] == jobPostingVector.jobTitleId) {
+					score += 2 + Math.min(resumeVector.jobTitleMonths[i], 120) / 60.0;
+				}
+			}
+		}
+
+		for (int[] skill : resumeVector.skills) {
+			if (containsAll(jobPostingVector.terms, skill)) {
+				score += 1;
+			}
+		}
+
+		for (int[] department : resumeVector.departments) {
+			if (containsAll(jobPostingVector.terms, department)) {
+				score += 0.5;
+			}
+		}
+
+		for (int i = 0; i < resumeVector.languages.length; i++) {
+			if (Arrays.binarySearch(jobPostingVector.terms, resumeVector.languages[i]) >= 0) {
+				score += 0.5 + Math.min(resumeVector.languageRanks[i], 6) / 12.0;
+			}
+		}
+
+		return score;
+	}
+
+	// Reads the raw features only, the term ids are assigned when the vector is put into a generation.
+	private List<ResumeFeatures> loadResumeFeatures(List<Integer> resumeIds) {
+
+		Map<Integer, ResumeFeatures> features = new HashMap<Integer, ResumeFeatures>();
+		for (ResumeFeatureRowDto row : resumeDao.getCandidateFeatureRowsByIdIn(resumeIds)) {
+			if (row.getReferenceId() != null) {
+				features.put(row.getResumeId(), new ResumeFeatures(row.getResumeId(), row.getReferenceId()));
+			}
+		}
+
+		for (int resumeId : resumeDao.getActivatedIdsByIdIn(resumeIds)) {
+			ResumeFeatures resumeFeatures = features.get(resumeId);
+			if (resumeFeatures != null) {
+				resumeFeatures.activated = true;
+			}
+		}
+
+		for (ResumeFeatureRowDto row : resumeDao.getSkillFeatureRowsByIdIn(resumeIds)) {
+			ResumeFeatures resumeFeatures = features.get(row.getResumeId());
+			if (resumeFeatures != null && row.getTerm() != null) {
+				resumeFeatures.skills.add(row.getTerm());
+			}
+		}
+
+		for (ResumeFeatureRowDto row : resumeDao.getEducationFeatureRowsByIdIn(resumeIds)) {
+			ResumeFeatures resumeFeatures = features.get(row.getResumeId());
+			if (resumeFeatures != null && row.getTerm() != null) {
+				resumeFeatures.departments.add(row.getTerm());
+			}
+		}
+
+		for (ResumeFeatureRowDto row : resumeDao.getLanguageFeatureRowsByIdIn(resumeIds)) {
+			ResumeFeatures resumeFeatures = features.get(row.getResumeId());
+			if (resumeFeatures != null && row.getTerm() != null) {
+				resumeFeatures.languages.add(row.getTerm().toLowerCase(TURKISH).trim());
+				resumeFeatures.languageRanks.add(row.getReferenceId() == null ? 0 : row.getReferenceId());
+			}
+		}
+
+		LocalDate today = LocalDate.now();
+		for (ResumeFeatureRowDto row : resumeDao.getExperienceFeatureRowsByIdIn(resumeIds)) {
+			ResumeFeatures resumeFeatures = features.get(row.getResumeId());
+			if (resumeFeatures != null && row.getReferenceId() != null) {
+				long months = row.getStartingDate() == null ? 0
+						: Math.max(0, ChronoUnit.MONTHS.between(row.getStartingDate(), row.getTerminationDate() == null ? today : row.getTerminationDate()));
+				resumeFeatures.jobTitleIds.add(row.getReferenceId());
+				resumeFeatures.jobTitleMonths.add((int) Math.min(months, Integer.MAX_VALUE));
+			}
+		}
+
+		return new ArrayList<ResumeFeatures>(features.values());
+	}
+
+	// The mutation runs against whichever generation is current when it runs, so a change replayed
+	// after a rebuild gets its term ids from the new dictionary.
+	private void apply(Consumer<Vectors> mutation) {
+		synchronized (mutationLock) {
+			if (mutationsDuringRebuild != null) {
+				mutationsDuringRebuild.add(mutation);
+			}
+			mutation.accept(vectors);
+		}
+	}
+
+	private void openMutationLog() {
+		synchronized (mutationLock) {
+			mutationsDuringRebuild = new ArrayList<Consumer<Vectors>>();
+		}
+	}
+
+	private void closeMutationLog() {
+		synchronized (mutationLock) {
+			mutationsDuringRebuild = null;
+		}
+	}
+
+	private static RoaringBitmap bitmapOf(Set<Integer> ids) {
+		return RoaringBitmap.bitmapOf(ids.stream().mapToInt(Integer::intValue).toArray());
+	}
+
+	private static List<Integer> toList(RoaringBitmap ids) {
+
+		List<Integer> list = new ArrayList<Integer>(ids.getCardinality());
+		ids.forEach((int id) -> list.add(id));
+		return list;
+	}
+
+	private static boolean containsAll(int[] sortedTerms, int[] terms) {
+
+		for (int term : terms) {
+			if (Arrays.binarySearch(sortedTerms, term) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static Collector<Scored, PriorityQueue<Scored>, List<Scored>> topScores(int size) {
+
+		int limit = Math.max(1, Math.min(size, MAX_SIZE));
+		Comparator<Scored> ascending = Comparator.comparingDouble((Scored scored) -> scored.score).thenComparing(scored -> -scored.id);
+
+		return Collector.of(
+				() -> new PriorityQueue<Scored>(ascending),
+				(queue, scored) -> {
+					queue.add(scored);
+					if (queue.size() > limit) {
+						queue.poll();
+					}
+				},
+				(first, second) -> {
+					for (Scored scored : second) {
+						first.add(scored);
+						if (first.size() > limit) {
+							first.poll();
+						}
+					}
+					return first;
+				},
+				queue -> {
+					List<Scored> scores = new ArrayList<Scored>(queue);
+					scores.sort(ascending.reversed());
+					return scores;
+				});
+	}
+
+	private static List<Integer> ids(List<Scored> scores) {
+		return scores.stream().map(scored -> scored.id).collect(Collectors.toList());
+	}
+
+	private static <T> List<RecommendationDto<T>> toRecommendations(List<Scored> scores, Map<Integer, T> items) {
+
+		List<RecommendationDto<T>> recommendations = new ArrayList<RecommendationDto<T>>();
+		for (Scored scored : scores) {
+			T item = items.get(scored.id);
+			if (item != null) {
+				recommendations.add(new RecommendationDto<T>(item, scored.score));
+			}
+		}
+		return recommendations;
+	}
+
+	private static final class Scored {
+
+		private final int id;
+		private final double score;
+
+		Scored(int id, double score) {
+			this.id = id;
+			this.score = score;
+		}
+
+	}
+
+	static final class ResumeVector {
+
+		private final int resumeId;
+		private final int candidateId;
+		private final boolean activated;
+		private final int[][] skills;
+		private final int[][] departments;
+		private final int[] languages;
+		private final int[] languageRanks;
+		private final int[] jobTitleIds;
+		private final int[] jobTitleMonths;
+
+		ResumeVector(int resumeId, int candidateId, boolean activated, int[][] skills, int[][] departments, int[] languages, int[] languageRanks, int[] jobTitleIds, int[] jobTitleMonths) {
+			this.resumeId = resumeId;
+			this.candidateId = candidateId;
+			this.activated = activated;
+			this.skills = skills;
+			this.departments = departments;
+			this.languages = languages;
+			this.languageRanks = languageRanks;
+			this.jobTitleIds = jobTitleIds;
+			this.jobTitleMonths = jobTitleMonths;
+		}
+
+	}
+
+	private static final class ResumeFeatures {
+
+		private final int resumeId;
+		private final int candidateId;
+		private boolean activated;
+		private final List<String> skills = new ArrayList<String>();
+		private final List<String> departments = new ArrayList<String>();
+		private final List<String> languages = new ArrayList<String>();
+		private final List<Integer> languageRanks = new ArrayList<Integer>();
+		private final List<Integer> jobTitleIds = new ArrayList<Integer>();
+		private final List<Integer> jobTitleMonths = new ArrayList<Integer>();
+
+		ResumeFeatures(int resumeId, int candidateId) {
+			this.resumeId = resumeId;
+			this.candidateId = candidateId;
+		}
+
+		private static int[] toArray(List<Integer> values) {
+			return values.stream().mapToInt(Integer::intValue).toArray();
+		}
+
+	}
+
+	// One generation of vectors. Every distinct word gets its own id, so two words never share one the
+	// way hash codes can; the dictionary lives and is discarded together with the vectors using its ids.
+	private static final class Vectors {
+
+		private final Map<String, Integer> termIds = new ConcurrentHashMap<String, Integer>();
+		private final AtomicInteger nextTermId = new AtomicInteger();
+		private final Map<Integer, ResumeVector> resumeVectors = new ConcurrentHashMap<Integer, ResumeVector>();
+		private final Map<Integer, Integer> resumeIdsByCandidateId = new ConcurrentHashMap<Integer, Integer>();
+		private final Map<Integer, JobPostingVector> jobPostingVectors = new ConcurrentHashMap<Integer, JobPostingVector>();
+
+		void putJobPostingVector(JobPostingFeatureRowDto row) {
+			jobPostingVectors.put(row.getId(), new JobPostingVector(row.getId(), row.getJobTitleId(),
+					termIdsOf(textOf(row.getJobTitle(), row.getJobDescription())), row.getClosingDate()));
+		}
+
+		void putResumeVector(ResumeFeatures features) {
+
+			List<int[]> skills = features.skills.stream().map(this::termIdsOf).filter(terms -> terms.length > 0).collect(Collectors.toList());
+			List<int[]> departments = features.departments.stream().map(this::termIdsOf).filter(terms -> terms.length > 0).collect(Collectors.toList());
+			int[] languages = features.languages.stream().mapToInt(this::termId).toArray();
+
+			ResumeVector vector = new ResumeVector(features.resumeId, features.candidateId, features.activated, skills.toArray(new int[0][]),
+					departments.toArray(new int[0][]), languages, ResumeFeatures.toArray(features.languageRanks),
+					ResumeFeatures.toArray(features.jobTitleIds), ResumeFeatures.toArray(features.jobTitleMonths));
+
+			ResumeVector previous = resumeVectors.put(vector.resumeId, vector);
+			if (previous != null && previous.candidateId != vector.candidateId) {
+				resumeIdsByCandidateId.remove(previous.candidateId, previous.resumeId);
+			}
+			resumeIdsByCandidateId.put(vector.candidateId, vector.resumeId);
+		}
+
+		void removeResumeVector(int resumeId) {
+
+			ResumeVector removed = resumeVectors.remove(resumeId);
+			if (removed != null) {
+				resumeIdsByCandidateId.remove(removed.candidateId, resumeId);
+			}
+		}
+
+		private int[] termIdsOf(String text) {
+
+			if (text == null || text.isBlank()) {
+				return new int[0];
+			}
+
+			return Arrays.stream(text.toLowerCase(TURKISH).split("[^\\p{L}\\p{N}+#]+"))
+					.filter(token -> !token.isEmpty())
+					.mapToInt(this::termId)
+					.sorted()
+					.distinct()
+					.toArray();
+		}
+
+		private int termId(String term) {
+			return termIds.computeIfAbsent(term, key -> nextTermId.getAndIncrement());
+		}
+
+		private static String textOf(String jobTitle, String jobDescription) {
+			return (jobTitle == null ? "" : jobTitle) + " " + (jobDescription == null ? "" : jobDescription);
+		}
+
+	}
+
+	static final class JobPostingVector {
+
+		private final int id;
+		private final Integer jobTitleId;
+		private final int[] terms;
+		private final LocalDate closingDate;
+
+		JobPostingVector(int id, Integer jobTitleId, int[] terms, LocalDate closingDate) {
+			this.id = id;
+			this.jobTitleId = jobTitleId;
+			this.terms = terms;
+			this.closingDate = closingDate;
+		}
+
+	}
+
+}
@@ -0,0 +1,132 @@
+package io.kodlama.hrms.business.concretes;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.kodlama.hrms.business.abstracts.ResumeDocumentService;
+import io.kodlama.hrms.business.abstracts.ResumeService;
+import io.kodlama.hrms.business.events.ResumeChangedEvent;
+import io.kodlama.hrms.core.utilities.results.DataResult;
+import io.kodlama.hrms.core.utilities.results.ErrorDataResult;
+import io.kodlama.hrms.dataAccess.abstracts.ResumeDao;
+import io.kodlama.hrms.entities.concretes.Resume;
+import io.kodlama.hrms.entities.dtos.ResumeWithAllRelatedEntitiesDto;
+
+@Service
+public class ResumeDocumentManager implements ResumeDocumentService {
+
+	private static final Logger logger = LoggerFactory.getLogger(ResumeDocumentManager.class);
+
+	private ResumeDao resumeDao;
+	private ResumeService resumeService;
+	private JdbcTemplate jdbcTemplate;
+	private ObjectMapper objectMapper;
+	private TaskExecutor resumeIndexExecutor;
+	private TransactionTemplate transactionTemplate;
+	private TransactionTemplate readOnlyTransactionTemplate;
+
+	@Autowired
+	public ResumeDocumentManager(ResumeDao resumeDao, ResumeService resumeService, JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+			@Qualifier("resumeIndexExecutor") TaskExecutor resumeIndexExecutor, PlatformTransactionManager transactionManager) {
+		this.resumeDao = resumeDao;
+		this.resumeService = resumeService;
+		this.jdbcTemplate = jdbcTemplate;
+		this.objectMapper = objectMapper;
+		this.resumeIndexExecutor = resumeIndexExecutor;
+		// Its own transaction even when called from an after-commit listener, whose connection no longer commits.
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate.setReadOnly(true);
+	}
+
+	// Runs once the change is committed, a rebuild started earlier could read the old rows.
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onResumeChanged(ResumeChangedEvent event) {
+		try {
+			resumeIndexExecutor.execute(() -> rebuild(event.getResumeId()));
+		} catch (TaskRejectedException exception) {
+			logger.warn("Resume index queue is full, document of resume {} is stale", event.getResumeId());
+			transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update("DELETE FROM resume_documents WHERE resume_id = ?", event.getResumeId()));
+		}
+	}
+
+	@Override
+	public byte[] getByCandidateId(int candidateId) {
+
+		List<String> documents = jdbcTemplate.queryForList("SELECT document::text FROM resume_documents WHERE candidate_id = ?", String.class, candidateId);
+		if (!documents.isEmpty()) {
+			return documents.get(0).getBytes(StandardCharsets.UTF_8);
+		}
+
+		Resume resume = resumeDao.getByCandidate_Id(candidateId);
+		if (resume == null) {
+			return serialize(new ErrorDataResult<ResumeWithAllRelatedEntitiesDto>("Özgeçmiş bulunamadı."));
+		}
+
+		// A read never writes: the missing document is served from a fresh build and stored by the index queue.
+		try {
+			resumeIndexExecutor.execute(() -> rebuild(resume.getId()));
+		} catch (TaskRejectedException exception) {
+			logger.warn("Resume index queue is full, document of resume {} is built on every read until the next change", resume.getId());
+		}
+		return build(candidateId);
+	}
+
+	@Override
+	public void rebuild(int resumeId) {
+
+		Integer candidateId = readOnlyTransactionTemplate.execute(status -> resumeDao.findById(resumeId)
+				.map(resume -> resume.getCandidate() == null ? null : resume.getCandidate().getId())
+				.orElse(null));
+
+		if (candidateId == null) {
+			jdbcTemplate.update("DELETE FROM resume_documents WHERE resume_id = ?", resumeId);
+			return;
+		}
+		store(resumeId, candidateId);
+	}
+
+	// The whole response body is stored, so a read hands the bytes out without touching Jackson.
+	private void store(int resumeId, int candidateId) {
+
+		byte[] document = build(candidateId);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			jdbcTemplate.update("DELETE FROM resume_documents WHERE resume_id = ? AND candidate_id <> ?", resumeId, candidateId);
+			jdbcTemplate.update("INSERT INTO resume_documents (candidate_id, resume_id, document, updated_at) VALUES (?, ?, ?::jsonb, now()) "
+					+ "ON CONFLICT (candidate_id) DO UPDATE SET resume_id = EXCLUDED.resume_id, document = EXCLUDED.document, updated_at = EXCLUDED.updated_at",
+					candidateId, resumeId, new String(document, StandardCharsets.UTF_8));
+		});
+	}
+
+	private byte[] build(int candidateId) {
+		return readOnlyTransactionTemplate.execute(status -> serialize(resumeService.getResumeDetailsByCandidateId(candidateId)));
+	}
+
+	private byte[] serialize(DataResult<ResumeWithAllRelatedEntitiesDto> result) {
+		try {
+			return objectMapper.writeValueAsBytes(result);
+		} catch (JsonProcessingException exception) {
+			throw new IllegalStateException("Resume document could not be serialized", exception);
+		}
+	}
+
+}
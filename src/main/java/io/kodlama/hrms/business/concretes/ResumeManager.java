@@ -3,40 +3,95 @@ package io.kodlama.hrms.business.concretes;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import io.kodlama.hrms.business.abstracts.CoverLetterService;
 import io.kodlama.hrms.business.abstracts.EducationService;
 import io.kodlama.hrms.business.abstracts.ExperienceService;
 import io.kodlama.hrms.business.abstracts.ImageService;
+import io.kodlama.hrms.business.abstracts.LanguageLevelService;
+import io.kodlama.hrms.business.abstracts.LinkService;
 import io.kodlama.hrms.business.abstracts.ResumeService;
+import io.kodlama.hrms.business.abstracts.SkillService;
+import io.kodlama.hrms.business.events.ResumeChangedEvent;
 import io.kodlama.hrms.core.utilities.results.DataResult;
+import io.kodlama.hrms.core.utilities.results.ErrorDataResult;
+import io.kodlama.hrms.core.utilities.results.ErrorResult;
 import io.kodlama.hrms.core.utilities.results.Result;
 import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
 import io.kodlama.hrms.core.utilities.results.SuccessResult;
 import io.kodlama.hrms.dataAccess.abstracts.ResumeDao;
+import io.kodlama.hrms.entities.concretes.Education;
+import io.kodlama.hrms.entities.concretes.Experience;
+import io.kodlama.hrms.entities.concretes.Image;
+import io.kodlama.hrms.entities.concretes.LanguageLevel;
+import io.kodlama.hrms.entities.concretes.Link;
 import io.kodlama.hrms.entities.concretes.Resume;
+import io.kodlama.hrms.entities.concretes.Skill;
+import io.kodlama.hrms.entities.dtos.PageDto;
+import io.kodlama.hrms.entities.dtos.ResumePatchDto;
 import io.kodlama.hrms.entities.dtos.ResumeWithAllRelatedEntitiesDto;
 
 @Service
 public class ResumeManager implements ResumeService {
 
+	private static final int MAX_DETAILS_PAGE_SIZE = 500;
+	private static final String CONFLICT_MESSAGE = "Özgeçmiş başka bir oturumda değiştirildi, lütfen yenileyip tekrar deneyin.";
+
 	private ResumeDao resumeDao;
 	private CoverLetterService coverLetterService;
 	private ImageService imageService;
 	private EducationService educationService;
 	private ExperienceService experienceService;
+	private LanguageLevelService languageLevelService;
+	private LinkService linkService;
+	private SkillService skillService;
+	private ApplicationEventPublisher applicationEventPublisher;
+	private TaskExecutor resumeDetailsExecutor;
+	private TransactionTemplate readOnlyTransactionTemplate;
+
+	@Value("${hrms.resume.details-lookup-timeout-ms:2000}")
+	private long detailsLookupTimeoutMillis;
 
 	@Autowired
-	public ResumeManager(ResumeDao resumeDao, CoverLetterService coverLetterService, ImageService imageService, EducationService educationService, ExperienceService experienceService) {
+	public ResumeManager(ResumeDao resumeDao, CoverLetterService coverLetterService, ImageService imageService, EducationService educationService, ExperienceService experienceService,
+			LanguageLevelService languageLevelService, LinkService linkService, SkillService skillService, ApplicationEventPublisher applicationEventPublisher,
+			@Qualifier("resumeDetailsExecutor") TaskExecutor resumeDetailsExecutor, PlatformTransactionManager transactionManager) {
 		this.resumeDao = resumeDao;
 		this.coverLetterService = coverLetterService;
 		this.imageService = imageService;
 		this.educationService = educationService;
 		this.experienceService = experienceService;
+		this.languageLevelService = languageLevelService;
+		this.linkService = linkService;
+		this.skillService = skillService;
+		this.applicationEventPublisher = applicationEventPublisher;
+		this.resumeDetailsExecutor = resumeDetailsExecutor;
+		this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate.setReadOnly(true);
 	}
 
 	@Override
@@ -45,23 +100,67 @@ public class ResumeManager implements ResumeService {
 		resume.setCreationDate(LocalDateTime.now());
 
 		resumeDao.save(resume);
+		applicationEventPublisher.publishEvent(new ResumeChangedEvent(resume.getId()));
 		return new SuccessResult("Özgeçmiş eklendi.");
 	}
 
+	// Writes the payload with one UPDATE guarded by the version the client last read, so an edit made
+	// in another tab since is never overwritten.
 	@Override
 	public Result update(Resume resume) {
-		
-		resume = getById(resume.getId()).getData();		
-		resume.setCreationDate(LocalDateTime.now());
 
-		resumeDao.save(resume);
-		return new SuccessResult("Özgeçmiş güncellendi.");
+		if (resume.getVersion() == null) {
+			return new ErrorResult("Özgeçmişin sürümü belirtilmelidir.");
+		}
+		if (resume.getCandidate() == null) {
+			return new ErrorResult("Aday belirtilmelidir.");
+		}
+
+		int updatedRows;
+		try {
+			updatedRows = resumeDao.updateCandidateByIdAndVersion(resume.getId(), resume.getVersion(), resume.getCandidate(), LocalDateTime.now());
+		} catch (DataIntegrityViolationException exception) {
+			return new ErrorResult("Aday bulunamadı.");
+		}
+
+		if (updatedRows == 0) {
+			return resumeDao.existsById(resume.getId())
+					? new ErrorResult(CONFLICT_MESSAGE)
+					: new ErrorResult("Özgeçmiş bulunamadı.");
+		}
+
+		applicationEventPublisher.publishEvent(new ResumeChangedEvent(resume.getId()));
+		return new SuccessDataResult<Integer>(resume.getVersion() + 1, "Özgeçmiş güncellendi.");
+	}
+
+	@Override
+	public Result patch(ResumePatchDto resumePatchDto) {
+
+		int updatedRows;
+		try {
+			updatedRows = resumePatchDto.getCoverLetterId() == null
+					? resumeDao.deleteCoverLetterByIdAndVersion(resumePatchDto.getId(), resumePatchDto.getVersion(), LocalDateTime.now())
+					: resumeDao.updateCoverLetterByIdAndVersion(resumePatchDto.getId(), resumePatchDto.getVersion(),
+							coverLetterService.getById(resumePatchDto.getCoverLetterId()).getData(), LocalDateTime.now());
+		} catch (DataIntegrityViolationException exception) {
+			return new ErrorResult("Ön yazı bulunamadı.");
+		}
+
+		if (updatedRows == 0) {
+			return resumeDao.existsById(resumePatchDto.getId())
+					? new ErrorResult(CONFLICT_MESSAGE)
+					: new ErrorResult("Özgeçmiş bulunamadı.");
+		}
+
+		applicationEventPublisher.publishEvent(new ResumeChangedEvent(resumePatchDto.getId()));
+		return new SuccessDataResult<Integer>(resumePatchDto.getVersion() + 1, "Özgeçmiş güncellendi.");
 	}
 
 	@Override
 	public Result delete(int id) {
 
 		resumeDao.deleteById(id);
+		applicationEventPublisher.publishEvent(new ResumeChangedEvent(id));
 		return new SuccessResult("Özgeçmiş silindi.");
 	}
 
@@ -81,35 +180,39 @@ public class ResumeManager implements ResumeService {
 	@Override
 	public Result addCoverLetterToResume(int resumeId, int coverLetterId) {
 
-		Resume resume = getById(resumeId).getData();
-		resume.setCoverLetter(coverLetterService.getById(coverLetterId).getData());
-
-		update(resume);
-		return new SuccessResult("Ön yazı özgeçmişe eklendi.");
+		Result result = patchCurrentVersion(resumeId, coverLetterId);
+		return result.isSuccess() ? new SuccessResult("Ön yazı özgeçmişe eklendi.") : result;
 	}
 	
 	@Override
 	public Result deleteCoverLetterFromResume(int resumeId) {
 		
-		Resume resume = getById(resumeId).getData();
-		resume.setCoverLetter(null);
-
-		update(resume);
-		return new SuccessResult("Ön yazı özgeçmişten kaldırıldı.");
+		Result result = patchCurrentVersion(resumeId, null);
+		return result.isSuccess() ? new SuccessResult("Ön yazı özgeçmişten kaldırıldı.") : result;
 	}
 	
 	@Override
-	public DataResult<List<ResumeWithAllRelatedEntitiesDto>> getAllResumesDetailsByActivatedCandidate() {
-		
-		List<ResumeWithAllRelatedEntitiesDto> resumes = new ArrayList<ResumeWithAllRelatedEntitiesDto>();
-		
-		for (Resume resume : getAll().getData()) {
-			if (resume.getCandidate().getUserActivation().isActivated() == true ) {
-				resumes.add(getResumeDetailsByCandidateId(resume.getCandidate().getId()).getData());
-			}			
-		};
-		
-		return new SuccessDataResult<List<ResumeWithAllRelatedEntitiesDto>>(resumes);
+	@Transactional(readOnly = true)
+	public DataResult<PageDto<ResumeWithAllRelatedEntitiesDto>> getAllResumesDetailsByActivatedCandidateByPage(int pageNo, int pageSize) {
+
+		pageSize = Math.max(1, Math.min(pageSize, MAX_DETAILS_PAGE_SIZE));
+		Pageable pageable = PageRequest.of(pageNo - 1, pageSize, Sort.by(Sort.Direction.DESC, "creationDate").and(Sort.by(Sort.Direction.DESC, "id")));
+		Page<Resume> page = resumeDao.getAllByActivatedCandidate(pageable);
+
+		return new SuccessDataResult<PageDto<ResumeWithAllRelatedEntitiesDto>>(
+				new PageDto<ResumeWithAllRelatedEntitiesDto>(new PageImpl<ResumeWithAllRelatedEntitiesDto>(getResumesDetails(page.getContent()), pageable, page.getTotalElements())));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public DataResult<List<ResumeWithAllRelatedEntitiesDto>> getResumesDetailsByIds(List<Integer> resumeIds) {
+
+		Map<Integer, Resume> resumes = resumeDao.getAllByIdIn(resumeIds).stream().collect(Collectors.toMap(Resume::getId, Function.identity()));
+
+		return new SuccessDataResult<List<ResumeWithAllRelatedEntitiesDto>>(getResumesDetails(resumeIds.stream()
+				.filter(resumes::containsKey)
+				.map(resumes::get)
+				.collect(Collectors.toList())));
 	}
 
 	@Override
@@ -118,24 +221,141 @@ public class ResumeManager implements ResumeService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public DataResult<ResumeWithAllRelatedEntitiesDto> getResumeDetailsByCandidateId(int candidateId) {
 
 		Resume resume = getByCandidateId(candidateId).getData();
+		if (resume == null) {
+			return new ErrorDataResult<ResumeWithAllRelatedEntitiesDto>("Özgeçmiş bulunamadı.");
+		}
+
+		return new SuccessDataResult<ResumeWithAllRelatedEntitiesDto>(getResumesDetails(List.of(resume)).get(0));
+	}
+
+	@Override
+	public CompletableFuture<DataResult<ResumeWithAllRelatedEntitiesDto>> getResumeDetailsByCandidateIdAsync(int candidateId) {
+
+		CompletableFuture<Resume> resumeFuture = lookup(() -> resumeDao.getByCandidate_Id(candidateId));
+		// The executor is saturated, load on the calling thread. A self-call would bypass the transactional
+		// proxy, so the read-only transaction is opened explicitly.
+		if (resumeFuture.isCompletedExceptionally()) {
+			return CompletableFuture.completedFuture(readOnlyTransactionTemplate.execute(status -> getResumeDetailsByCandidateId(candidateId)));
+		}
+
+		CompletableFuture<Image> imageFuture = lookup(() -> imageService.getByUserId(candidateId).getData());
+
+		return resumeFuture.thenCompose(resume -> {
+
+			if (resume == null) {
+				return CompletableFuture.completedFuture(new ErrorDataResult<ResumeWithAllRelatedEntitiesDto>("Özgeçmiş bulunamadı."));
+			}
+
+			List<Integer> resumeIds = List.of(resume.getId());
+			List<String> missingSections = new CopyOnWriteArrayList<String>();
+
+			CompletableFuture<Image> image = orElse(imageFuture, null, "imaj", missingSections);
+			CompletableFuture<List<Education>> educations = orElse(lookup(() -> educationService.getAllByResumeIdsSortedByGraduationDate(resumeIds).getData()),
+					new ArrayList<Education>(), "eğitimler", missingSections);
+			CompletableFuture<List<Experience>> experiences = orElse(lookup(() -> experienceService.getAllByResumeIdsSortedByTerminationDate(resumeIds).getData()),
+					new ArrayList<Experience>(), "deneyimler", missingSections);
+			CompletableFuture<List<LanguageLevel>> languageLevels = orElse(lookup(() -> languageLevelService.getAllByResumeIds(resumeIds).getData()),
+					new ArrayList<LanguageLevel>(), "dil seviyeleri", missingSections);
+			CompletableFuture<List<Link>> links = orElse(lookup(() -> linkService.getAllByResumeIds(resumeIds).getData()),
+					new ArrayList<Link>(), "bağlantılar", missingSections);
+			CompletableFuture<List<Skill>> skills = orElse(lookup(() -> skillService.getAllByResumeIds(resumeIds).getData()),
+					new ArrayList<Skill>(), "yetenekler", missingSections);
+
+			return CompletableFuture.allOf(image, educations, experiences, languageLevels, links, skills).thenApply(ignored -> {
+
+				ResumeWithAllRelatedEntitiesDto resumeWithAllRelatedEntitiesDto = new ResumeWithAllRelatedEntitiesDto(
+						resume.getId(),
+						resume.getCreationDate(),
+						resume.getCandidate(),
+						resume.getCoverLetter(),
+						image.join(),
+						educations.join(),
+						experiences.join(),
+						languageLevels.join(),
+						links.join(),
+						skills.join()
+						);
+
+				return missingSections.isEmpty()
+						? new SuccessDataResult<ResumeWithAllRelatedEntitiesDto>(resumeWithAllRelatedEntitiesDto)
+						: new SuccessDataResult<ResumeWithAllRelatedEntitiesDto>(resumeWithAllRelatedEntitiesDto, "Özgeçmişin bazı bölümleri yüklenemedi: " + String.join(", ", missingSections));
+			});
+		}).exceptionally(exception -> new ErrorDataResult<ResumeWithAllRelatedEntitiesDto>("Özgeçmiş yüklenemedi."));
+	}
+
+	// Every lookup runs in its own read-only transaction on the bounded details executor and gives
+	// up after the configured timeout. The thread may keep running, but the response does not wait.
+	// A full queue fails the lookup right away instead of blocking the request thread.
+	private <T> CompletableFuture<T> lookup(Supplier<T> supplier) {
+		try {
+			return CompletableFuture.supplyAsync(() -> readOnlyTransactionTemplate.execute(status -> supplier.get()), resumeDetailsExecutor)
+					.orTimeout(detailsLookupTimeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException exception) {
+			return CompletableFuture.failedFuture(exception);
+		}
+	}
+
+	private static <T> CompletableFuture<T> orElse(CompletableFuture<T> future, T fallback, String section, List<String> missingSections) {
+		return future.exceptionally(exception -> {
+			missingSections.add(section);
+			return fallback;
+		});
+	}
+
+	// One query per child type for the whole page of resumes, stitched together by resume id.
+	private List<ResumeWithAllRelatedEntitiesDto> getResumesDetails(List<Resume> resumes) {
+
+		if (resumes.isEmpty()) {
+			return new ArrayList<ResumeWithAllRelatedEntitiesDto>();
+		}
+
+		List<Integer> resumeIds = resumes.stream().map(Resume::getId).collect(Collectors.toList());
+		List<Integer> candidateIds = resumes.stream().map(resume -> resume.getCandidate().getId()).collect(Collectors.toList());
+
+		Map<Integer, Image> images = imageService.getAllByUserIds(candidateIds).getData().stream()
+				.collect(Collectors.toMap(image -> image.getUser().getId(), Function.identity(), (first, second) -> first));
+		Map<Integer, List<Education>> educations = educationService.getAllByResumeIdsSortedByGraduationDate(resumeIds).getData().stream()
+				.collect(Collectors.groupingBy(education -> education.getResume().getId()));
+		Map<Integer, List<Experience>> experiences = experienceService.getAllByResumeIdsSortedByTerminationDate(resumeIds).getData().stream()
+				.collect(Collectors.groupingBy(experience -> experience.getResume().getId()));
+		Map<Integer, List<LanguageLevel>> languageLevels = languageLevelService.getAllByResumeIds(resumeIds).getData().stream()
+				.collect(Collectors.groupingBy(languageLevel -> languageLevel.getResume().getId()));
+		Map<Integer, List<Link>> links = linkService.getAllByResumeIds(resumeIds).getData().stream()
+				.collect(Collectors.groupingBy(link -> link.getResume().getId()));
+		Map<Integer, List<Skill>> skills = skillService.getAllByResumeIds(resumeIds).getData().stream()
+				.collect(Collectors.groupingBy(skill -> skill.getResume().getId()));
+
+		List<ResumeWithAllRelatedEntitiesDto> resumesDetails = new ArrayList<ResumeWithAllRelatedEntitiesDto>();
+		for (Resume resume : resumes) {
+			resumesDetails.add(new ResumeWithAllRelatedEntitiesDto(
+					resume.getId(),
+					resume.getCreationDate(),
+					resume.getCandidate(),
+					resume.getCoverLetter(),
+					images.get(resume.getCandidate().getId()),
+					educations.getOrDefault(resume.getId(), new ArrayList<Education>()),
+					experiences.getOrDefault(resume.getId(), new ArrayList<Experience>()),
+					languageLevels.getOrDefault(resume.getId(), new ArrayList<LanguageLevel>()),
+					links.getOrDefault(resume.getId(), new ArrayList<Link>()),
+					skills.getOrDefault(resume.getId(), new ArrayList<Skill>())
+					));
+		}
+
+		return resumesDetails;
+	}
+
+	private Result patchCurrentVersion(int resumeId, Integer coverLetterId) {
+
+		Integer version = resumeDao.getVersionById(resumeId);
+		if (version == null) {
+			return new ErrorResult("Özgeçmiş bulunamadı.");
+		}
 
-		ResumeWithAllRelatedEntitiesDto resumeWithAllRelatedEntitiesDto = new ResumeWithAllRelatedEntitiesDto(
-				resume.getId(),
-				resume.getCreationDate(),
-				resume.getCandidate(),
-				resume.getCoverLetter(),
-				imageService.getByUserId(candidateId).getData(),
-				educationService.getAllByResumeIdSortedByGraduationDate(resume.getId()).getData(),
-				experienceService.getAllByResumeIdSortedByTerminationDate(resume.getId()).getData(),
-				resume.getLanguageLevels(),
-				resume.getLinks(),
-				resume.getSkills()
-				);
-
-		return new SuccessDataResult<ResumeWithAllRelatedEntitiesDto>(resumeWithAllRelatedEntitiesDto);
+		return patch(new ResumePatchDto(resumeId, version, coverLetterId));
 	}
 
 }
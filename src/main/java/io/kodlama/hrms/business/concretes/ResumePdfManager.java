@@ -0,0 +1,265 @@
+package io.kodlama.hrms.business.concretes;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Font;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.BaseFont;
+import com.lowagie.text.pdf.PdfWriter;
+
+import io.kodlama.hrms.business.abstracts.ResumeDocumentService;
+import io.kodlama.hrms.business.abstracts.ResumePdfService;
+import io.kodlama.hrms.core.utilities.results.DataResult;
+import io.kodlama.hrms.core.utilities.results.ErrorDataResult;
+import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
+
+@Service
+public class ResumePdfManager implements ResumePdfService {
+
+	private static final Logger logger = LoggerFactory.getLogger(ResumePdfManager.class);
+
+	private ResumeDocumentService resumeDocumentService;
+	private ObjectMapper objectMapper;
+	private TaskExecutor resumePdfExecutor;
+
+	// Renders in progress by content hash, so a burst of downloads of one resume renders it once.
+	private final Map<String, CompletableFuture<DataResult<Path>>> pendingRenders = new ConcurrentHashMap<String, CompletableFuture<DataResult<Path>>>();
+
+	@Value("${hrms.resume.pdf-cache-dir:./resume-pdf-cache}")
+	private String cacheDir;
+
+	@Value("${hrms.resume.pdf-cache-max-age-hours:168}")
+	private long cacheMaxAgeHours;
+
+	@Autowired
+	public ResumePdfManager(ResumeDocumentService resumeDocumentService, ObjectMapper objectMapper,
+			@Qualifier("resumePdfExecutor") TaskExecutor resumePdfExecutor) {
+		this.resumeDocumentService = resumeDocumentService;
+		this.objectMapper = objectMapper;
+		this.resumePdfExecutor = resumePdfExecutor;
+	}
+
+	@Override
+	public CompletableFuture<DataResult<Path>> getByCandidateId(int candidateId) {
+
+		// Loading the document may build it from the database, so it happens on the executor too.
+		// A full queue throws right here and the caller answers with 503.
+		return CompletableFuture.supplyAsync(() -> resumeDocumentService.getByCandidateId(candidateId), resumePdfExecutor)
+				.thenCompose(document -> getByDocument(candidateId, document));
+	}
+
+	private CompletableFuture<DataResult<Path>> getByDocument(int candidateId, byte[] document) {
+
+		JsonNode result;
+		try {
+			result = objectMapper.readTree(document);
+		} catch (IOException exception) {
+			return CompletableFuture.completedFuture(new ErrorDataResult<Path>("Özgeçmiş okunamadı."));
+		}
+
+		if (!result.path("success").asBoolean()) {
+			return CompletableFuture.completedFuture(new ErrorDataResult<Path>(result.path("message").asText(null)));
+		}
+
+		// The document changes whenever the resume does, so its hash is the cache key and stale files are never served.
+		String hash = sha256(document);
+		Path path = Paths.get(cacheDir).resolve(hash + ".pdf");
+		if (Files.exists(path)) {
+			touch(path);
+			return CompletableFuture.completedFuture(new SuccessDataResult<Path>(path));
+		}
+
+		CompletableFuture<DataResult<Path>> render = new CompletableFuture<DataResult<Path>>();
+		CompletableFuture<DataResult<Path>> pendingRender = pendingRenders.putIfAbsent(hash, render);
+		if (pendingRender != null) {
+			return pendingRender;
+		}
+
+		try {
+			resumePdfExecutor.execute(() -> {
+				try {
+					render(result.path("data"), path);
+					render.complete(new SuccessDataResult<Path>(path));
+				} catch (IOException | DocumentException exception) {
+					logger.warn("Resume PDF of candidate {} could not be rendered", candidateId, exception);
+					render.completeExceptionally(exception);
+				} finally {
+					pendingRenders.remove(hash);
+				}
+			});
+		} catch (RejectedExecutionException exception) {
+			// Fail fast instead of queueing without bound, the caller answers with 503.
+			pendingRenders.remove(hash);
+			render.completeExceptionally(exception);
+		}
+		return render;
+	}
+
+	@Override
+	@Scheduled(cron = "${hrms.resume.pdf-cache-eviction-cron:0 0 * * * *}")
+	public void evictExpired() {
+
+		Path directory = Paths.get(cacheDir);
+		if (!Files.isDirectory(directory)) {
+			return;
+		}
+
+		FileTime expiry = FileTime.from(Instant.now().minus(Duration.ofHours(cacheMaxAgeHours)));
+		List<Path> expiredPaths = new ArrayList<Path>();
+		try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, "*.pdf")) {
+			for (Path path : paths) {
+				if (Files.getLastModifiedTime(path).compareTo(expiry) < 0) {
+					expiredPaths.add(path);
+				}
+			}
+			// A hit since the scan touched the file, checking again keeps it for the download in progress.
+			for (Path path : expiredPaths) {
+				if (Files.getLastModifiedTime(path).compareTo(expiry) < 0) {
+					Files.deleteIfExists(path);
+				}
+			}
+		} catch (IOException exception) {
+			logger.warn("Resume PDF cache could not be evicted", exception);
+		}
+	}
+
+	private void render(JsonNode resume, Path path) throws IOException, DocumentException {
+
+		Files.createDirectories(path.getParent());
+
+		// Written to a temporary file first, readers only ever see a complete PDF.
+		Path temporaryPath = Files.createTempFile(path.getParent(), "render-", ".tmp");
+		try {
+			try (OutputStream outputStream = Files.newOutputStream(temporaryPath)) {
+				write(resume, outputStream);
+			}
+			Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(temporaryPath);
+		}
+	}
+
+	private void write(JsonNode resume, OutputStream outputStream) throws IOException, DocumentException {
+
+		BaseFont baseFont = BaseFont.createFont(BaseFont.HELVETICA, "Cp1254", BaseFont.NOT_EMBEDDED);
+		Font titleFont = new Font(baseFont, 18, Font.BOLD);
+		Font headingFont = new Font(baseFont, 13, Font.BOLD);
+		Font textFont = new Font(baseFont, 10);
+
+		Document document = new Document();
+		PdfWriter.getInstance(document, outputStream);
+		document.open();
+
+		JsonNode candidate = resume.path("candidate");
+		document.add(new Paragraph(text(candidate, "firstName") + " " + text(candidate, "lastName"), titleFont));
+		document.add(new Paragraph(text(candidate, "email"), textFont));
+
+		String coverLetter = text(resume.path("coverLetter"), "content");
+		if (!coverLetter.isEmpty()) {
+			addHeading(document, "Ön Yazı", headingFont);
+			document.add(new Paragraph(coverLetter, textFont));
+		}
+
+		if (resume.path("educations").size() > 0) {
+			addHeading(document, "Eğitim", headingFont);
+			for (JsonNode education : resume.path("educations")) {
+				document.add(new Paragraph(text(education, "nameOfEducationalInstitution") + " - " + text(education, "department")
+						+ " (" + text(education, "degree") + "), " + text(education, "startingDate") + " / " + text(education, "graduationDate"), textFont));
+			}
+		}
+
+		if (resume.path("experiences").size() > 0) {
+			addHeading(document, "Deneyim", headingFont);
+			for (JsonNode experience : resume.path("experiences")) {
+				document.add(new Paragraph(text(experience, "companyName") + " - " + text(experience.path("jobTitle"), "title")
+						+ ", " + text(experience, "startingDate") + " / " + text(experience, "terminationDate"), textFont));
+			}
+		}
+
+		if (resume.path("languageLevels").size() > 0) {
+			addHeading(document, "Yabancı Diller", headingFont);
+			for (JsonNode languageLevel : resume.path("languageLevels")) {
+				document.add(new Paragraph(text(languageLevel.path("language"), "language") + " - " + text(languageLevel.path("level"), "level"), textFont));
+			}
+		}
+
+		if (resume.path("links").size() > 0) {
+			addHeading(document, "Bağlantılar", headingFont);
+			for (JsonNode link : resume.path("links")) {
+				document.add(new Paragraph(text(link.path("linkName"), "name") + ": " + text(link, "url"), textFont));
+			}
+		}
+
+		if (resume.path("skills").size() > 0) {
+			addHeading(document, "Yetenekler", headingFont);
+			List<String> skills = new ArrayList<String>();
+			resume.path("skills").forEach(skill -> skills.add(text(skill, "skill")));
+			document.add(new Paragraph(String.join(", ", skills), textFont));
+		}
+
+		document.close();
+	}
+
+	private static void addHeading(Document document, String heading, Font font) throws DocumentException {
+
+		Paragraph paragraph = new Paragraph(heading, font);
+		paragraph.setSpacingBefore(12);
+		paragraph.setSpacingAfter(4);
+		document.add(paragraph);
+	}
+
+	private static String text(JsonNode node, String field) {
+		return node.path(field).isValueNode() ? node.path(field).asText() : "";
+	}
+
+	private static void touch(Path path) {
+		try {
+			Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+		} catch (IOException exception) {
+			// Only affects eviction order, a cache hit must not fail because of it.
+		}
+	}
+
+	private static String sha256(byte[] content) {
+		try {
+			StringBuilder hash = new StringBuilder();
+			for (byte b : MessageDigest.getInstance("SHA-256").digest(content)) {
+				hash.append(String.format("%02x", b));
+			}
+			return hash.toString();
+		} catch (NoSuchAlgorithmException exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+
+}
@@ -0,0 +1,478 @@
+package io.kodlama.hrms.business.concretes;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.kodlama.hrms.business.abstracts.ResumeSearchService;
+import io.kodlama.hrms.business.abstracts.ResumeService;
+import io.kodlama.hrms.business.events.ResumeChangedEvent;
+import io.kodlama.hrms.core.utilities.results.DataResult;
+import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
+import io.kodlama.hrms.dataAccess.abstracts.LevelDao;
+import io.kodlama.hrms.dataAccess.abstracts.ResumeDao;
+import io.kodlama.hrms.entities.dtos.LanguageLevelCriterionDto;
+import io.kodlama.hrms.entities.dtos.ResumeFeatureRowDto;
+import io.kodlama.hrms.entities.dtos.ResumeSearchDto;
+import io.kodlama.hrms.entities.dtos.ResumeWithAllRelatedEntitiesDto;
+
+@Service
+public class ResumeSearchManager implements ResumeSearchService {
+
+	private static final Logger logger = LoggerFactory.getLogger(ResumeSearchManager.class);
+
+	private static final Locale TURKISH = new Locale("tr", "TR");
+	private static final int REBUILD_BATCH_SIZE = 1000;
+	private static final int MAX_SIZE = 100;
+
+	// Documents rebuilt this long before the previous refresh are read again, so clock skew between the
+	// nodes and transactions that commit after the refresh read past them do not hide a change.
+	private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(5);
+
+	private ResumeDao resumeDao;
+	private LevelDao levelDao;
+	private ResumeService resumeService;
+	private TaskExecutor resumeIndexExecutor;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private volatile boolean ready;
+
+	// Start of the last rebuild or refresh, the next refresh reads the resumes changed since then.
+	private LocalDateTime refreshedAt;
+
+	// Posting lists of resume ids per normalized skill, per (language, level) pair, per language and
+	// level rank, and per job title held in an experience. Only resumes of activated candidates are
+	// searchable. Documents keep the indexed terms of each resume so it can be taken out of its old
+	// lists on change.
+	private RoaringBitmap activatedIds = new RoaringBitmap();
+	private Map<String, RoaringBitmap> skillIds = new HashMap<String, RoaringBitmap>();
+	private Map<Long, RoaringBitmap> languageLevelIds = new HashMap<Long, RoaringBitmap>();
+	private Map<Integer, NavigableMap<Integer, RoaringBitmap>> languageRankIds = new HashMap<Integer, NavigableMap<Integer, RoaringBitmap>>();
+	private Map<Integer, RoaringBitmap> jobTitleIds = new HashMap<Integer, RoaringBitmap>();
+	private Map<Integer, Document> documents = new HashMap<Integer, Document>();
+
+	// Rank of every level id, null for the levels without one. Reloaded by a rebuild or when an unknown level shows up.
+	private volatile Map<Integer, Integer> levelRanks = new HashMap<Integer, Integer>();
+
+	@Autowired
+	public ResumeSearchManager(ResumeDao resumeDao, LevelDao levelDao, ResumeService resumeService, @Qualifier("resumeIndexExecutor") TaskExecutor resumeIndexExecutor) {
+		this.resumeDao = resumeDao;
+		this.levelDao = levelDao;
+		this.resumeService = resumeService;
+		this.resumeIndexExecutor = resumeIndexExecutor;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		try {
+			rebuild();
+		} catch (RuntimeException exception) {
+			logger.warn("Resume search index could not be built, only resumes changed from now on will be searchable", exception);
+		}
+	}
+
+	// Other nodes change resumes too and only tell their own index. Each node therefore refreshes from
+	// the database, so a change made anywhere is searchable everywhere within an interval.
+	@Scheduled(fixedDelayString = "${hrms.resume.search-refresh-interval:30000}", initialDelayString = "${hrms.resume.search-refresh-interval:30000}")
+	public void onSchedule() {
+
+		if (!ready) {
+			return;
+		}
+
+		try {
+			refresh();
+		} catch (RuntimeException exception) {
+			logger.warn("Resume search index could not be refreshed", exception);
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onResumeChanged(ResumeChangedEvent event) {
+		try {
+			resumeIndexExecutor.execute(() -> index(event.getResumeId()));
+		} catch (TaskRejectedException exception) {
+			logger.warn("Resume index queue is full, search entry of resume {} is stale", event.getResumeId());
+		}
+	}
+
+	@Override
+	public synchronized void rebuild() {
+
+		LocalDateTime startedAt = LocalDateTime.now();
+		loadLevelRanks();
+
+		List<Integer> resumeIds = resumeDao.getAllIds();
+		for (int from = 0; from < resumeIds.size(); from += REBUILD_BATCH_SIZE) {
+			List<Integer> batch = resumeIds.subList(from, Math.min(from + REBUILD_BATCH_SIZE, resumeIds.size()));
+			Map<Integer, Document> batchDocuments = loadDocuments(batch);
+
+			lock.writeLock().lock();
+			try {
+				for (int resumeId : batch) {
+					delete(resumeId);
+				}
+				batchDocuments.values().forEach(this::add);
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		refreshedAt = startedAt;
+		ready = true;
+	}
+
+	// Every resume change rebuilds the resume's document, so the resumes whose document was rebuilt since
+	// the last refresh are read again, plus the ones the index does not have. Deletions leave no updated
+	// row behind, so they are only found by comparing the ids.
+	@Override
+	public synchronized void refresh() {
+
+		if (!ready) {
+			rebuild();
+			return;
+		}
+
+		LocalDateTime startedAt = LocalDateTime.now();
+
+		RoaringBitmap resumeIds = new RoaringBitmap();
+		resumeDao.getAllIds().forEach(resumeIds::add);
+
+		RoaringBitmap knownIds = new RoaringBitmap();
+		lock.readLock().lock();
+		try {
+			documents.keySet().forEach(knownIds::add);
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		RoaringBitmap changedIds = RoaringBitmap.andNot(resumeIds, knownIds);
+		resumeDao.getIdsWithDocumentUpdatedSince(refreshedAt.minus(REFRESH_OVERLAP)).forEach(changedIds::add);
+		RoaringBitmap deletedIds = RoaringBitmap.andNot(knownIds, resumeIds);
+
+		List<Integer> changedIdList = new ArrayList<Integer>(changedIds.getCardinality());
+		changedIds.forEach((int id) -> changedIdList.add(id));
+		for (int from = 0; from < changedIdList.size(); from += REBUILD_BATCH_SIZE) {
+			List<Integer> batch = changedIdList.subList(from, Math.min(from + REBUILD_BATCH_SIZE, changedIdList.size()));
+			Map<Integer, Document> batchDocuments = loadDocuments(batch);
+
+			lock.writeLock().lock();
+			try {
+				for (int resumeId : batch) {
+					delete(resumeId);
+				}
+				batchDocuments.values().forEach(this::add);
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		lock.writeLock().lock();
+		try {
+			deletedIds.forEach((int id) -> delete(id));
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		refreshedAt = startedAt;
+	}
+
+	@Override
+	public void index(int resumeId) {
+
+		Document document = loadDocuments(Collections.singletonList(resumeId)).get(resumeId);
+
+		lock.writeLock().lock();
+		try {
+			delete(resumeId);
+			if (document != null) {
+				add(document);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public DataResult<List<ResumeWithAllRelatedEntitiesDto>> search(ResumeSearchDto resumeSearchDto, int size) {
+
+		int limit = Math.max(1, Math.min(size, MAX_SIZE));
+		List<Integer> topIds = new ArrayList<Integer>();
+		int matchCount;
+
+		// A criterion omitted or sent as null means no constraint.
+		List<String> skills = orEmpty(resumeSearchDto.getSkills());
+		List<LanguageLevelCriterionDto> languageLevels = orEmpty(resumeSearchDto.getLanguageLevels());
+		List<Integer> jobTitleIds = orEmpty(resumeSearchDto.getJobTitleIds());
+		List<String> excludedSkills = orEmpty(resumeSearchDto.getExcludedSkills());
+		List<String> preferredSkills = orEmpty(resumeSearchDto.getPreferredSkills());
+
+		Map<Integer, Integer> criterionRanks = new HashMap<Integer, Integer>();
+		for (LanguageLevelCriterionDto languageLevel : languageLevels) {
+			if (languageLevel != null) {
+				criterionRanks.put(languageLevel.getLevelId(), rankOf(languageLevel.getLevelId()));
+			}
+		}
+
+		lock.readLock().lock();
+		try {
+			List<RoaringBitmap> required = new ArrayList<RoaringBitmap>();
+			required.add(activatedIds);
+
+			for (String skill : skills) {
+				required.add(skillIds.getOrDefault(normalize(skill), new RoaringBitmap()));
+			}
+			for (LanguageLevelCriterionDto languageLevel : languageLevels) {
+				if (languageLevel != null) {
+					required.add(atLeast(languageLevel.getLanguageId(), languageLevel.getLevelId(), criterionRanks.get(languageLevel.getLevelId())));
+				}
+			}
+
+			List<RoaringBitmap> jobTitles = new ArrayList<RoaringBitmap>();
+			for (Integer jobTitleId : jobTitleIds) {
+				RoaringBitmap ids = jobTitleId == null ? null : this.jobTitleIds.get(jobTitleId);
+				if (ids != null) {
+					jobTitles.add(ids);
+				}
+			}
+			if (!jobTitleIds.isEmpty()) {
+				required.add(FastAggregation.or(jobTitles.iterator()));
+			}
+
+			RoaringBitmap matches = FastAggregation.and(required.iterator());
+			for (String skill : excludedSkills) {
+				RoaringBitmap ids = skillIds.get(normalize(skill));
+				if (ids != null) {
+					matches.andNot(ids);
+				}
+			}
+
+			List<RoaringBitmap> preferred = new ArrayList<RoaringBitmap>(jobTitles);
+			for (String skill : preferredSkills) {
+				RoaringBitmap ids = skillIds.get(normalize(skill));
+				if (ids != null) {
+					preferred.add(ids);
+				}
+			}
+
+			matchCount = matches.getCardinality();
+			topIds = rank(matches, preferred, limit);
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		List<ResumeWithAllRelatedEntitiesDto> resumes = topIds.isEmpty()
+				? new ArrayList<ResumeWithAllRelatedEntitiesDto>()
+				: resumeService.getResumesDetailsByIds(topIds).getData();
+
+		return new SuccessDataResult<List<ResumeWithAllRelatedEntitiesDto>>(resumes, matchCount + " özgeçmiş bulundu.");
+	}
+
+	// A level with a rank is met by that rank or any higher one of the same language, a level
+	// without one only by itself.
+	private RoaringBitmap atLeast(int languageId, int levelId, Integer rank) {
+
+		if (rank == null) {
+			return languageLevelIds.getOrDefault(languageLevelKey(languageId, levelId), new RoaringBitmap());
+		}
+
+		NavigableMap<Integer, RoaringBitmap> ranks = languageRankIds.get(languageId);
+		return ranks == null ? new RoaringBitmap() : FastAggregation.or(ranks.tailMap(rank, true).values().iterator());
+	}
+
+	// The score of a match is the number of preferred terms it holds, newer resumes first on ties.
+	private static List<Integer> rank(RoaringBitmap matches, List<RoaringBitmap> preferred, int limit) {
+
+		PriorityQueue<long[]> top = new PriorityQueue<long[]>((first, second) -> first[1] != second[1]
+				? Long.compare(first[1], second[1])
+				: Long.compare(first[0], second[0]));
+
+		matches.forEach((int id) -> {
+			long score = 0;
+			for (RoaringBitmap ids : preferred) {
+				if (ids.contains(id)) {
+					score++;
+				}
+			}
+			top.add(new long[] { id, score });
+			if (top.size() > limit) {
+				top.poll();
+			}
+		});
+
+		List<Integer> ids = new ArrayList<Integer>();
+		while (!top.isEmpty()) {
+			ids.add(0, (int) top.poll()[0]);
+		}
+		return ids;
+	}
+
+	private Map<Integer, Document> loadDocuments(List<Integer> resumeIds) {
+
+		Map<Integer, Document> loaded = new HashMap<Integer, Document>();
+		for (ResumeFeatureRowDto row : resumeDao.getCandidateFeatureRowsByIdIn(resumeIds)) {
+			loaded.put(row.getResumeId(), new Document(row.getResumeId()));
+		}
+
+		for (int resumeId : resumeDao.getActivatedIdsByIdIn(resumeIds)) {
+			Document document = loaded.get(resumeId);
+			if (document != null) {
+				document.activated = true;
+			}
+		}
+
+		for (ResumeFeatureRowDto row : resumeDao.getSkillFeatureRowsByIdIn(resumeIds)) {
+			Document document = loaded.get(row.getResumeId());
+			String skill = normalize(row.getTerm());
+			if (document != null && !skill.isEmpty()) {
+				document.skills.add(skill);
+			}
+		}
+
+		for (ResumeFeatureRowDto row : resumeDao.getLanguageLevelFeatureRowsByIdIn(resumeIds)) {
+			Document document = loaded.get(row.getResumeId());
+			if (document != null && row.getReferenceId() != null && row.getSecondaryReferenceId() != null) {
+				document.languageLevels.add(languageLevelKey(row.getReferenceId(), row.getSecondaryReferenceId()));
+				Integer rank = rankOf(row.getSecondaryReferenceId());
+				if (rank != null) {
+					document.languageRanks.add(languageLevelKey(row.getReferenceId(), rank));
+				}
+			}
+		}
+
+		for (ResumeFeatureRowDto row : resumeDao.getExperienceFeatureRowsByIdIn(resumeIds)) {
+			Document document = loaded.get(row.getResumeId());
+			if (document != null && row.getReferenceId() != null) {
+				document.jobTitles.add(row.getReferenceId());
+			}
+		}
+
+		return loaded;
+	}
+
+	private void add(Document document) {
+
+		int id = document.resumeId;
+
+		if (document.activated) {
+			activatedIds.add(id);
+		}
+		document.skills.forEach(skill -> skillIds.computeIfAbsent(skill, key -> new RoaringBitmap()).add(id));
+		document.languageLevels.forEach(languageLevel -> languageLevelIds.computeIfAbsent(languageLevel, key -> new RoaringBitmap()).add(id));
+		document.languageRanks.forEach(languageRank -> languageRankIds.computeIfAbsent(languageIdOf(languageRank), key -> new TreeMap<Integer, RoaringBitmap>())
+				.computeIfAbsent(levelOf(languageRank), key -> new RoaringBitmap()).add(id));
+		document.jobTitles.forEach(jobTitle -> jobTitleIds.computeIfAbsent(jobTitle, key -> new RoaringBitmap()).add(id));
+		documents.put(id, document);
+	}
+
+	private void delete(int id) {
+
+		Document document = documents.remove(id);
+		if (document == null) {
+			return;
+		}
+
+		activatedIds.remove(id);
+		document.skills.forEach(skill -> removeFrom(skillIds, skill, id));
+		document.languageLevels.forEach(languageLevel -> removeFrom(languageLevelIds, languageLevel, id));
+		document.languageRanks.forEach(languageRank -> {
+			NavigableMap<Integer, RoaringBitmap> ranks = languageRankIds.get(languageIdOf(languageRank));
+			if (ranks != null) {
+				removeFrom(ranks, levelOf(languageRank), id);
+				if (ranks.isEmpty()) {
+					languageRankIds.remove(languageIdOf(languageRank));
+				}
+			}
+		});
+		document.jobTitles.forEach(jobTitle -> removeFrom(jobTitleIds, jobTitle, id));
+	}
+
+	private static <K> void removeFrom(Map<K, RoaringBitmap> index, K key, int id) {
+
+		RoaringBitmap ids = index.get(key);
+		if (ids != null) {
+			ids.remove(id);
+			if (ids.isEmpty()) {
+				index.remove(key);
+			}
+		}
+	}
+
+	private Integer rankOf(int levelId) {
+
+		if (!levelRanks.containsKey(levelId)) {
+			loadLevelRanks();
+		}
+		return levelRanks.get(levelId);
+	}
+
+	private void loadLevelRanks() {
+
+		Map<Integer, Integer> ranks = new HashMap<Integer, Integer>();
+		levelDao.findAll().forEach(level -> ranks.put(level.getId(), level.getRank()));
+		levelRanks = ranks;
+	}
+
+	private static <T> List<T> orEmpty(List<T> values) {
+		return values == null ? Collections.emptyList() : values;
+	}
+
+	private static String normalize(String skill) {
+		return skill == null ? "" : skill.toLowerCase(TURKISH).trim().replaceAll("\\s+", " ");
+	}
+
+	private static long languageLevelKey(int languageId, int levelId) {
+		return ((long) languageId << 32) | (levelId & 0xffffffffL);
+	}
+
+	private static int languageIdOf(long key) {
+		return (int) (key >>> 32);
+	}
+
+	private static int levelOf(long key) {
+		return (int) key;
+	}
+
+	private static final class Document {
+
+		private final int resumeId;
+		private boolean activated;
+		private final Set<String> skills = new HashSet<String>();
+		private final Set<Long> languageLevels = new HashSet<Long>();
+		private final Set<Long> languageRanks = new HashSet<Long>();
+		private final Set<Integer> jobTitles = new HashSet<Integer>();
+
+		Document(int resumeId) {
+			this.resumeId = resumeId;
+		}
+
+	}
+
+}
@@ -0,0 +1,299 @@
+package io.kodlama.hrms.business.concretes;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.kodlama.hrms.business.abstracts.ResumeSectionService;
+import io.kodlama.hrms.business.events.ResumeChangedEvent;
+import io.kodlama.hrms.core.utilities.results.ErrorResult;
+import io.kodlama.hrms.core.utilities.results.Result;
+import io.kodlama.hrms.core.utilities.results.SuccessResult;
+import io.kodlama.hrms.dataAccess.abstracts.ResumeDao;
+import io.kodlama.hrms.entities.concretes.Education;
+import io.kodlama.hrms.entities.concretes.Experience;
+import io.kodlama.hrms.entities.concretes.LanguageLevel;
+import io.kodlama.hrms.entities.concretes.Link;
+import io.kodlama.hrms.entities.concretes.Skill;
+import io.kodlama.hrms.entities.dtos.ResumeSectionsDto;
+
+@Service
+public class ResumeSectionManager implements ResumeSectionService {
+
+	private static final Section<Education> EDUCATIONS = new Section<Education>("educations",
+			new String[] { "name_of_educational_institution", "department", "degree", "starting_date", "graduation_date" },
+			Education::getId,
+			education -> new Object[] { education.getNameOfEducationalInstitution(), education.getDepartment(), education.getDegree(),
+					education.getStartingDate(), education.getGraduationDateValue() });
+
+	private static final Section<Experience> EXPERIENCES = new Section<Experience>("experiences",
+			new String[] { "company_name", "starting_date", "termination_date", "job_title_id" },
+			new Reference[] { null, null, null, new Reference("job_titles", "iş pozisyonu") },
+			Experience::getId,
+			experience -> new Object[] { experience.getCompanyName(), experience.getStartingDate(), experience.getTerminationDateValue(),
+					experience.getJobTitle() == null ? null : experience.getJobTitle().getId() });
+
+	private static final Section<Skill> SKILLS = new Section<Skill>("skills",
+			new String[] { "skill" },
+			Skill::getId,
+			skill -> new Object[] { skill.getSkill() });
+
+	private static final Section<Link> LINKS = new Section<Link>("links",
+			new String[] { "url", "link_name_id" },
+			new Reference[] { null, new Reference("link_names", "bağlantı adı") },
+			Link::getId,
+			link -> new Object[] { link.getUrl(), link.getLinkName() == null ? null : link.getLinkName().getId() });
+
+	private static final Section<LanguageLevel> LANGUAGE_LEVELS = new Section<LanguageLevel>("language_levels",
+			new String[] { "language_id", "level_id" },
+			new Reference[] { new Reference("languages", "dil"), new Reference("levels", "seviye") },
+			LanguageLevel::getId,
+			languageLevel -> new Object[] { languageLevel.getLanguage() == null ? null : languageLevel.getLanguage().getId(),
+					languageLevel.getLevel() == null ? null : languageLevel.getLevel().getId() });
+
+	private ResumeDao resumeDao;
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate transactionTemplate;
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	@Autowired
+	public ResumeSectionManager(ResumeDao resumeDao, JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+			ApplicationEventPublisher applicationEventPublisher) {
+		this.resumeDao = resumeDao;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.applicationEventPublisher = applicationEventPublisher;
+	}
+
+	@Override
+	public Result replaceSections(ResumeSectionsDto resumeSectionsDto) {
+
+		int resumeId = resumeSectionsDto.getResumeId();
+		if (!resumeDao.existsById(resumeId)) {
+			return new ErrorResult("Özgeçmiş bulunamadı.");
+		}
+
+		int[] counts = new int[3];
+		Result result = transactionTemplate.execute(status -> {
+
+			List<Plan> plans = new ArrayList<Plan>();
+			try {
+				addPlan(plans, EDUCATIONS, resumeSectionsDto.getEducations(), resumeId);
+				addPlan(plans, EXPERIENCES, resumeSectionsDto.getExperiences(), resumeId);
+				addPlan(plans, SKILLS, resumeSectionsDto.getSkills(), resumeId);
+				addPlan(plans, LINKS, resumeSectionsDto.getLinks(), resumeId);
+				addPlan(plans, LANGUAGE_LEVELS, resumeSectionsDto.getLanguageLevels(), resumeId);
+			} catch (IllegalArgumentException exception) {
+				status.setRollbackOnly();
+				return new ErrorResult(exception.getMessage());
+			}
+
+			for (Plan plan : plans) {
+				counts[0] += apply(plan.section.insertSql(), plan.inserts);
+				counts[1] += apply(plan.section.updateSql(), plan.updates);
+				counts[2] += apply(plan.section.deleteSql(), plan.deletes);
+			}
+			return null;
+		});
+
+		if (result != null) {
+			return result;
+		}
+
+		if (counts[0] + counts[1] + counts[2] > 0) {
+			applicationEventPublisher.publishEvent(new ResumeChangedEvent(resumeId));
+		}
+		return new SuccessResult(String.format("Özgeçmiş bölümleri güncellendi: %d eklendi, %d güncellendi, %d silindi.", counts[0], counts[1], counts[2]));
+	}
+
+	private <T> void addPlan(List<Plan> plans, Section<T> section, List<T> rows, int resumeId) {
+
+		if (rows == null) {
+			return;
+		}
+
+		// Locking the current rows keeps two concurrent replaces of the same resume from interleaving.
+		Map<Integer, List<Object>> currentRows = jdbcTemplate.query(section.selectSql(), resultSet -> {
+			Map<Integer, List<Object>> rowsById = new HashMap<Integer, List<Object>>();
+			while (resultSet.next()) {
+				rowsById.put(resultSet.getInt(1), readValues(resultSet, section.columns.length));
+			}
+			return rowsById;
+		}, resumeId);
+
+		Plan plan = new Plan(section);
+		Set<Integer> keptIds = new HashSet<Integer>();
+
+		for (T row : rows) {
+
+			int id = section.id.applyAsInt(row);
+			Object[] values = section.values.apply(row);
+
+			if (id == 0) {
+				plan.inserts.add(append(values, resumeId));
+				continue;
+			}
+
+			List<Object> currentValues = currentRows.get(id);
+			if (currentValues == null) {
+				throw new IllegalArgumentException(id + " numaralı kayıt bu özgeçmişe ait değil.");
+			}
+
+			if (keptIds.add(id) && !currentValues.equals(Arrays.asList(values))) {
+				plan.updates.add(append(values, id));
+			}
+		}
+
+		for (Integer id : currentRows.keySet()) {
+			if (!keptIds.contains(id)) {
+				plan.deletes.add(new Object[] { id });
+			}
+		}
+
+		checkReferences(section, plan);
+		plans.add(plan);
+	}
+
+	// The rows are written with plain JDBC, an unknown reference would only surface as a foreign key
+	// violation of the whole batch.
+	private void checkReferences(Section<?> section, Plan plan) {
+
+		for (int column = 0; column < section.columns.length; column++) {
+
+			Reference reference = section.references[column];
+			if (reference == null) {
+				continue;
+			}
+
+			Set<Integer> ids = new HashSet<Integer>();
+			for (List<Object[]> rows : List.of(plan.inserts, plan.updates)) {
+				for (Object[] row : rows) {
+					if (row[column] != null) {
+						ids.add((Integer) row[column]);
+					}
+				}
+			}
+			if (ids.isEmpty()) {
+				continue;
+			}
+
+			ids.removeAll(jdbcTemplate.queryForList(reference.selectSql(ids.size()), Integer.class, ids.toArray()));
+			if (!ids.isEmpty()) {
+				throw new IllegalArgumentException(ids.iterator().next() + " numaralı " + reference.label + " bulunamadı.");
+			}
+		}
+	}
+
+	private int apply(String sql, List<Object[]> batchArgs) {
+
+		if (batchArgs.isEmpty()) {
+			return 0;
+		}
+
+		jdbcTemplate.batchUpdate(sql, batchArgs);
+		return batchArgs.size();
+	}
+
+	private static List<Object> readValues(ResultSet resultSet, int columnCount) throws SQLException {
+
+		List<Object> values = new ArrayList<Object>(columnCount);
+		for (int i = 2; i <= columnCount + 1; i++) {
+			Object value = resultSet.getObject(i);
+			values.add(value instanceof Date ? ((Date) value).toLocalDate() : value);
+		}
+		return values;
+	}
+
+	private static Object[] append(Object[] values, Object last) {
+
+		Object[] args = Arrays.copyOf(values, values.length + 1);
+		args[values.length] = last;
+		return args;
+	}
+
+	private static class Section<T> {
+
+		private final String table;
+		private final String[] columns;
+		private final Reference[] references;
+		private final ToIntFunction<T> id;
+		private final Function<T, Object[]> values;
+
+		Section(String table, String[] columns, ToIntFunction<T> id, Function<T, Object[]> values) {
+			this(table, columns, new Reference[columns.length], id, values);
+		}
+
+		Section(String table, String[] columns, Reference[] references, ToIntFunction<T> id, Function<T, Object[]> values) {
+			this.table = table;
+			this.columns = columns;
+			this.references = references;
+			this.id = id;
+			this.values = values;
+		}
+
+		String selectSql() {
+			return "SELECT id, " + String.join(", ", columns) + " FROM " + table + " WHERE resume_id = ? FOR UPDATE";
+		}
+
+		String insertSql() {
+			return "INSERT INTO " + table + " (" + String.join(", ", columns) + ", resume_id) VALUES ("
+					+ String.join(", ", Collections.nCopies(columns.length + 1, "?")) + ")";
+		}
+
+		String updateSql() {
+			return "UPDATE " + table + " SET " + String.join(" = ?, ", columns) + " = ? WHERE id = ?";
+		}
+
+		String deleteSql() {
+			return "DELETE FROM " + table + " WHERE id = ?";
+		}
+
+	}
+
+	private static class Reference {
+
+		private final String table;
+		private final String label;
+
+		Reference(String table, String label) {
+			this.table = table;
+			this.label = label;
+		}
+
+		String selectSql(int idCount) {
+			return "SELECT id FROM " + table + " WHERE id IN (" + String.join(", ", Collections.nCopies(idCount, "?")) + ")";
+		}
+
+	}
+
+	private static class Plan {
+
+		private final Section<?> section;
+		private final List<Object[]> inserts = new ArrayList<Object[]>();
+		private final List<Object[]> updates = new ArrayList<Object[]>();
+		private final List<Object[]> deletes = new ArrayList<Object[]>();
+
+		Plan(Section<?> section) {
+			this.section = section;
+		}
+
+	}
+
+}
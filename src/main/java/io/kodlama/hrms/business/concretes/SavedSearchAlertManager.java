@@ -0,0 +1,430 @@
+package io.kodlama.hrms.business.concretes;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.kodlama.hrms.business.abstracts.CandidateService;
+import io.kodlama.hrms.business.abstracts.EmailService;
+import io.kodlama.hrms.business.abstracts.SavedSearchAlertService;
+import io.kodlama.hrms.dataAccess.abstracts.SavedSearchDao;
+import io.kodlama.hrms.entities.concretes.JobPosting;
+import io.kodlama.hrms.entities.concretes.SavedSearch;
+import io.kodlama.hrms.entities.dtos.SavedSearchIndexEntryDto;
+
+@Service
+public class SavedSearchAlertManager implements SavedSearchAlertService {
+
+	private static final Logger logger = LoggerFactory.getLogger(SavedSearchAlertManager.class);
+
+	private static final Locale TURKISH = new Locale("tr", "TR");
+	private static final int MIN_PREFIX_LENGTH = 3;
+
+	// Rows updated this long before the previous refresh are read again, so clock skew between the
+	// nodes and transactions that commit after the refresh read past them do not hide a change.
+	private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(5);
+	private static final int REFRESH_BATCH_SIZE = 1000;
+
+	private SavedSearchDao savedSearchDao;
+	private CandidateService candidateService;
+	private EmailService emailService;
+	private TaskExecutor savedSearchAlertExecutor;
+	private int batchSize;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private volatile boolean ready;
+
+	// Changes made while a rebuild or refresh reads the database, replayed once its result is applied.
+	private List<Runnable> mutationsDuringRebuild;
+
+	// Start of the last rebuild or refresh, the next refresh reads the searches updated since then.
+	private LocalDateTime refreshedAt;
+
+	// Reverse index of the saved searches: for every criterion, one bitmap of search ids per value
+	// plus one for the searches that leave the criterion empty. A search with keywords is filed
+	// under its longest keyword only and the rest are verified against the posting afterwards.
+	private Dimension cities = new Dimension();
+	private Dimension jobTitles = new Dimension();
+	private Dimension workingTimes = new Dimension();
+	private Dimension workingTypes = new Dimension();
+	private Map<String, RoaringBitmap> keywordIds = new HashMap<String, RoaringBitmap>();
+	private RoaringBitmap withoutKeywordIds = new RoaringBitmap();
+	private Map<Integer, SavedSearchIndexEntryDto> documents = new HashMap<Integer, SavedSearchIndexEntryDto>();
+	private Map<Integer, Set<String>> keywords = new HashMap<Integer, Set<String>>();
+
+	@Autowired
+	public SavedSearchAlertManager(SavedSearchDao savedSearchDao, CandidateService candidateService, EmailService emailService,
+			@Qualifier("savedSearchAlertExecutor") TaskExecutor savedSearchAlertExecutor, @Value("${hrms.savedSearch.alert-batch-size:100}") int batchSize) {
+		this.savedSearchDao = savedSearchDao;
+		this.candidateService = candidateService;
+		this.emailService = emailService;
+		this.savedSearchAlertExecutor = savedSearchAlertExecutor;
+		this.batchSize = batchSize;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		try {
+			rebuild();
+		} catch (RuntimeException exception) {
+			logger.warn("Saved search index could not be built, alerts will only match searches saved from now on", exception);
+		}
+	}
+
+	// Searches are saved on every node but each node only indexes its own, so every node refreshes
+	// its index from the database and a search saved anywhere gets alerts everywhere within an interval.
+	@Scheduled(fixedDelayString = "${hrms.savedSearch.index-refresh-interval:30000}", initialDelayString = "${hrms.savedSearch.index-refresh-interval:30000}")
+	public void onSchedule() {
+
+		if (!ready) {
+			return;
+		}
+
+		try {
+			refresh();
+		} catch (RuntimeException exception) {
+			logger.warn("Saved search index could not be refreshed", exception);
+		}
+	}
+
+	@Override
+	public synchronized void rebuild() {
+
+		LocalDateTime startedAt = LocalDateTime.now();
+		openMutationLog();
+
+		List<SavedSearchIndexEntryDto> entries;
+		try {
+			entries = savedSearchDao.getAllIndexEntries();
+		} catch (RuntimeException exception) {
+			closeMutationLog();
+			throw exception;
+		}
+
+		lock.writeLock().lock();
+		try {
+			cities = new Dimension();
+			jobTitles = new Dimension();
+			workingTimes = new Dimension();
+			workingTypes = new Dimension();
+			keywordIds = new HashMap<String, RoaringBitmap>();
+			withoutKeywordIds = new RoaringBitmap();
+			documents = new HashMap<Integer, SavedSearchIndexEntryDto>();
+			keywords = new HashMap<Integer, Set<String>>();
+
+			entries.forEach(this::add);
+
+			// Every mutation sets a search's final state, so replaying one the snapshot already saw is harmless.
+			mutationsDuringRebuild.forEach(Runnable::run);
+			mutationsDuringRebuild = null;
+			refreshedAt = startedAt;
+			ready = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// Reads the searches updated since the last refresh, plus the ones the index does not have, and
+	// drops the indexed ones deleted since. Deletions leave no row behind, so they are only found by
+	// comparing the ids.
+	@Override
+	public synchronized void refresh() {
+
+		if (!ready) {
+			rebuild();
+			return;
+		}
+
+		LocalDateTime startedAt = LocalDateTime.now();
+		openMutationLog();
+
+		RoaringBitmap idsInDatabase = new RoaringBitmap();
+		List<SavedSearchIndexEntryDto> entries;
+		try {
+			savedSearchDao.getAllIds().forEach(idsInDatabase::add);
+			entries = new ArrayList<SavedSearchIndexEntryDto>(savedSearchDao.getAllIndexEntriesUpdatedSince(refreshedAt.minus(REFRESH_OVERLAP)));
+
+			List<Integer> missingIds = new ArrayList<Integer>();
+			RoaringBitmap.andNot(idsInDatabase, indexedIds()).forEach((int id) -> missingIds.add(id));
+			for (int from = 0; from < missingIds.size(); from += REFRESH_BATCH_SIZE) {
+				entries.addAll(savedSearchDao.getAllIndexEntriesByIdIn(missingIds.subList(from, Math.min(from + REFRESH_BATCH_SIZE, missingIds.size()))));
+			}
+		} catch (RuntimeException exception) {
+			closeMutationLog();
+			throw exception;
+		}
+
+		lock.writeLock().lock();
+		try {
+			RoaringBitmap.andNot(indexedIds(), idsInDatabase).forEach((int id) -> delete(id));
+			entries.forEach(this::replace);
+
+			mutationsDuringRebuild.forEach(Runnable::run);
+			mutationsDuringRebuild = null;
+			refreshedAt = startedAt;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void index(SavedSearch savedSearch) {
+
+		SavedSearchIndexEntryDto entry = new SavedSearchIndexEntryDto(savedSearch.getId(), savedSearch.getCandidate().getId(),
+				savedSearch.getCity() == null ? null : savedSearch.getCity().getId(),
+				savedSearch.getJobTitle() == null ? null : savedSearch.getJobTitle().getId(),
+				savedSearch.getWorkingTime() == null ? null : savedSearch.getWorkingTime().getId(),
+				savedSearch.getWorkingType() == null ? null : savedSearch.getWorkingType().getId(),
+				savedSearch.getKeywords());
+
+		lock.writeLock().lock();
+		try {
+			logMutation(() -> replace(entry));
+			replace(entry);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void remove(int savedSearchId) {
+
+		lock.writeLock().lock();
+		try {
+			logMutation(() -> delete(savedSearchId));
+			delete(savedSearchId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// Callers invoke this once the posting's transaction has committed, the alerts go out right away.
+	@Override
+	public void notifyMatchingCandidates(JobPosting jobPosting) {
+
+		List<Integer> candidateIds = getMatchingCandidateIds(jobPosting);
+
+		for (int from = 0; from < candidateIds.size(); from += batchSize) {
+			List<Integer> batch = candidateIds.subList(from, Math.min(from + batchSize, candidateIds.size()));
+			try {
+				savedSearchAlertExecutor.execute(() -> emailService.sendJobPostingAlertToAll(candidateService.getAllByIds(batch).getData(), jobPosting));
+			} catch (TaskRejectedException exception) {
+				logger.warn("Saved search alert queue is full, {} candidates will not be notified of job posting {}", candidateIds.size() - from, jobPosting.getId());
+				return;
+			}
+		}
+	}
+
+	private List<Integer> getMatchingCandidateIds(JobPosting jobPosting) {
+
+		Set<String> tokens = prefixesOf(tokenize((jobPosting.getJobTitle() == null ? "" : jobPosting.getJobTitle().getTitle()) + " "
+				+ (jobPosting.getJobDescription() == null ? "" : jobPosting.getJobDescription())));
+
+		Set<Integer> candidateIds = new LinkedHashSet<Integer>();
+
+		lock.readLock().lock();
+		try {
+			List<RoaringBitmap> keywordMatches = new ArrayList<RoaringBitmap>();
+			keywordMatches.add(withoutKeywordIds);
+			for (String token : tokens) {
+				RoaringBitmap ids = keywordIds.get(token);
+				if (ids != null) {
+					keywordMatches.add(ids);
+				}
+			}
+
+			RoaringBitmap matchingIds = FastAggregation.and(
+					cities.match(jobPosting.getCity() == null ? null : jobPosting.getCity().getId()),
+					jobTitles.match(jobPosting.getJobTitle() == null ? null : jobPosting.getJobTitle().getId()),
+					workingTimes.match(jobPosting.getWorkingTime() == null ? null : jobPosting.getWorkingTime().getId()),
+					workingTypes.match(jobPosting.getWorkingType() == null ? null : jobPosting.getWorkingType().getId()),
+					FastAggregation.or(keywordMatches.iterator()));
+
+			matchingIds.forEach((int id) -> {
+				if (tokens.containsAll(keywords.getOrDefault(id, Collections.emptySet()))) {
+					candidateIds.add(documents.get(id).getCandidateId());
+				}
+			});
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		return new ArrayList<Integer>(candidateIds);
+	}
+
+	private RoaringBitmap indexedIds() {
+
+		lock.readLock().lock();
+		try {
+			return RoaringBitmap.bitmapOf(documents.keySet().stream().mapToInt(Integer::intValue).toArray());
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void openMutationLog() {
+
+		lock.writeLock().lock();
+		try {
+			mutationsDuringRebuild = new ArrayList<Runnable>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void closeMutationLog() {
+
+		lock.writeLock().lock();
+		try {
+			mutationsDuringRebuild = null;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void logMutation(Runnable mutation) {
+		if (mutationsDuringRebuild != null) {
+			mutationsDuringRebuild.add(mutation);
+		}
+	}
+
+	private void replace(SavedSearchIndexEntryDto entry) {
+		delete(entry.getId());
+		add(entry);
+	}
+
+	private void add(SavedSearchIndexEntryDto entry) {
+
+		int id = entry.getId();
+
+		cities.add(entry.getCityId(), id);
+		jobTitles.add(entry.getJobTitleId(), id);
+		workingTimes.add(entry.getWorkingTimeId(), id);
+		workingTypes.add(entry.getWorkingTypeId(), id);
+
+		Set<String> entryKeywords = tokenize(entry.getKeywords());
+		if (entryKeywords.isEmpty()) {
+			withoutKeywordIds.add(id);
+		} else {
+			String anchor = entryKeywords.stream().max((first, second) -> Integer.compare(first.length(), second.length())).get();
+			keywordIds.computeIfAbsent(anchor, key -> new RoaringBitmap()).add(id);
+			keywords.put(id, entryKeywords);
+		}
+
+		documents.put(id, entry);
+	}
+
+	private void delete(int id) {
+
+		SavedSearchIndexEntryDto entry = documents.remove(id);
+		if (entry == null) {
+			return;
+		}
+
+		cities.remove(entry.getCityId(), id);
+		jobTitles.remove(entry.getJobTitleId(), id);
+		workingTimes.remove(entry.getWorkingTimeId(), id);
+		workingTypes.remove(entry.getWorkingTypeId(), id);
+
+		Set<String> entryKeywords = keywords.remove(id);
+		if (entryKeywords == null) {
+			withoutKeywordIds.remove(id);
+		} else {
+			for (String keyword : entryKeywords) {
+				RoaringBitmap ids = keywordIds.get(keyword);
+				if (ids != null) {
+					ids.remove(id);
+					if (ids.isEmpty()) {
+						keywordIds.remove(keyword);
+					}
+				}
+			}
+		}
+	}
+
+	private static Set<String> tokenize(String text) {
+
+		if (text == null || text.isBlank()) {
+			return Collections.emptySet();
+		}
+
+		return Arrays.stream(text.toLowerCase(TURKISH).split("[^\\p{L}\\p{N}]+"))
+				.filter(token -> !token.isEmpty())
+				.collect(Collectors.toCollection(HashSet::new));
+	}
+
+	// Turkish inflects by appending suffixes, so a keyword matches every posting word it is a prefix of:
+	// "mühendis" finds "mühendisi" and "mühendisler". Keywords shorter than three letters ("c", "go")
+	// still need the exact word. Stems that change at the root ("kitap", "kitabı") are not matched.
+	private static Set<String> prefixesOf(Set<String> tokens) {
+
+		Set<String> prefixes = new HashSet<String>(tokens);
+		for (String token : tokens) {
+			for (int length = MIN_PREFIX_LENGTH; length < token.length(); length++) {
+				prefixes.add(token.substring(0, length));
+			}
+		}
+		return prefixes;
+	}
+
+	private static class Dimension {
+
+		private final Map<Integer, RoaringBitmap> valueIds = new HashMap<Integer, RoaringBitmap>();
+		private final RoaringBitmap anyValueIds = new RoaringBitmap();
+
+		void add(Integer value, int id) {
+			if (value == null) {
+				anyValueIds.add(id);
+			} else {
+				valueIds.computeIfAbsent(value, key -> new RoaringBitmap()).add(id);
+			}
+		}
+
+		void remove(Integer value, int id) {
+			if (value == null) {
+				anyValueIds.remove(id);
+				return;
+			}
+			RoaringBitmap ids = valueIds.get(value);
+			if (ids != null) {
+				ids.remove(id);
+				if (ids.isEmpty()) {
+					valueIds.remove(value);
+				}
+			}
+		}
+
+		RoaringBitmap match(Integer value) {
+			RoaringBitmap ids = value == null ? null : valueIds.get(value);
+			return ids == null ? anyValueIds : RoaringBitmap.or(ids, anyValueIds);
+		}
+
+	}
+
+}
@@ -0,0 +1,83 @@
+package io.kodlama.hrms.business.concretes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import io.kodlama.hrms.business.abstracts.SavedSearchAlertService;
+import io.kodlama.hrms.business.abstracts.SavedSearchService;
+import io.kodlama.hrms.core.utilities.results.DataResult;
+import io.kodlama.hrms.core.utilities.results.ErrorResult;
+import io.kodlama.hrms.core.utilities.results.Result;
+import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
+import io.kodlama.hrms.core.utilities.results.SuccessResult;
+import io.kodlama.hrms.dataAccess.abstracts.SavedSearchDao;
+import io.kodlama.hrms.entities.concretes.SavedSearch;
+
+@Service
+public class SavedSearchManager implements SavedSearchService {
+
+	private SavedSearchDao savedSearchDao;
+	private SavedSearchAlertService savedSearchAlertService;
+
+	@Autowired
+	public SavedSearchManager(SavedSearchDao savedSearchDao, SavedSearchAlertService savedSearchAlertService) {
+		this.savedSearchDao = savedSearchDao;
+		this.savedSearchAlertService = savedSearchAlertService;
+	}
+
+	@Override
+	public Result add(SavedSearch savedSearch) {
+
+		if (savedSearch.getCandidate() == null) {
+			return new ErrorResult("Aday belirtilmelidir.");
+		}
+
+		savedSearch.setCreationDate(LocalDateTime.now());
+		savedSearch.setUpdatedAt(savedSearch.getCreationDate());
+
+		savedSearchDao.save(savedSearch);
+		savedSearchAlertService.index(savedSearch);
+		return new SuccessResult("Kayıtlı arama eklendi.");
+	}
+
+	@Override
+	public Result update(SavedSearch savedSearch) {
+
+		if (savedSearch.getCandidate() == null) {
+			return new ErrorResult("Aday belirtilmelidir.");
+		}
+
+		savedSearch.setUpdatedAt(LocalDateTime.now());
+
+		savedSearchDao.save(savedSearch);
+		savedSearchAlertService.index(savedSearch);
+		return new SuccessResult("Kayıtlı arama güncellendi.");
+	}
+
+	@Override
+	public Result delete(int id) {
+
+		savedSearchDao.deleteById(id);
+		savedSearchAlertService.remove(id);
+		return new SuccessResult("Kayıtlı arama silindi.");
+	}
+
+	@Override
+	public DataResult<List<SavedSearch>> getAll() {
+		return new SuccessDataResult<List<SavedSearch>>(savedSearchDao.findAll());
+	}
+
+	@Override
+	public DataResult<SavedSearch> getById(int id) {
+		return new SuccessDataResult<SavedSearch>(savedSearchDao.getById(id));
+	}
+
+	@Override
+	public DataResult<List<SavedSearch>> getAllByCandidateId(int candidateId) {
+		return new SuccessDataResult<List<SavedSearch>>(savedSearchDao.getByCandidate_Id(candidateId));
+	}
+
+}
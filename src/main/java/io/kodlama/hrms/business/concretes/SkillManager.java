@@ -1,11 +1,14 @@
 package io.kodlama.hrms.business.concretes;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import io.kodlama.hrms.business.abstracts.SkillService;
+import io.kodlama.hrms.business.events.ResumeChangedEvent;
 import io.kodlama.hrms.core.utilities.results.DataResult;
 import io.kodlama.hrms.core.utilities.results.Result;
 import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
@@ -17,16 +20,19 @@ import io.kodlama.hrms.entities.concretes.Skill;
 public class SkillManager implements SkillService {
 
 	private SkillDao skillDao;
+	private ApplicationEventPublisher applicationEventPublisher;
 
 	@Autowired
-	public SkillManager(SkillDao skillDao) {
+	public SkillManager(SkillDao skillDao, ApplicationEventPublisher applicationEventPublisher) {
 		this.skillDao = skillDao;
+		this.applicationEventPublisher = applicationEventPublisher;
 	}
 
 	@Override
 	public Result add(Skill skill) {
 
 		skillDao.save(skill);
+		publishResumeChanged(skill.getResume() == null ? null : skill.getResume().getId());
 		return new SuccessResult("Yetenek eklendi.");
 	}
 
@@ -34,13 +40,17 @@ public class SkillManager implements SkillService {
 	public Result update(Skill skill) {
 
 		skillDao.save(skill);
+		publishResumeChanged(skill.getResume() == null ? null : skill.getResume().getId());
 		return new SuccessResult("Yetenek güncellendi.");
 	}
 
 	@Override
 	public Result delete(int id) {
 
+		Integer resumeId = skillDao.getResumeIdById(id);
+
 		skillDao.deleteById(id);
+		publishResumeChanged(resumeId);
 		return new SuccessResult("Yetenek silindi.");
 	}
 
@@ -54,4 +64,15 @@ public class SkillManager implements SkillService {
 		return new SuccessDataResult<Skill>(skillDao.getById(id));
 	}
 
+	@Override
+	public DataResult<List<Skill>> getAllByResumeIds(Collection<Integer> resumeIds) {
+		return new SuccessDataResult<List<Skill>>(skillDao.getByResume_IdIn(resumeIds));
+	}
+
+	private void publishResumeChanged(Integer resumeId) {
+		if (resumeId != null) {
+			applicationEventPublisher.publishEvent(new ResumeChangedEvent(resumeId));
+		}
+	}
+
 }
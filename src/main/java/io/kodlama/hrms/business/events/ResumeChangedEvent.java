@@ -0,0 +1,12 @@
+package io.kodlama.hrms.business.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ResumeChangedEvent {
+
+	private int resumeId;
+
+}
@@ -0,0 +1,52 @@
+package io.kodlama.hrms.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+	@Bean
+	public ThreadPoolTaskExecutor savedSearchAlertExecutor(@Value("${hrms.savedSearch.alert-threads:2}") int threads,
+			@Value("${hrms.savedSearch.alert-queue-capacity:1000}") int queueCapacity) {
+		return boundedExecutor("saved-search-alert-", threads, queueCapacity);
+	}
+
+	@Bean
+	public ThreadPoolTaskExecutor jobPostingIndexExecutor() {
+		return boundedExecutor("job-posting-index-", 1, 1);
+	}
+
+	@Bean
+	public ThreadPoolTaskExecutor resumeIndexExecutor(@Value("${hrms.resume.index-threads:1}") int threads,
+			@Value("${hrms.resume.index-queue-capacity:10000}") int queueCapacity) {
+		return boundedExecutor("resume-index-", threads, queueCapacity);
+	}
+
+	@Bean
+	public ThreadPoolTaskExecutor resumeDetailsExecutor(@Value("${hrms.resume.details-threads:8}") int threads,
+			@Value("${hrms.resume.details-queue-capacity:200}") int queueCapacity) {
+		return boundedExecutor("resume-details-", threads, queueCapacity);
+	}
+
+	@Bean
+	public ThreadPoolTaskExecutor resumePdfExecutor(@Value("${hrms.resume.pdf-threads:2}") int threads,
+			@Value("${hrms.resume.pdf-queue-capacity:20}") int queueCapacity) {
+		return boundedExecutor("resume-pdf-", threads, queueCapacity);
+	}
+
+	private static ThreadPoolTaskExecutor boundedExecutor(String threadNamePrefix, int threads, int queueCapacity) {
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix(threadNamePrefix);
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.initialize();
+		return executor;
+	}
+
+}
@@ -3,6 +3,8 @@ package io.kodlama.hrms.dataAccess.abstracts;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import io.kodlama.hrms.entities.concretes.CoverLetter;
 
@@ -10,4 +12,7 @@ public interface CoverLetterDao extends JpaRepository<CoverLetter, Integer> {
 
 	List<CoverLetter> getByCandidate_Id(int candidateId);
 
+	@Query("SELECT r.id FROM Resume r WHERE r.coverLetter.id = :id")
+	Integer getResumeIdById(@Param("id") int id);
+
 }
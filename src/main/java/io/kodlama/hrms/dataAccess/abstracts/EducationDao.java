@@ -1,9 +1,12 @@
 package io.kodlama.hrms.dataAccess.abstracts;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import io.kodlama.hrms.entities.concretes.Education;
 
@@ -13,4 +16,9 @@ public interface EducationDao extends JpaRepository<Education, Integer> {
 
 	List<Education> getByResume_Id(int resumeId, Sort sort);
 
+	@Query("SELECT e.resume.id FROM Education e WHERE e.id = :id")
+	Integer getResumeIdById(@Param("id") int id);
+
+	List<Education> getByResume_IdIn(Collection<Integer> resumeIds, Sort sort);
+
 }
@@ -1,9 +1,12 @@
 package io.kodlama.hrms.dataAccess.abstracts;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import io.kodlama.hrms.entities.concretes.Experience;
 
@@ -13,4 +16,10 @@ public interface ExperienceDao extends JpaRepository<Experience, Integer> {
 
 	List<Experience> getByResume_Id(int resumeId, Sort sort);
 
+	@Query("SELECT e.resume.id FROM Experience e WHERE e.id = :id")
+	Integer getResumeIdById(@Param("id") int id);
+
+	@Query("SELECT e FROM Experience e LEFT JOIN FETCH e.jobTitle WHERE e.resume.id IN :resumeIds")
+	List<Experience> getAllByResumeIdIn(@Param("resumeIds") Collection<Integer> resumeIds, Sort sort);
+
 }
@@ -1,6 +1,11 @@
 package io.kodlama.hrms.dataAccess.abstracts;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import io.kodlama.hrms.entities.concretes.Image;
 
@@ -8,4 +13,9 @@ public interface ImageDao extends JpaRepository<Image, Integer> {
 
 	Image getByUser_Id(int userId);
 
+	List<Image> getByUser_IdIn(Collection<Integer> userIds);
+
+	@Query("SELECT r.id FROM Resume r WHERE r.candidate.id = :userId")
+	Integer getResumeIdByUserId(@Param("userId") int userId);
+
 }
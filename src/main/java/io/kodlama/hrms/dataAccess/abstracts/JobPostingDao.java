@@ -1,14 +1,31 @@
 package io.kodlama.hrms.dataAccess.abstracts;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import javax.persistence.QueryHint;
+
+
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import io.kodlama.hrms.entities.concretes.JobPosting;
+import io.kodlama.hrms.entities.dtos.JobPostingExportDto;
+import io.kodlama.hrms.entities.dtos.JobPostingFeatureRowDto;
+import io.kodlama.hrms.entities.dtos.JobPostingFingerprintEntryDto;
+import io.kodlama.hrms.entities.dtos.JobPostingIndexEntryDto;
+import io.kodlama.hrms.entities.dtos.JobPostingSummaryDto;
 
-public interface JobPostingDao extends JpaRepository<JobPosting, Integer> {
+public interface JobPostingDao extends JpaRepository<JobPosting, Integer>, JpaSpecificationExecutor<JobPosting> {
 	
 	List<JobPosting> getByIsActive(boolean isActive);
 
@@ -18,4 +35,97 @@ public interface JobPostingDao extends JpaRepository<JobPosting, Integer> {
 
 	List<JobPosting> getByIsActiveAndEmployer_Id(boolean isActive, int employerId, Sort sort);
 
+	@Query("SELECT j FROM JobPosting j WHERE j.isActive = true AND (j.postingDate < :postingDate OR (j.postingDate = :postingDate AND j.id < :id)) ORDER BY j.postingDate DESC, j.id DESC")
+	List<JobPosting> getActiveOnesSortedByPostingDateAfter(@Param("postingDate") LocalDateTime postingDate, @Param("id") int id, Pageable pageable);
+
+	@Query("SELECT j FROM JobPosting j, JobPostingViewCount v WHERE v.jobPostingId = j.id AND j.isActive = true ORDER BY v.viewCount DESC, j.id DESC")
+	List<JobPosting> getMostViewedActiveOnes(Pageable pageable);
+
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.JobPostingIndexEntryDto(j.id, j.city.id, j.jobTitle.id, j.workingTime.id, j.workingType.id, j.postingDate, j.closingDate) FROM JobPosting j WHERE j.isActive = true")
+	List<JobPostingIndexEntryDto> getAllActiveIndexEntries();
+
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.JobPostingIndexEntryDto(j.id, j.city.id, j.jobTitle.id, j.workingTime.id, j.workingType.id, j.postingDate, j.closingDate) FROM JobPosting j WHERE j.isActive = true AND j.updatedAt >= :updatedSince")
+	List<JobPostingIndexEntryDto> getAllActiveIndexEntriesUpdatedSince(@Param("updatedSince") LocalDateTime updatedSince);
+
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.JobPostingIndexEntryDto(j.id, j.city.id, j.jobTitle.id, j.workingTime.id, j.workingType.id, j.postingDate, j.closingDate) FROM JobPosting j WHERE j.isActive = true AND j.id IN :ids")
+	List<JobPostingIndexEntryDto> getAllActiveIndexEntriesByIdIn(@Param("ids") Collection<Integer> ids);
+
+	@Query("SELECT j.id FROM JobPosting j WHERE j.isActive = true")
+	List<Integer> getAllActiveIds();
+
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.JobPostingFeatureRowDto(j.id, t.id, t.title, j.jobDescription, j.closingDate) FROM JobPosting j LEFT JOIN j.jobTitle t WHERE j.isActive = true")
+	List<JobPostingFeatureRowDto> getAllActiveFeatureRows();
+
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.JobPostingFeatureRowDto(j.id, t.id, t.title, j.jobDescription, j.closingDate) FROM JobPosting j LEFT JOIN j.jobTitle t WHERE j.isActive = true AND j.updatedAt >= :updatedSince")
+	List<JobPostingFeatureRowDto> getAllActiveFeatureRowsUpdatedSince(@Param("updatedSince") LocalDateTime updatedSince);
+
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.JobPostingFeatureRowDto(j.id, t.id, t.title, j.jobDescription, j.closingDate) FROM JobPosting j LEFT JOIN j.jobTitle t WHERE j.isActive = true AND j.id IN :ids")
+	List<JobPostingFeatureRowDto> getAllActiveFeatureRowsByIdIn(@Param("ids") Collection<Integer> ids);
+
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.JobPostingFingerprintEntryDto(j.id, j.employer.id, j.jobTitle.id, j.city.id, j.jobDescription, j.closingDate) FROM JobPosting j WHERE j.closingDate IS NULL OR j.closingDate >= CURRENT_DATE")
+	List<JobPostingFingerprintEntryDto> getAllOpenFingerprintEntries();
+
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.JobPostingFingerprintEntryDto(j.id, j.employer.id, j.jobTitle.id, j.city.id, j.jobDescription, j.closingDate) FROM JobPosting j WHERE (j.closingDate IS NULL OR j.closingDate >= CURRENT_DATE) AND j.updatedAt >= :updatedSince")
+	List<JobPostingFingerprintEntryDto> getAllOpenFingerprintEntriesUpdatedSince(@Param("updatedSince") LocalDateTime updatedSince);
+
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.JobPostingFingerprintEntryDto(j.id, j.employer.id, j.jobTitle.id, j.city.id, j.jobDescription, j.closingDate) FROM JobPosting j WHERE (j.closingDate IS NULL OR j.closingDate >= CURRENT_DATE) AND j.id IN :ids")
+	List<JobPostingFingerprintEntryDto> getAllOpenFingerprintEntriesByIdIn(@Param("ids") Collection<Integer> ids);
+
+	@Query("SELECT j.id FROM JobPosting j WHERE j.closingDate IS NULL OR j.closingDate >= CURRENT_DATE")
+	List<Integer> getAllOpenIds();
+
+	@Query("SELECT j FROM JobPosting j WHERE j.isActive = false AND NOT EXISTS (SELECT c.id FROM JobPostingConfirmation c WHERE c.jobPosting = j)")
+	List<JobPosting> getAllWaitingForPostingConfirmation(Sort sort);
+
+	@Query(value = "SELECT j FROM JobPosting j WHERE j.isActive = false AND NOT EXISTS (SELECT c.id FROM JobPostingConfirmation c WHERE c.jobPosting = j)",
+			countQuery = "SELECT COUNT(j) FROM JobPosting j WHERE j.isActive = false AND NOT EXISTS (SELECT c.id FROM JobPostingConfirmation c WHERE c.jobPosting = j)")
+	Page<JobPosting> getAllWaitingForPostingConfirmation(Pageable pageable);
+
+	@Query("SELECT j FROM JobPosting j WHERE j.id IN :ids AND j.isActive = false AND NOT EXISTS (SELECT c.id FROM JobPostingConfirmation c WHERE c.jobPosting = j)")
+	List<JobPosting> getAllWaitingForPostingConfirmationByIdIn(@Param("ids") Collection<Integer> ids);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE JobPosting j SET j.isActive = true, j.updatedAt = CURRENT_TIMESTAMP WHERE j.id IN :ids")
+	int activateAllByIdIn(@Param("ids") Collection<Integer> ids);
+
+	@Query("SELECT COUNT(j) FROM JobPosting j WHERE j.isActive = false AND NOT EXISTS (SELECT c.id FROM JobPostingConfirmation c WHERE c.jobPosting = j)")
+	long countWaitingForPostingConfirmation();
+
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.JobPostingSummaryDto(j.id, t.title, e.companyName, c.city, j.postingDate, j.closingDate, j.salaryMin, j.salaryMax, j.salaryMinAmount, j.salaryMaxAmount) "
+			+ "FROM JobPosting j LEFT JOIN j.jobTitle t LEFT JOIN j.employer e LEFT JOIN j.city c WHERE j.isActive = true")
+	List<JobPostingSummaryDto> getActiveSummaries(Pageable pageable);
+
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.JobPostingSummaryDto(j.id, t.title, e.companyName, c.city, j.postingDate, j.closingDate, j.salaryMin, j.salaryMax, j.salaryMinAmount, j.salaryMaxAmount) "
+			+ "FROM JobPosting j LEFT JOIN j.jobTitle t LEFT JOIN j.employer e LEFT JOIN j.city c WHERE j.isActive = true AND e.id = :employerId")
+	List<JobPostingSummaryDto> getActiveSummariesByEmployerId(@Param("employerId") int employerId, Sort sort);
+
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.JobPostingSummaryDto(j.id, t.title, e.companyName, c.city, j.postingDate, j.closingDate, j.salaryMin, j.salaryMax, j.salaryMinAmount, j.salaryMaxAmount) "
+			+ "FROM JobPosting j LEFT JOIN j.jobTitle t LEFT JOIN j.employer e LEFT JOIN j.city c WHERE j.id IN :ids")
+	List<JobPostingSummaryDto> getSummariesByIdIn(@Param("ids") Collection<Integer> ids);
+
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.JobPostingExportDto(j.id, j.jobDescription, j.numberOfOpenPositions, j.salaryMin, j.salaryMax, j.salaryMinAmount, j.salaryMaxAmount, "
+			+ "j.postingDate, j.closingDate, j.isActive, j.updatedAt, e.id, e.companyName, t.id, t.title, c.id, c.city, wt.id, wt.time, wy.id, wy.type) "
+			+ "FROM JobPosting j LEFT JOIN j.employer e LEFT JOIN j.jobTitle t LEFT JOIN j.city c LEFT JOIN j.workingTime wt LEFT JOIN j.workingType wy ORDER BY j.id")
+	Stream<JobPostingExportDto> streamAllForExport();
+
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.JobPostingExportDto(j.id, j.jobDescription, j.numberOfOpenPositions, j.salaryMin, j.salaryMax, j.salaryMinAmount, j.salaryMaxAmount, "
+			+ "j.postingDate, j.closingDate, j.isActive, j.updatedAt, e.id, e.companyName, t.id, t.title, c.id, c.city, wt.id, wt.time, wy.id, wy.type) "
+			+ "FROM JobPosting j LEFT JOIN j.employer e LEFT JOIN j.jobTitle t LEFT JOIN j.city c LEFT JOIN j.workingTime wt LEFT JOIN j.workingType wy WHERE j.updatedAt >= :updatedSince ORDER BY j.id")
+	Stream<JobPostingExportDto> streamAllForExportUpdatedSince(@Param("updatedSince") LocalDateTime updatedSince);
+
+	@Query(value = "SELECT j.* FROM job_postings j, websearch_to_tsquery('turkish', :query) tq, websearch_to_tsquery('english', :query) eq "
+			+ "WHERE j.is_active = true AND j.search_vector @@ (tq || eq) "
+			+ "AND (:cityId = 0 OR j.city_id = :cityId) AND (:jobTitleId = 0 OR j.job_title_id = :jobTitleId) "
+			+ "AND (:workingTimeId = 0 OR j.working_time_id = :workingTimeId) AND (:workingTypeId = 0 OR j.working_type_id = :workingTypeId) "
+			+ "ORDER BY ts_rank(j.search_vector, tq || eq) DESC, j.posting_date DESC, j.id DESC",
+			countQuery = "SELECT COUNT(*) FROM job_postings j, websearch_to_tsquery('turkish', :query) tq, websearch_to_tsquery('english', :query) eq "
+			+ "WHERE j.is_active = true AND j.search_vector @@ (tq || eq) "
+			+ "AND (:cityId = 0 OR j.city_id = :cityId) AND (:jobTitleId = 0 OR j.job_title_id = :jobTitleId) "
+			+ "AND (:workingTimeId = 0 OR j.working_time_id = :workingTimeId) AND (:workingTypeId = 0 OR j.working_type_id = :workingTypeId)",
+			nativeQuery = true)
+	Page<JobPosting> searchActiveOnes(@Param("query") String query, @Param("cityId") int cityId, @Param("jobTitleId") int jobTitleId,
+			@Param("workingTimeId") int workingTimeId, @Param("workingTypeId") int workingTypeId, Pageable pageable);
+
 }
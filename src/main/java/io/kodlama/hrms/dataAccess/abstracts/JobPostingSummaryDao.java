@@ -0,0 +1,13 @@
+package io.kodlama.hrms.dataAccess.abstracts;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import io.kodlama.hrms.entities.dtos.JobPostingFilterDto;
+import io.kodlama.hrms.entities.dtos.JobPostingSummaryDto;
+
+public interface JobPostingSummaryDao {
+
+	Page<JobPostingSummaryDto> getActiveSummariesFilteredBy(JobPostingFilterDto filter, Pageable pageable);
+
+}
@@ -1,9 +1,20 @@
 package io.kodlama.hrms.dataAccess.abstracts;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import io.kodlama.hrms.entities.concretes.LanguageLevel;
 
 public interface LanguageLevelDao extends JpaRepository<LanguageLevel, Integer> {
 
+	@Query("SELECT l.resume.id FROM LanguageLevel l WHERE l.id = :id")
+	Integer getResumeIdById(@Param("id") int id);
+
+	@Query("SELECT l FROM LanguageLevel l JOIN FETCH l.language JOIN FETCH l.level WHERE l.resume.id IN :resumeIds")
+	List<LanguageLevel> getAllByResumeIdIn(@Param("resumeIds") Collection<Integer> resumeIds);
+
 }
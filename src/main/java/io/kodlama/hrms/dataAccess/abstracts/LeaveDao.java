@@ -22,6 +22,13 @@ public interface LeaveDao extends JpaRepository<Leave, Integer> {
 											@Param("startDate") LocalDate startDate, 
 											@Param("endDate") LocalDate endDate);
 
+	// Same range expression and status filter as ex_leaves_employee_period in schema.sql, so the probe is served by its GiST index.
+	@Query(value = "SELECT EXISTS (SELECT 1 FROM leaves WHERE employee_id = :employeeId AND status IN ('PENDING', 'APPROVED') "
+			+ "AND daterange(start_date, end_date, '[]') && daterange(:startDate, :endDate, '[]'))", nativeQuery = true)
+	boolean existsActiveOverlapping(@Param("employeeId") int employeeId, 
+									@Param("startDate") LocalDate startDate, 
+									@Param("endDate") LocalDate endDate);
+
 	@Query("SELECT l FROM Leave l WHERE l.employee.id = :employeeId AND l.status = 'APPROVED' AND l.leaveType = 'ANNUAL' AND l.startDate >= :yearStart AND l.endDate <= :yearEnd")
 	List<Leave> getApprovedAnnualLeavesByEmployeeAndYear(@Param("employeeId") int employeeId, 
 														@Param("yearStart") LocalDate yearStart, 
@@ -1,9 +1,20 @@
 package io.kodlama.hrms.dataAccess.abstracts;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import io.kodlama.hrms.entities.concretes.Link;
 
 public interface LinkDao extends JpaRepository<Link, Integer> {
 
+	@Query("SELECT l.resume.id FROM Link l WHERE l.id = :id")
+	Integer getResumeIdById(@Param("id") int id);
+
+	@Query("SELECT l FROM Link l LEFT JOIN FETCH l.linkName WHERE l.resume.id IN :resumeIds")
+	List<Link> getAllByResumeIdIn(@Param("resumeIds") Collection<Integer> resumeIds);
+
 }
@@ -1,13 +1,92 @@
 package io.kodlama.hrms.dataAccess.abstracts;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import io.kodlama.hrms.entities.concretes.Candidate;
+import io.kodlama.hrms.entities.concretes.CoverLetter;
 import io.kodlama.hrms.entities.concretes.Resume;
+import io.kodlama.hrms.entities.dtos.ResumeFeatureRowDto;
 
 public interface ResumeDao extends JpaRepository<Resume, Integer> {
 
+	@Override
+	@EntityGraph("Resume.candidate")
+	List<Resume> findAll(Sort sort);
+
+	@Override
+	@EntityGraph("Resume.candidate")
+	Page<Resume> findAll(Pageable pageable);
+
+	@EntityGraph("Resume.candidate")
 	Resume getByCandidate_Id(int candidateId);
 	
 	Resume getByCoverLetter_Id(int coverLetterId);
 
+	@Query("SELECT r.version FROM Resume r WHERE r.id = :id")
+	Integer getVersionById(@Param("id") int id);
+
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Resume r SET r.candidate = :candidate, r.creationDate = :creationDate, r.version = r.version + 1 WHERE r.id = :id AND r.version = :version")
+	int updateCandidateByIdAndVersion(@Param("id") int id, @Param("version") int version, @Param("candidate") Candidate candidate,
+			@Param("creationDate") LocalDateTime creationDate);
+
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Resume r SET r.coverLetter = :coverLetter, r.creationDate = :creationDate, r.version = r.version + 1 WHERE r.id = :id AND r.version = :version")
+	int updateCoverLetterByIdAndVersion(@Param("id") int id, @Param("version") int version, @Param("coverLetter") CoverLetter coverLetter,
+			@Param("creationDate") LocalDateTime creationDate);
+
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Resume r SET r.coverLetter = NULL, r.creationDate = :creationDate, r.version = r.version + 1 WHERE r.id = :id AND r.version = :version")
+	int deleteCoverLetterByIdAndVersion(@Param("id") int id, @Param("version") int version, @Param("creationDate") LocalDateTime creationDate);
+
+	@Query(value = "SELECT r FROM Resume r JOIN FETCH r.candidate c JOIN FETCH c.userActivation a LEFT JOIN FETCH r.coverLetter WHERE a.isActivated = true",
+			countQuery = "SELECT COUNT(r) FROM Resume r JOIN r.candidate c JOIN c.userActivation a WHERE a.isActivated = true")
+	Page<Resume> getAllByActivatedCandidate(Pageable pageable);
+
+	@Query("SELECT r FROM Resume r JOIN FETCH r.candidate c LEFT JOIN FETCH c.userActivation LEFT JOIN FETCH r.coverLetter WHERE r.id IN :ids")
+	List<Resume> getAllByIdIn(@Param("ids") Collection<Integer> ids);
+
+	@Query("SELECT r.id FROM Resume r ORDER BY r.id")
+	List<Integer> getAllIds();
+
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.ResumeFeatureRowDto(r.id, r.candidate.id) FROM Resume r WHERE r.id IN :resumeIds")
+	List<ResumeFeatureRowDto> getCandidateFeatureRowsByIdIn(@Param("resumeIds") Collection<Integer> resumeIds);
+
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.ResumeFeatureRowDto(s.resume.id, s.skill) FROM Skill s WHERE s.resume.id IN :resumeIds")
+	List<ResumeFeatureRowDto> getSkillFeatureRowsByIdIn(@Param("resumeIds") Collection<Integer> resumeIds);
+
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.ResumeFeatureRowDto(e.resume.id, e.department) FROM Education e WHERE e.resume.id IN :resumeIds")
+	List<ResumeFeatureRowDto> getEducationFeatureRowsByIdIn(@Param("resumeIds") Collection<Integer> resumeIds);
+
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.ResumeFeatureRowDto(l.resume.id, v.rank, g.language) FROM LanguageLevel l JOIN l.language g LEFT JOIN l.level v WHERE l.resume.id IN :resumeIds")
+	List<ResumeFeatureRowDto> getLanguageFeatureRowsByIdIn(@Param("resumeIds") Collection<Integer> resumeIds);
+
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.ResumeFeatureRowDto(l.resume.id, l.language.id, l.level.id) FROM LanguageLevel l WHERE l.resume.id IN :resumeIds")
+	List<ResumeFeatureRowDto> getLanguageLevelFeatureRowsByIdIn(@Param("resumeIds") Collection<Integer> resumeIds);
+
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.ResumeFeatureRowDto(e.resume.id, e.jobTitle.id, e.startingDate, e.terminationDate) FROM Experience e WHERE e.resume.id IN :resumeIds")
+	List<ResumeFeatureRowDto> getExperienceFeatureRowsByIdIn(@Param("resumeIds") Collection<Integer> resumeIds);
+
+	@Query("SELECT r.id FROM Resume r JOIN r.candidate c JOIN c.userActivation a WHERE a.isActivated = true AND r.id IN :resumeIds")
+	List<Integer> getActivatedIdsByIdIn(@Param("resumeIds") Collection<Integer> resumeIds);
+
+	// Every resume change rebuilds the resume's document, so its timestamp tells which resumes changed.
+	@Query(value = "SELECT resume_id FROM resume_documents WHERE updated_at >= :updatedSince", nativeQuery = true)
+	List<Integer> getIdsWithDocumentUpdatedSince(@Param("updatedSince") LocalDateTime updatedSince);
+
 }
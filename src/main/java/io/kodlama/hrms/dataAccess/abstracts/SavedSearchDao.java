@@ -0,0 +1,30 @@
+package io.kodlama.hrms.dataAccess.abstracts;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import io.kodlama.hrms.entities.concretes.SavedSearch;
+import io.kodlama.hrms.entities.dtos.SavedSearchIndexEntryDto;
+
+public interface SavedSearchDao extends JpaRepository<SavedSearch, Integer> {
+
+	List<SavedSearch> getByCandidate_Id(int candidateId);
+
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.SavedSearchIndexEntryDto(s.id, s.candidate.id, s.city.id, s.jobTitle.id, s.workingTime.id, s.workingType.id, s.keywords) FROM SavedSearch s")
+	List<SavedSearchIndexEntryDto> getAllIndexEntries();
+
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.SavedSearchIndexEntryDto(s.id, s.candidate.id, s.city.id, s.jobTitle.id, s.workingTime.id, s.workingType.id, s.keywords) FROM SavedSearch s WHERE s.updatedAt >= :updatedSince")
+	List<SavedSearchIndexEntryDto> getAllIndexEntriesUpdatedSince(@Param("updatedSince") LocalDateTime updatedSince);
+
+	@Query("SELECT new io.kodlama.hrms.entities.dtos.SavedSearchIndexEntryDto(s.id, s.candidate.id, s.city.id, s.jobTitle.id, s.workingTime.id, s.workingType.id, s.keywords) FROM SavedSearch s WHERE s.id IN :ids")
+	List<SavedSearchIndexEntryDto> getAllIndexEntriesByIdIn(@Param("ids") Collection<Integer> ids);
+
+	@Query("SELECT s.id FROM SavedSearch s")
+	List<Integer> getAllIds();
+
+}
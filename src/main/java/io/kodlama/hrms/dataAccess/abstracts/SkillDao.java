@@ -1,9 +1,19 @@
 package io.kodlama.hrms.dataAccess.abstracts;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import io.kodlama.hrms.entities.concretes.Skill;
 
 public interface SkillDao extends JpaRepository<Skill, Integer> {
 
+	@Query("SELECT s.resume.id FROM Skill s WHERE s.id = :id")
+	Integer getResumeIdById(@Param("id") int id);
+
+	List<Skill> getByResume_IdIn(Collection<Integer> resumeIds);
+
 }
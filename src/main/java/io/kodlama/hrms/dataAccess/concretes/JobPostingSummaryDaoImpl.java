@@ -0,0 +1,74 @@
+package io.kodlama.hrms.dataAccess.concretes;
+
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Root;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import io.kodlama.hrms.dataAccess.abstracts.JobPostingSummaryDao;
+import io.kodlama.hrms.dataAccess.specifications.JobPostingSpecifications;
+import io.kodlama.hrms.entities.concretes.City;
+import io.kodlama.hrms.entities.concretes.Employer;
+import io.kodlama.hrms.entities.concretes.JobPosting;
+import io.kodlama.hrms.entities.concretes.JobTitle;
+import io.kodlama.hrms.entities.dtos.JobPostingFilterDto;
+import io.kodlama.hrms.entities.dtos.JobPostingSummaryDto;
+
+@Repository
+public class JobPostingSummaryDaoImpl implements JobPostingSummaryDao {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	// Same filters as JobPostingSpecifications, but the rows are projected straight into summaries,
+	// newest first, so no entity or lazy association is ever loaded.
+	@Override
+	public Page<JobPostingSummaryDto> getActiveSummariesFilteredBy(JobPostingFilterDto filter, Pageable pageable) {
+
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		Specification<JobPosting> specification = JobPostingSpecifications.activeOnesFilteredBy(filter);
+
+		CriteriaQuery<JobPostingSummaryDto> query = criteriaBuilder.createQuery(JobPostingSummaryDto.class);
+		Root<JobPosting> root = query.from(JobPosting.class);
+		Join<JobPosting, JobTitle> jobTitle = root.join("jobTitle", JoinType.LEFT);
+		Join<JobPosting, Employer> employer = root.join("employer", JoinType.LEFT);
+		Join<JobPosting, City> city = root.join("city", JoinType.LEFT);
+
+		query.select(criteriaBuilder.construct(JobPostingSummaryDto.class,
+						root.get("id"),
+						jobTitle.get("title"),
+						employer.get("companyName"),
+						city.get("city"),
+						root.get("postingDate"),
+						root.get("closingDate"),
+						root.get("salaryMin"),
+						root.get("salaryMax"),
+						root.get("salaryMinAmount"),
+						root.get("salaryMaxAmount")))
+				.where(specification.toPredicate(root, query, criteriaBuilder))
+				.orderBy(criteriaBuilder.desc(root.get("postingDate")), criteriaBuilder.desc(root.get("id")));
+
+		List<JobPostingSummaryDto> content = entityManager.createQuery(query)
+				.setFirstResult((int) pageable.getOffset())
+				.setMaxResults(pageable.getPageSize())
+				.getResultList();
+
+		CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery(Long.class);
+		Root<JobPosting> countRoot = countQuery.from(JobPosting.class);
+		countQuery.select(criteriaBuilder.count(countRoot)).where(specification.toPredicate(countRoot, countQuery, criteriaBuilder));
+
+		return new PageImpl<JobPostingSummaryDto>(content, pageable, entityManager.createQuery(countQuery).getSingleResult());
+	}
+
+}
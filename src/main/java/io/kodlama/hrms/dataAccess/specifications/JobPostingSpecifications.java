@@ -0,0 +1,74 @@
+package io.kodlama.hrms.dataAccess.specifications;
+
+import java.math.BigDecimal;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import io.kodlama.hrms.entities.concretes.JobPosting;
+import io.kodlama.hrms.entities.dtos.JobPostingFilterDto;
+
+public final class JobPostingSpecifications {
+
+	private JobPostingSpecifications() {
+	}
+
+	public static Specification<JobPosting> isActive(boolean isActive) {
+		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("isActive"), isActive);
+	}
+
+	public static Specification<JobPosting> hasCityId(int cityId) {
+		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("city").get("id"), cityId);
+	}
+
+	public static Specification<JobPosting> hasJobTitleId(int jobTitleId) {
+		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("jobTitle").get("id"), jobTitleId);
+	}
+
+	public static Specification<JobPosting> hasWorkingTimeId(int workingTimeId) {
+		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("workingTime").get("id"), workingTimeId);
+	}
+
+	public static Specification<JobPosting> hasWorkingTypeId(int workingTypeId) {
+		return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("workingType").get("id"), workingTypeId);
+	}
+
+	// A posting with only one end of its range given is treated as paying exactly that amount.
+	public static Specification<JobPosting> paysAtLeast(BigDecimal salary) {
+		return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThanOrEqualTo(
+				criteriaBuilder.coalesce(root.<BigDecimal>get("salaryMaxAmount"), root.<BigDecimal>get("salaryMinAmount")), salary);
+	}
+
+	public static Specification<JobPosting> paysAtMost(BigDecimal salary) {
+		return (root, query, criteriaBuilder) -> criteriaBuilder.lessThanOrEqualTo(
+				criteriaBuilder.coalesce(root.<BigDecimal>get("salaryMinAmount"), root.<BigDecimal>get("salaryMaxAmount")), salary);
+	}
+
+	// A filter id of 0 means "any", so only the selected filters end up in the WHERE clause.
+	public static Specification<JobPosting> activeOnesFilteredBy(JobPostingFilterDto filter) {
+
+		Specification<JobPosting> specification = Specification.where(isActive(true));
+
+		if (filter.getCityId() != 0) {
+			specification = specification.and(hasCityId(filter.getCityId()));
+		}
+		if (filter.getJobTitleId() != 0) {
+			specification = specification.and(hasJobTitleId(filter.getJobTitleId()));
+		}
+		if (filter.getWorkingTimeId() != 0) {
+			specification = specification.and(hasWorkingTimeId(filter.getWorkingTimeId()));
+		}
+		if (filter.getWorkingTypeId() != 0) {
+			specification = specification.and(hasWorkingTypeId(filter.getWorkingTypeId()));
+		}
+		// A posting matches a salary range when its own range overlaps it.
+		if (filter.getMinSalary() != null) {
+			specification = specification.and(paysAtLeast(filter.getMinSalary()));
+		}
+		if (filter.getMaxSalary() != null) {
+			specification = specification.and(paysAtMost(filter.getMaxSalary()));
+		}
+
+		return specification;
+	}
+
+}
@@ -11,6 +11,7 @@ import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import lombok.AllArgsConstructor;
@@ -58,4 +59,9 @@ public class Education {
 		return graduationDate.toString();
 	}
 
+	@JsonIgnore
+	public LocalDate getGraduationDateValue() {
+		return graduationDate;
+	}
+
 }
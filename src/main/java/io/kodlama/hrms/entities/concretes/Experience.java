@@ -11,6 +11,7 @@ import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import lombok.AllArgsConstructor;
@@ -56,4 +57,9 @@ public class Experience {
 		return terminationDate.toString();
 	}
 
+	@JsonIgnore
+	public LocalDate getTerminationDateValue() {
+		return terminationDate;
+	}
+
 }
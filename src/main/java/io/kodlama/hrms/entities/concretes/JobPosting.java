@@ -1,5 +1,6 @@
 package io.kodlama.hrms.entities.concretes;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -8,6 +9,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
@@ -25,7 +27,13 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
-@Table(name = "job_postings")
+@Table(name = "job_postings", indexes = {
+		@Index(name = "ix_job_postings_is_active_posting_date_id", columnList = "is_active, posting_date, id"),
+		@Index(name = "ix_job_postings_is_active_closing_date", columnList = "is_active, closing_date"),
+		@Index(name = "ix_job_postings_updated_at", columnList = "updated_at"),
+		@Index(name = "ix_job_postings_salary_min_amount", columnList = "salary_min_amount"),
+		@Index(name = "ix_job_postings_salary_max_amount", columnList = "salary_max_amount")
+})
 public class JobPosting {
 
 	@Id
@@ -45,6 +53,12 @@ public class JobPosting {
 	@Column(name = "salary_max")
 	private String salaryMax;
 
+	@Column(name = "salary_min_amount", precision = 12, scale = 2)
+	private BigDecimal salaryMinAmount;
+
+	@Column(name = "salary_max_amount", precision = 12, scale = 2)
+	private BigDecimal salaryMaxAmount;
+
 	@Column(name = "posting_date")
 	private LocalDateTime postingDate;
 
@@ -54,6 +68,9 @@ public class JobPosting {
 	@Column(name = "is_active")
 	private boolean isActive;
 
+	@Column(name = "updated_at")
+	private LocalDateTime updatedAt;
+
 	@ManyToOne()
 	@JoinColumn(name = "employer_id")
 	private Employer employer;
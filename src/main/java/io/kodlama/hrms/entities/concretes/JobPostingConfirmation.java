@@ -7,6 +7,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
@@ -23,7 +24,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
-@Table(name = "job_posting_confirmations")
+@Table(name = "job_posting_confirmations", indexes = {
+		@Index(name = "ix_job_posting_confirmations_job_posting_id", columnList = "job_posting_id")
+})
 public class JobPostingConfirmation {
 	
 	@Id
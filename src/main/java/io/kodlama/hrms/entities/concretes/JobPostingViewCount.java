@@ -0,0 +1,29 @@
+package io.kodlama.hrms.entities.concretes;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "job_posting_view_counts", indexes = {
+		@Index(name = "ix_job_posting_view_counts_view_count", columnList = "view_count")
+})
+public class JobPostingViewCount {
+
+	@Id
+	@Column(name = "job_posting_id")
+	private int jobPostingId;
+
+	@Column(name = "view_count")
+	private long viewCount;
+
+}
@@ -7,6 +7,8 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.BatchSize;
+
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import lombok.AllArgsConstructor;
@@ -15,6 +17,7 @@ import lombok.NoArgsConstructor;
 
 @Data
 @Entity
+@BatchSize(size = 50)
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
@@ -29,4 +32,8 @@ public class Level {
 	@Column(name = "level")
 	private String level;
 
+	// Proficiency order (A1 = 1 ... C2 = 6), ids say nothing about it.
+	@Column(name = "rank")
+	private Integer rank;
+
 }
@@ -9,9 +9,16 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
+import javax.persistence.Version;
+
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -25,6 +32,10 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
+@NamedEntityGraph(name = "Resume.candidate", attributeNodes = {
+		@NamedAttributeNode(value = "candidate", subgraph = "candidate"),
+		@NamedAttributeNode("coverLetter")
+}, subgraphs = @NamedSubgraph(name = "candidate", attributeNodes = @NamedAttributeNode("userActivation")))
 @Table(name = "resumes")
 public class Resume {
 
@@ -36,6 +47,10 @@ public class Resume {
 	@Column(name = "creation_date")
 	private LocalDateTime creationDate;
 
+	@Version
+	@Column(name = "version")
+	private Integer version;
+
 	@OneToOne
 	@JoinColumn(name = "candidate_id")
 	private Candidate candidate;
@@ -47,22 +62,27 @@ public class Resume {
 
 	@JsonIgnore
 	@OneToMany(mappedBy = "resume")
+	@Fetch(FetchMode.SUBSELECT)
 	private List<Education> educations;
 
 	@JsonIgnore
 	@OneToMany(mappedBy = "resume")
+	@Fetch(FetchMode.SUBSELECT)
 	private List<Experience> experiences;
 
 	@JsonIgnore
 	@OneToMany(mappedBy = "resume")
+	@Fetch(FetchMode.SUBSELECT)
 	private List<LanguageLevel> languageLevels;
 
 	@JsonIgnore
 	@OneToMany(mappedBy = "resume")
+	@Fetch(FetchMode.SUBSELECT)
 	private List<Link> links;
 
 	@JsonIgnore
 	@OneToMany(mappedBy = "resume")
+	@Fetch(FetchMode.SUBSELECT)
 	private List<Skill> skills;
 	
 	public Resume(Candidate candidate) {
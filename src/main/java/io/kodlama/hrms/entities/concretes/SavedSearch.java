@@ -0,0 +1,66 @@
+package io.kodlama.hrms.entities.concretes;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
+@Table(name = "saved_searches", indexes = {
+		@Index(name = "ix_saved_searches_candidate_id", columnList = "candidate_id"),
+		@Index(name = "ix_saved_searches_updated_at", columnList = "updated_at")
+})
+public class SavedSearch {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "id")
+	private int id;
+
+	@Column(name = "keywords")
+	private String keywords;
+
+	@Column(name = "creation_date")
+	private LocalDateTime creationDate;
+
+	@Column(name = "updated_at")
+	private LocalDateTime updatedAt;
+
+	@ManyToOne()
+	@JoinColumn(name = "candidate_id")
+	private Candidate candidate;
+
+	@ManyToOne()
+	@JoinColumn(name = "city_id")
+	private City city;
+
+	@ManyToOne()
+	@JoinColumn(name = "job_title_id")
+	private JobTitle jobTitle;
+
+	@ManyToOne()
+	@JoinColumn(name = "working_time_id")
+	private WorkingTime workingTime;
+
+	@ManyToOne()
+	@JoinColumn(name = "working_type_id")
+	private WorkingType workingType;
+
+}
@@ -0,0 +1,18 @@
+package io.kodlama.hrms.entities.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+
+	private List<T> content;
+
+	private String nextCursor;
+
+}
@@ -0,0 +1,22 @@
+package io.kodlama.hrms.entities.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPostingBulkConfirmationDto {
+
+	private List<Integer> jobPostingIds;
+
+	private int companyStaffId;
+
+	private int jobPostingConfirmationTypeId;
+
+	private boolean isConfirmed;
+
+}
@@ -0,0 +1,18 @@
+package io.kodlama.hrms.entities.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPostingConfirmationResultDto {
+
+	private int jobPostingId;
+
+	private boolean success;
+
+	private String message;
+
+}
@@ -0,0 +1,58 @@
+package io.kodlama.hrms.entities.dtos;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPostingExportDto {
+
+	private int id;
+
+	private String jobDescription;
+
+	private int numberOfOpenPositions;
+
+	private String salaryMin;
+
+	private String salaryMax;
+
+	private BigDecimal salaryMinAmount;
+
+	private BigDecimal salaryMaxAmount;
+
+	private LocalDateTime postingDate;
+
+	private LocalDate closingDate;
+
+	private boolean active;
+
+	private LocalDateTime updatedAt;
+
+	private Integer employerId;
+
+	private String companyName;
+
+	private Integer jobTitleId;
+
+	private String jobTitle;
+
+	private Integer cityId;
+
+	private String city;
+
+	private Integer workingTimeId;
+
+	private String workingTime;
+
+	private Integer workingTypeId;
+
+	private String workingType;
+
+}
@@ -0,0 +1,24 @@
+package io.kodlama.hrms.entities.dtos;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPostingFacetCountsDto {
+
+	private long totalCount;
+
+	private Map<Integer, Integer> cityCounts;
+
+	private Map<Integer, Integer> jobTitleCounts;
+
+	private Map<Integer, Integer> workingTimeCounts;
+
+	private Map<Integer, Integer> workingTypeCounts;
+
+}
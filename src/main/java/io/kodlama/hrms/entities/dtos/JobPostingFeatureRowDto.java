@@ -0,0 +1,24 @@
+package io.kodlama.hrms.entities.dtos;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPostingFeatureRowDto {
+
+	private int id;
+
+	private Integer jobTitleId;
+
+	private String jobTitle;
+
+	private String jobDescription;
+
+	private LocalDate closingDate;
+
+}
@@ -0,0 +1,34 @@
+package io.kodlama.hrms.entities.dtos;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPostingFilterDto {
+
+	private int cityId;
+
+	private int jobTitleId;
+
+	private int workingTimeId;
+
+	private int workingTypeId;
+
+	private BigDecimal minSalary;
+
+	private BigDecimal maxSalary;
+
+	public JobPostingFilterDto(int cityId, int jobTitleId, int workingTimeId, int workingTypeId) {
+		this(cityId, jobTitleId, workingTimeId, workingTypeId, null, null);
+	}
+
+	public boolean hasSalaryRange() {
+		return minSalary != null || maxSalary != null;
+	}
+
+}
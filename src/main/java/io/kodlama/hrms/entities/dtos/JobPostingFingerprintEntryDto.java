@@ -0,0 +1,26 @@
+package io.kodlama.hrms.entities.dtos;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPostingFingerprintEntryDto {
+
+	private int id;
+
+	private Integer employerId;
+
+	private Integer jobTitleId;
+
+	private Integer cityId;
+
+	private String jobDescription;
+
+	private LocalDate closingDate;
+
+}
@@ -0,0 +1,29 @@
+package io.kodlama.hrms.entities.dtos;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPostingIndexEntryDto {
+
+	private int id;
+
+	private Integer cityId;
+
+	private Integer jobTitleId;
+
+	private Integer workingTimeId;
+
+	private Integer workingTypeId;
+
+	private LocalDateTime postingDate;
+
+	private LocalDate closingDate;
+
+}
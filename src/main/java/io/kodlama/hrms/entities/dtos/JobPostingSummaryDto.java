@@ -0,0 +1,36 @@
+package io.kodlama.hrms.entities.dtos;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPostingSummaryDto {
+
+	private int id;
+
+	private String jobTitle;
+
+	private String companyName;
+
+	private String city;
+
+	private LocalDateTime postingDate;
+
+	private LocalDate closingDate;
+
+	private String salaryMin;
+
+	private String salaryMax;
+
+	private BigDecimal salaryMinAmount;
+
+	private BigDecimal salaryMaxAmount;
+
+}
@@ -0,0 +1,30 @@
+package io.kodlama.hrms.entities.dtos;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageDto<T> {
+
+	private List<T> content;
+
+	private int pageNo;
+
+	private int pageSize;
+
+	private long totalElements;
+
+	private int totalPages;
+
+	public PageDto(Page<T> page) {
+		this(page.getContent(), page.getNumber() + 1, page.getSize(), page.getTotalElements(), page.getTotalPages());
+	}
+
+}
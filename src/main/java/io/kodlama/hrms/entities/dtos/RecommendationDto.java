@@ -0,0 +1,16 @@
+package io.kodlama.hrms.entities.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendationDto<T> {
+
+	private T item;
+
+	private double score;
+
+}
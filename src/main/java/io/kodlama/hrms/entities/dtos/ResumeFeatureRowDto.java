@@ -0,0 +1,53 @@
+package io.kodlama.hrms.entities.dtos;
+
+import java.time.LocalDate;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ResumeFeatureRowDto {
+
+	private int resumeId;
+
+	private Integer referenceId;
+
+	private Integer secondaryReferenceId;
+
+	private String term;
+
+	private LocalDate startingDate;
+
+	private LocalDate terminationDate;
+
+	public ResumeFeatureRowDto(int resumeId, Integer referenceId) {
+		this.resumeId = resumeId;
+		this.referenceId = referenceId;
+	}
+
+	public ResumeFeatureRowDto(int resumeId, String term) {
+		this.resumeId = resumeId;
+		this.term = term;
+	}
+
+	public ResumeFeatureRowDto(int resumeId, Integer referenceId, String term) {
+		this.resumeId = resumeId;
+		this.referenceId = referenceId;
+		this.term = term;
+	}
+
+	public ResumeFeatureRowDto(int resumeId, Integer referenceId, Integer secondaryReferenceId) {
+		this.resumeId = resumeId;
+		this.referenceId = referenceId;
+		this.secondaryReferenceId = secondaryReferenceId;
+	}
+
+	public ResumeFeatureRowDto(int resumeId, Integer referenceId, LocalDate startingDate, LocalDate terminationDate) {
+		this.resumeId = resumeId;
+		this.referenceId = referenceId;
+		this.startingDate = startingDate;
+		this.terminationDate = terminationDate;
+	}
+
+}
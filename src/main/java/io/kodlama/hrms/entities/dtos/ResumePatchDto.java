@@ -0,0 +1,20 @@
+package io.kodlama.hrms.entities.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumePatchDto {
+
+	private int id;
+
+	// The version the client last read, the patch is rejected if the resume changed since.
+	private int version;
+
+	// Null removes the cover letter from the resume.
+	private Integer coverLetterId;
+
+}
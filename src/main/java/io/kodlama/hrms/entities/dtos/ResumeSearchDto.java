@@ -0,0 +1,29 @@
+package io.kodlama.hrms.entities.dtos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeSearchDto {
+
+	// Every one of these skills is required, and every language at the given level or a higher ranked one.
+	private List<String> skills = new ArrayList<String>();
+
+	private List<LanguageLevelCriterionDto> languageLevels = new ArrayList<LanguageLevelCriterionDto>();
+
+	// At least one of these job titles is required when any is given.
+	private List<Integer> jobTitleIds = new ArrayList<Integer>();
+
+	// None of these skills may appear.
+	private List<String> excludedSkills = new ArrayList<String>();
+
+	// Not required, every match ranks the resume higher.
+	private List<String> preferredSkills = new ArrayList<String>();
+
+}
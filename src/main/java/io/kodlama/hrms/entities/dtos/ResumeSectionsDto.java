@@ -0,0 +1,32 @@
+package io.kodlama.hrms.entities.dtos;
+
+import java.util.List;
+
+import io.kodlama.hrms.entities.concretes.Education;
+import io.kodlama.hrms.entities.concretes.Experience;
+import io.kodlama.hrms.entities.concretes.LanguageLevel;
+import io.kodlama.hrms.entities.concretes.Link;
+import io.kodlama.hrms.entities.concretes.Skill;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeSectionsDto {
+
+	private int resumeId;
+
+	// A null section is left untouched, an empty one is cleared. Rows with id 0 are new.
+	private List<Education> educations;
+
+	private List<Experience> experiences;
+
+	private List<Skill> skills;
+
+	private List<Link> links;
+
+	private List<LanguageLevel> languageLevels;
+
+}
@@ -0,0 +1,26 @@
+package io.kodlama.hrms.entities.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchIndexEntryDto {
+
+	private int id;
+
+	private int candidateId;
+
+	private Integer cityId;
+
+	private Integer jobTitleId;
+
+	private Integer workingTimeId;
+
+	private Integer workingTypeId;
+
+	private String keywords;
+
+}
@@ -0,0 +1,118 @@
+-- Runs after Hibernate has updated the tables (spring.jpa.defer-datasource-initialization=true), except in the
+-- prod profile where it runs first so ddl-auto=validate sees the columns and tables added here.
+-- Holds the PostgreSQL specific objects that can not be expressed with JPA annotations.
+-- Every statement must be idempotent because the script runs on every start.
+
+-- Keyset pagination over the active postings, newest first.
+CREATE INDEX IF NOT EXISTS ix_job_postings_is_active_posting_date_id ON job_postings (is_active, posting_date, id);
+
+-- Expiry sweep over the active postings past their closing date.
+CREATE INDEX IF NOT EXISTS ix_job_postings_is_active_closing_date ON job_postings (is_active, closing_date);
+
+-- Confirmation lookups and deletes by posting.
+CREATE INDEX IF NOT EXISTS ix_job_posting_confirmations_job_posting_id ON job_posting_confirmations (job_posting_id);
+
+-- Full-text search over job descriptions, stemmed both for Turkish and English.
+ALTER TABLE job_postings ADD COLUMN IF NOT EXISTS search_vector tsvector
+	GENERATED ALWAYS AS (to_tsvector('turkish', coalesce(job_description, '')) || to_tsvector('english', coalesce(job_description, ''))) STORED;
+
+CREATE INDEX IF NOT EXISTS ix_job_postings_search_vector ON job_postings USING GIN (search_vector);
+
+-- Numeric salary columns, backfilled from the free-text salary_min/salary_max values.
+-- parse_salary must accept exactly what JobPostingManager.parseSalary accepts: one amount with optional
+-- thousands separators, 1-2 digit fraction and TL, TRY or lira sign currency. Ranges and unit words give NULL.
+ALTER TABLE job_postings ADD COLUMN IF NOT EXISTS salary_min_amount numeric(12,2);
+ALTER TABLE job_postings ADD COLUMN IF NOT EXISTS salary_max_amount numeric(12,2);
+
+CREATE INDEX IF NOT EXISTS ix_job_postings_salary_min_amount ON job_postings (salary_min_amount);
+CREATE INDEX IF NOT EXISTS ix_job_postings_salary_max_amount ON job_postings (salary_max_amount);
+
+CREATE OR REPLACE FUNCTION parse_salary(salary text) RETURNS numeric AS $$
+	SELECT CASE WHEN length(digits) <= 10 THEN digits::numeric END
+	FROM (SELECT regexp_replace((regexp_match(salary, '^\s*(?:tl|try|\u20ba)?\s*([0-9]+|[0-9]{1,3}(?:[.,][0-9]{3})+)(?:[.,][0-9]{1,2})?\s*(?:tl|try|\u20ba)?\s*$', 'i'))[1], '[^0-9]', '', 'g') AS digits) parsed
+$$ LANGUAGE sql IMMUTABLE;
+
+UPDATE job_postings SET salary_min_amount = parse_salary(salary_min)
+	WHERE salary_min_amount IS DISTINCT FROM parse_salary(salary_min);
+
+UPDATE job_postings SET salary_max_amount = parse_salary(salary_max)
+	WHERE salary_max_amount IS DISTINCT FROM parse_salary(salary_max);
+
+-- Change tracking for the node-local indexes; postings written before updated_at existed count as updated when they were posted.
+ALTER TABLE job_postings ADD COLUMN IF NOT EXISTS updated_at timestamp;
+
+CREATE INDEX IF NOT EXISTS ix_job_postings_updated_at ON job_postings (updated_at);
+
+UPDATE job_postings SET updated_at = posting_date WHERE updated_at IS NULL;
+
+-- Job posting view counts, flushed in batches by JobPostingViewCounterManager.
+CREATE TABLE IF NOT EXISTS job_posting_view_counts (
+	job_posting_id integer PRIMARY KEY,
+	view_count bigint NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS ix_job_posting_view_counts_view_count ON job_posting_view_counts (view_count);
+
+-- Saved job searches of the candidates, matched against every newly activated posting.
+CREATE TABLE IF NOT EXISTS saved_searches (
+	id serial PRIMARY KEY,
+	keywords varchar(255),
+	creation_date timestamp,
+	updated_at timestamp,
+	candidate_id integer REFERENCES candidates (user_id),
+	city_id integer REFERENCES cities (id),
+	job_title_id integer REFERENCES job_titles (id),
+	working_time_id integer REFERENCES working_times (id),
+	working_type_id integer REFERENCES working_types (id)
+);
+
+-- Change tracking for the node-local alert index; searches saved before updated_at existed count as updated when they were created.
+ALTER TABLE saved_searches ADD COLUMN IF NOT EXISTS updated_at timestamp;
+
+CREATE INDEX IF NOT EXISTS ix_saved_searches_candidate_id ON saved_searches (candidate_id);
+CREATE INDEX IF NOT EXISTS ix_saved_searches_updated_at ON saved_searches (updated_at);
+
+UPDATE saved_searches SET updated_at = creation_date WHERE updated_at IS NULL;
+
+-- Ready-to-serve resume detail responses, one row per candidate, rebuilt whenever the resume changes.
+CREATE TABLE IF NOT EXISTS resume_documents (
+	candidate_id integer PRIMARY KEY,
+	resume_id integer NOT NULL UNIQUE,
+	document jsonb NOT NULL,
+	updated_at timestamp NOT NULL
+);
+
+-- Documents stored before passwords were left out of the JSON still carry them.
+UPDATE resume_documents SET document = document #- '{data,candidate,password}' #- '{data,image,user,password}'
+	WHERE document #> '{data,candidate,password}' IS NOT NULL OR document #> '{data,image,user,password}' IS NOT NULL;
+
+-- Resumes written before optimistic locking existed start at version 0, Hibernate can not compare against NULL.
+ALTER TABLE resumes ADD COLUMN IF NOT EXISTS version integer;
+UPDATE resumes SET version = 0 WHERE version IS NULL;
+
+-- At most one pending or approved leave per employee and day, enforced by the database so concurrent applications can not both pass.
+-- The DO body is single-quoted because the script is split on semicolons outside of quotes.
+-- If existing rows already overlap, the constraint can not be added; a plain GiST index still serves LeaveDao.existsActiveOverlapping.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+DO '
+BEGIN
+	IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = ''ex_leaves_employee_period'') THEN
+		ALTER TABLE leaves ADD CONSTRAINT ex_leaves_employee_period
+			EXCLUDE USING gist (employee_id WITH =, daterange(start_date, end_date, ''[]'') WITH &&)
+			WHERE (status IN (''PENDING'', ''APPROVED''));
+	END IF;
+EXCEPTION WHEN exclusion_violation THEN
+	RAISE WARNING ''leaves has overlapping pending or approved rows, ex_leaves_employee_period was not added'';
+	CREATE INDEX IF NOT EXISTS ix_leaves_employee_period ON leaves
+		USING gist (employee_id, daterange(start_date, end_date, ''[]''))
+		WHERE status IN (''PENDING'', ''APPROVED'');
+END';
+
+-- Proficiency rank of the language levels, read from the CEFR code in the level name. Levels
+-- without one keep a NULL rank and have to be ranked by hand.
+ALTER TABLE levels ADD COLUMN IF NOT EXISTS rank integer;
+
+UPDATE levels SET rank = CASE substring(upper(level) from '[ABC][12]')
+		WHEN 'A1' THEN 1 WHEN 'A2' THEN 2 WHEN 'B1' THEN 3 WHEN 'B2' THEN 4 WHEN 'C1' THEN 5 WHEN 'C2' THEN 6 END
+	WHERE rank IS NULL;
@@ -0,0 +1,113 @@
+package io.kodlama.hrms.business.concretes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.kodlama.hrms.dataAccess.abstracts.JobPostingDao;
+import io.kodlama.hrms.entities.concretes.City;
+import io.kodlama.hrms.entities.concretes.Employer;
+import io.kodlama.hrms.entities.concretes.JobPosting;
+import io.kodlama.hrms.entities.concretes.JobTitle;
+import io.kodlama.hrms.entities.dtos.JobPostingFingerprintEntryDto;
+
+class JobPostingDuplicateManagerTests {
+
+	private static final String DESCRIPTION = "Ekibimize katılacak, Spring Boot ve Hibernate ile REST servisleri geliştirecek, "
+			+ "PostgreSQL veritabanı tasarımında deneyimli, birim testi yazmayı alışkanlık edinmiş, "
+			+ "takım çalışmasına yatkın ve en az üç yıl tecrübeli Java geliştirici arıyoruz.";
+
+	private JobPostingDao jobPostingDao;
+	private JobPostingDuplicateManager jobPostingDuplicateManager;
+
+	@BeforeEach
+	void setUp() {
+		jobPostingDao = mock(JobPostingDao.class);
+		jobPostingDuplicateManager = new JobPostingDuplicateManager(jobPostingDao, 3);
+		jobPostingDuplicateManager.index(jobPosting(1, 1, DESCRIPTION, LocalDate.now().plusDays(10)));
+	}
+
+	@Test
+	void findsPostingWithSameWordsOfSameEmployer() {
+		assertThat(jobPostingDuplicateManager.findDuplicateId(jobPosting(2, 1, DESCRIPTION.replace(",", " ;").replace(" ", "  "), null)))
+				.isEqualTo(1);
+	}
+
+	@Test
+	void findsPostingWithSmallEdit() {
+		assertThat(jobPostingDuplicateManager.findDuplicateId(jobPosting(2, 1, DESCRIPTION + " Başvurunuzu bekliyoruz.", null)))
+				.isEqualTo(1);
+	}
+
+	@Test
+	void ignoresOtherEmployersAndDifferentDescriptions() {
+		assertThat(jobPostingDuplicateManager.findDuplicateId(jobPosting(2, 2, DESCRIPTION, null))).isNull();
+		assertThat(jobPostingDuplicateManager.findDuplicateId(jobPosting(2, 1,
+				"Muhasebe departmanımız için SAP bilgisine sahip, bordro ve fatura süreçlerini yürütecek uzman arıyoruz.", null)))
+				.isNull();
+	}
+
+	@Test
+	void ignoresClosedPostingsAndTheSamePosting() {
+		jobPostingDuplicateManager.index(jobPosting(1, 1, DESCRIPTION, LocalDate.now().minusDays(1)));
+		assertThat(jobPostingDuplicateManager.findDuplicateId(jobPosting(2, 1, DESCRIPTION, null))).isNull();
+		assertThat(jobPostingDuplicateManager.findDuplicateId(jobPosting(1, 1, DESCRIPTION, null))).isNull();
+	}
+
+	@Test
+	void neverMatchesBlankDescriptions() {
+		jobPostingDuplicateManager.index(jobPosting(3, 1, " - ", null));
+		assertThat(jobPostingDuplicateManager.findDuplicateId(jobPosting(2, 1, "...", null))).isNull();
+	}
+
+	@Test
+	void rejectsMaxDistanceTheBandsCanNotFind() {
+		assertThatThrownBy(() -> new JobPostingDuplicateManager(jobPostingDao, 4)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new JobPostingDuplicateManager(jobPostingDao, -1)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void refreshPicksUpPostingsOfOtherNodesAndDropsDeletedOnes() {
+		JobPostingFingerprintEntryDto first = new JobPostingFingerprintEntryDto(1, 1, 1, 1, DESCRIPTION, null);
+		JobPostingFingerprintEntryDto second = new JobPostingFingerprintEntryDto(3, 2, 1, 1, DESCRIPTION, null);
+		when(jobPostingDao.getAllOpenFingerprintEntries()).thenReturn(List.of(first));
+		jobPostingDuplicateManager.rebuild();
+
+		// Posting 1 was deleted and posting 3 added on another node, without touching this node's index.
+		when(jobPostingDao.getAllOpenIds()).thenReturn(List.of(3));
+		when(jobPostingDao.getAllOpenFingerprintEntriesUpdatedSince(any())).thenReturn(List.of());
+		when(jobPostingDao.getAllOpenFingerprintEntriesByIdIn(List.of(3))).thenReturn(List.of(second));
+		jobPostingDuplicateManager.refresh();
+
+		assertThat(jobPostingDuplicateManager.findDuplicateId(jobPosting(2, 1, DESCRIPTION, null))).isNull();
+		assertThat(jobPostingDuplicateManager.findDuplicateId(jobPosting(2, 2, DESCRIPTION, null))).isEqualTo(3);
+	}
+
+	private static JobPosting jobPosting(int id, int employerId, String description, LocalDate closingDate) {
+
+		Employer employer = new Employer();
+		employer.setId(employerId);
+		JobTitle jobTitle = new JobTitle();
+		jobTitle.setId(1);
+		City city = new City();
+		city.setId(1);
+
+		JobPosting jobPosting = new JobPosting();
+		jobPosting.setId(id);
+		jobPosting.setEmployer(employer);
+		jobPosting.setJobTitle(jobTitle);
+		jobPosting.setCity(city);
+		jobPosting.setJobDescription(description);
+		jobPosting.setClosingDate(closingDate);
+		return jobPosting;
+	}
+
+}
@@ -0,0 +1,93 @@
+package io.kodlama.hrms.business.concretes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.kodlama.hrms.business.abstracts.JobPostingDuplicateService;
+import io.kodlama.hrms.business.abstracts.JobPostingSearchIndexService;
+import io.kodlama.hrms.business.abstracts.JobPostingSnapshotService;
+import io.kodlama.hrms.business.abstracts.RecommendationService;
+import io.kodlama.hrms.core.utilities.results.DataResult;
+
+class JobPostingExpiryManagerTests {
+
+	private static final LocalDate DATABASE_DATE = LocalDate.of(2026, 5, 1);
+
+	private JdbcTemplate jdbcTemplate;
+	private JobPostingSearchIndexService jobPostingSearchIndexService;
+	private JobPostingSnapshotService jobPostingSnapshotService;
+	private RecommendationService recommendationService;
+	private JobPostingDuplicateService jobPostingDuplicateService;
+	private JobPostingExpiryManager jobPostingExpiryManager;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		jobPostingSearchIndexService = mock(JobPostingSearchIndexService.class);
+		jobPostingSnapshotService = mock(JobPostingSnapshotService.class);
+		recommendationService = mock(RecommendationService.class);
+		jobPostingDuplicateService = mock(JobPostingDuplicateService.class);
+		jobPostingExpiryManager = new JobPostingExpiryManager(jdbcTemplate, jobPostingSearchIndexService, jobPostingSnapshotService,
+				recommendationService, jobPostingDuplicateService);
+		ReflectionTestUtils.setField(jobPostingExpiryManager, "batchSize", 2);
+
+		when(jdbcTemplate.queryForObject("SELECT CURRENT_DATE", Date.class)).thenReturn(Date.valueOf(DATABASE_DATE));
+	}
+
+	@Test
+	void expiresInChunksUntilAShortChunkAndEvictsTheExpiredIds() {
+
+		when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(Date.valueOf(DATABASE_DATE)), eq(2)))
+				.thenReturn(List.of(1, 2), List.of(3));
+
+		DataResult<Integer> result = jobPostingExpiryManager.expireClosedOnes();
+
+		assertThat(result.getData()).isEqualTo(3);
+		verify(jdbcTemplate, times(2)).queryForList(anyString(), eq(Integer.class), eq(Date.valueOf(DATABASE_DATE)), eq(2));
+		for (int jobPostingId : List.of(1, 2, 3)) {
+			verify(jobPostingSearchIndexService).remove(jobPostingId);
+			verify(recommendationService).removeJobPosting(jobPostingId);
+			verify(jobPostingDuplicateService).remove(jobPostingId);
+		}
+		verify(jobPostingSnapshotService).invalidate();
+	}
+
+	@Test
+	void evictsByTheDatabaseDateEvenWhenAnotherNodeExpiredTheRows() {
+
+		when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(Date.valueOf(DATABASE_DATE)), eq(2))).thenReturn(List.of());
+		when(jobPostingSearchIndexService.removeAllClosedBefore(DATABASE_DATE)).thenReturn(4);
+
+		assertThat(jobPostingExpiryManager.expireClosedOnes().getData()).isZero();
+
+		verify(recommendationService).removeAllJobPostingsClosedBefore(DATABASE_DATE);
+		verify(jobPostingDuplicateService).removeAllClosedBefore(DATABASE_DATE);
+		verify(jobPostingSnapshotService).invalidate();
+	}
+
+	@Test
+	void leavesTheSnapshotAloneWhenNothingExpired() {
+
+		when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(Date.valueOf(DATABASE_DATE)), eq(2))).thenReturn(List.of());
+
+		jobPostingExpiryManager.expireClosedOnes();
+
+		verify(jobPostingSnapshotService, never()).invalidate();
+	}
+
+}
@@ -0,0 +1,232 @@
+package io.kodlama.hrms.business.concretes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.kodlama.hrms.business.abstracts.CompanyStaffService;
+import io.kodlama.hrms.business.abstracts.JobPostingConfirmationService;
+import io.kodlama.hrms.business.abstracts.JobPostingConfirmationTypeService;
+import io.kodlama.hrms.business.abstracts.JobPostingDuplicateService;
+import io.kodlama.hrms.business.abstracts.JobPostingSearchIndexService;
+import io.kodlama.hrms.business.abstracts.JobPostingSnapshotService;
+import io.kodlama.hrms.business.abstracts.JobPostingViewCounterService;
+import io.kodlama.hrms.business.abstracts.RecommendationService;
+import io.kodlama.hrms.business.abstracts.SavedSearchAlertService;
+import io.kodlama.hrms.core.utilities.results.DataResult;
+import io.kodlama.hrms.core.utilities.results.ErrorDataResult;
+import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
+import io.kodlama.hrms.dataAccess.abstracts.JobPostingDao;
+import io.kodlama.hrms.dataAccess.abstracts.JobPostingSummaryDao;
+import io.kodlama.hrms.entities.concretes.CompanyStaff;
+import io.kodlama.hrms.entities.concretes.JobPosting;
+import io.kodlama.hrms.entities.concretes.JobPostingConfirmationType;
+import io.kodlama.hrms.entities.dtos.CursorPageDto;
+import io.kodlama.hrms.entities.dtos.JobPostingBulkConfirmationDto;
+import io.kodlama.hrms.entities.dtos.JobPostingConfirmationResultDto;
+
+class JobPostingManagerTests {
+
+	private JobPostingDao jobPostingDao;
+	private CompanyStaffService companyStaffService;
+	private JobPostingConfirmationTypeService jobPostingConfirmationTypeService;
+	private JdbcTemplate jdbcTemplate;
+	private JobPostingManager jobPostingManager;
+
+	@BeforeEach
+	void setUp() {
+		jobPostingDao = mock(JobPostingDao.class);
+		companyStaffService = mock(CompanyStaffService.class);
+		jobPostingConfirmationTypeService = mock(JobPostingConfirmationTypeService.class);
+		jdbcTemplate = mock(JdbcTemplate.class);
+		jobPostingManager = new JobPostingManager(jobPostingDao, mock(JobPostingSummaryDao.class), mock(JobPostingConfirmationService.class), jobPostingConfirmationTypeService,
+				companyStaffService, mock(JobPostingSearchIndexService.class), mock(JobPostingSnapshotService.class), jdbcTemplate,
+				new ObjectMapper(), mock(JobPostingViewCounterService.class), mock(SavedSearchAlertService.class), mock(RecommendationService.class),
+				mock(JobPostingDuplicateService.class));
+
+		when(companyStaffService.getById(anyInt())).thenReturn(new ErrorDataResult<CompanyStaff>("Şirket personeli bulunamadı."));
+		when(companyStaffService.getById(1)).thenReturn(new SuccessDataResult<CompanyStaff>(new CompanyStaff()));
+		when(jobPostingConfirmationTypeService.getById(anyInt()))
+				.thenReturn(new ErrorDataResult<JobPostingConfirmationType>("İş ilanı onay tipi bulunamadı."));
+		when(jobPostingConfirmationTypeService.getById(1)).thenReturn(new SuccessDataResult<JobPostingConfirmationType>(new JobPostingConfirmationType()));
+	}
+
+	@Test
+	void cursorOfAFullPageSeeksPastItsLastPosting() {
+
+		LocalDateTime postingDate = LocalDateTime.of(2026, 3, 2, 9, 0);
+		when(jobPostingDao.getByIsActive(eq(true), any(Pageable.class)))
+				.thenReturn(List.of(jobPosting(3, postingDate), jobPosting(2, postingDate), jobPosting(1, postingDate)));
+
+		DataResult<CursorPageDto<JobPosting>> firstPage = jobPostingManager.getAllActiveOnesByCursorSortedByPostingDate(null, 2);
+
+		assertThat(firstPage.getData().getContent()).extracting(JobPosting::getId).containsExactly(3, 2);
+		assertThat(firstPage.getData().getNextCursor()).isNotNull();
+
+		jobPostingManager.getAllActiveOnesByCursorSortedByPostingDate(firstPage.getData().getNextCursor(), 2);
+
+		verify(jobPostingDao).getActiveOnesSortedByPostingDateAfter(eq(postingDate), eq(2), any(Pageable.class));
+	}
+
+	@Test
+	void lastPageHasNoCursor() {
+
+		when(jobPostingDao.getByIsActive(eq(true), any(Pageable.class))).thenReturn(List.of(jobPosting(1, LocalDateTime.now())));
+
+		assertThat(jobPostingManager.getAllActiveOnesByCursorSortedByPostingDate("", 2).getData().getNextCursor()).isNull();
+	}
+
+	@Test
+	void pageSizeIsClampedInsteadOfFailing() {
+
+		when(jobPostingDao.getByIsActive(eq(true), any(Pageable.class)))
+				.thenReturn(List.of(jobPosting(2, LocalDateTime.now()), jobPosting(1, LocalDateTime.now())));
+
+		DataResult<CursorPageDto<JobPosting>> emptyPageSize = jobPostingManager.getAllActiveOnesByCursorSortedByPostingDate(null, 0);
+		assertThat(emptyPageSize.isSuccess()).isTrue();
+		assertThat(emptyPageSize.getData().getContent()).hasSize(1);
+
+		assertThat(jobPostingManager.getAllActiveOnesByCursorSortedByPostingDate(null, -5).isSuccess()).isTrue();
+		assertThat(jobPostingManager.getAllActiveOnesByCursorSortedByPostingDate(null, Integer.MAX_VALUE).isSuccess()).isTrue();
+
+		ArgumentCaptor<Pageable> pageables = ArgumentCaptor.forClass(Pageable.class);
+		verify(jobPostingDao, times(3)).getByIsActive(eq(true), pageables.capture());
+		assertThat(pageables.getAllValues()).extracting(Pageable::getPageSize).containsExactly(2, 2, 101);
+	}
+
+	@Test
+	void malformedCursorIsRejected() {
+
+		DataResult<CursorPageDto<JobPosting>> result = jobPostingManager.getAllActiveOnesByCursorSortedByPostingDate("bm90LWEtY3Vyc29y", 10);
+
+		assertThat(result.isSuccess()).isFalse();
+		assertThat(result.getMessage()).isEqualTo("Geçersiz sayfa imleci.");
+	}
+
+	@Test
+	void bulkConfirmationReportsEachRequestedPosting() {
+
+		when(jobPostingDao.getAllWaitingForPostingConfirmationByIdIn(any()))
+				.thenReturn(List.of(waitingJobPosting(1), waitingJobPosting(3)));
+
+		DataResult<List<JobPostingConfirmationResultDto>> result = jobPostingManager.confirmAll(bulkConfirmation(List.of(1, 2, 3, 1), 1, 1, true));
+
+		assertThat(result.isSuccess()).isTrue();
+		assertThat(result.getData()).extracting(JobPostingConfirmationResultDto::getJobPostingId).containsExactly(1, 2, 3);
+		assertThat(result.getData()).extracting(JobPostingConfirmationResultDto::isSuccess).containsExactly(true, false, true);
+		verify(jobPostingDao).activateAllByIdIn(List.of(1, 3));
+		verify(jdbcTemplate).batchUpdate(anyString(), anyList(), eq(2), any());
+	}
+
+	@Test
+	void bulkRejectionDeletesOnlyWaitingPostings() {
+
+		when(jobPostingDao.getAllWaitingForPostingConfirmationByIdIn(any())).thenReturn(List.of(waitingJobPosting(2)));
+
+		DataResult<List<JobPostingConfirmationResultDto>> result = jobPostingManager.confirmAll(bulkConfirmation(List.of(1, 2), 1, 1, false));
+
+		assertThat(result.getData()).extracting(JobPostingConfirmationResultDto::isSuccess).containsExactly(false, true);
+		verify(jobPostingDao).deleteAllByIdInBatch(List.of(2));
+		verify(jobPostingDao, never()).activateAllByIdIn(any());
+	}
+
+	@Test
+	void bulkConfirmationRejectsMissingPostingIds() {
+
+		assertThat(jobPostingManager.confirmAll(bulkConfirmation(null, 1, 1, true)).isSuccess()).isFalse();
+		assertThat(jobPostingManager.confirmAll(bulkConfirmation(List.of(), 1, 1, true)).isSuccess()).isFalse();
+		assertThat(jobPostingManager.confirmAll(bulkConfirmation(Arrays.asList(1, null), 1, 1, true)).isSuccess()).isFalse();
+
+		verify(jobPostingDao, never()).getAllWaitingForPostingConfirmationByIdIn(any());
+	}
+
+	@Test
+	void bulkConfirmationRejectsUnknownStaffOrConfirmationType() {
+
+		DataResult<List<JobPostingConfirmationResultDto>> unknownStaff = jobPostingManager.confirmAll(bulkConfirmation(List.of(1), 99, 1, true));
+		DataResult<List<JobPostingConfirmationResultDto>> unknownType = jobPostingManager.confirmAll(bulkConfirmation(List.of(1), 1, 99, true));
+
+		assertThat(unknownStaff.isSuccess()).isFalse();
+		assertThat(unknownStaff.getMessage()).isEqualTo("Şirket personeli bulunamadı.");
+		assertThat(unknownType.isSuccess()).isFalse();
+		assertThat(unknownType.getMessage()).isEqualTo("İş ilanı onay tipi bulunamadı.");
+		verify(jobPostingDao, never()).activateAllByIdIn(any());
+		verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(), any());
+	}
+
+	@Test
+	void parsesPlainAndGroupedAmounts() {
+		assertThat(JobPostingManager.parseSalary("15000")).isEqualByComparingTo(new BigDecimal("15000"));
+		assertThat(JobPostingManager.parseSalary("15.000")).isEqualByComparingTo(new BigDecimal("15000"));
+		assertThat(JobPostingManager.parseSalary("1,234")).isEqualByComparingTo(new BigDecimal("1234"));
+	}
+
+	@Test
+	void ignoresCurrencyAndDropsFractions() {
+		assertThat(JobPostingManager.parseSalary("15.000,50 TL")).isEqualByComparingTo(new BigDecimal("15000"));
+		assertThat(JobPostingManager.parseSalary("₺ 12000")).isEqualByComparingTo(new BigDecimal("12000"));
+		assertThat(JobPostingManager.parseSalary("1.5")).isEqualByComparingTo(new BigDecimal("1"));
+	}
+
+	@Test
+	void rejectsRangesAbbreviationsAndText() {
+		assertThat(JobPostingManager.parseSalary("10-15 bin")).isNull();
+		assertThat(JobPostingManager.parseSalary("15k")).isNull();
+		assertThat(JobPostingManager.parseSalary("abc")).isNull();
+		assertThat(JobPostingManager.parseSalary(null)).isNull();
+	}
+
+	@Test
+	void rejectsAmountsWithTooManyDigits() {
+		assertThat(JobPostingManager.parseSalary("12345678901")).isNull();
+	}
+
+	private static JobPostingBulkConfirmationDto bulkConfirmation(List<Integer> jobPostingIds, int companyStaffId, int jobPostingConfirmationTypeId,
+			boolean isConfirmed) {
+
+		JobPostingBulkConfirmationDto jobPostingBulkConfirmationDto = new JobPostingBulkConfirmationDto();
+		jobPostingBulkConfirmationDto.setJobPostingIds(jobPostingIds);
+		jobPostingBulkConfirmationDto.setCompanyStaffId(companyStaffId);
+		jobPostingBulkConfirmationDto.setJobPostingConfirmationTypeId(jobPostingConfirmationTypeId);
+		jobPostingBulkConfirmationDto.setConfirmed(isConfirmed);
+		return jobPostingBulkConfirmationDto;
+	}
+
+	private static JobPosting waitingJobPosting(int id) {
+
+		JobPosting jobPosting = new JobPosting();
+		jobPosting.setId(id);
+		return jobPosting;
+	}
+
+	private static JobPosting jobPosting(int id, LocalDateTime postingDate) {
+
+		JobPosting jobPosting = new JobPosting();
+		jobPosting.setId(id);
+		jobPosting.setPostingDate(postingDate);
+		jobPosting.setActive(true);
+		return jobPosting;
+	}
+
+}
@@ -0,0 +1,125 @@
+package io.kodlama.hrms.business.concretes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import io.kodlama.hrms.dataAccess.abstracts.JobPostingDao;
+import io.kodlama.hrms.entities.concretes.City;
+import io.kodlama.hrms.entities.concretes.JobPosting;
+import io.kodlama.hrms.entities.dtos.JobPostingFilterDto;
+import io.kodlama.hrms.entities.dtos.JobPostingIndexEntryDto;
+
+class JobPostingSearchIndexManagerTests {
+
+	private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+	private JobPostingDao jobPostingDao;
+	private JobPostingSearchIndexManager jobPostingSearchIndexManager;
+
+	@BeforeEach
+	void setUp() {
+		jobPostingDao = mock(JobPostingDao.class);
+		jobPostingSearchIndexManager = new JobPostingSearchIndexManager(jobPostingDao, new SyncTaskExecutor());
+	}
+
+	@Test
+	void filtersByEveryGivenFacetAndPagesNewestFirst() {
+
+		when(jobPostingDao.getAllActiveIndexEntries()).thenReturn(List.of(
+				entry(1, 34, 7, MONDAY),
+				entry(2, 34, 8, MONDAY.plusDays(1)),
+				entry(3, 6, 7, MONDAY.plusDays(2)),
+				entry(4, 34, 7, MONDAY.plusDays(3))));
+
+		jobPostingSearchIndexManager.rebuild();
+
+		assertThat(idsOf(filter(34, 0))).containsExactly(4, 2, 1);
+		assertThat(idsOf(filter(34, 7))).containsExactly(4, 1);
+		assertThat(jobPostingSearchIndexManager.getPageOfIdsSortedByPostingDate(jobPostingSearchIndexManager.getAllActiveIdsFilteredBy(filter(0, 0)), 1, 2))
+				.containsExactly(3, 2);
+	}
+
+	@Test
+	void changesMadeWhileRebuildingSurviveTheSwap() {
+
+		when(jobPostingDao.getAllActiveIndexEntries()).thenAnswer(invocation -> {
+			// A posting is confirmed and another one deleted after the rebuild read its rows.
+			jobPostingSearchIndexManager.index(jobPosting(3, 34));
+			jobPostingSearchIndexManager.remove(2);
+			return List.of(entry(1, 34, 7, MONDAY), entry(2, 34, 7, MONDAY));
+		});
+
+		jobPostingSearchIndexManager.rebuild();
+
+		assertThat(idsOf(filter(34, 0))).containsExactlyInAnyOrder(1, 3);
+	}
+
+	@Test
+	void refreshPicksUpPostingsChangedOnOtherNodes() {
+
+		when(jobPostingDao.getAllActiveIndexEntries()).thenReturn(List.of(entry(1, 34, 7, MONDAY), entry(2, 34, 7, MONDAY), entry(3, 34, 7, MONDAY)));
+		jobPostingSearchIndexManager.rebuild();
+
+		// Elsewhere: 1 moved to another city, 2 was deleted and 4 was confirmed.
+		when(jobPostingDao.getAllActiveIds()).thenReturn(List.of(1, 3, 4));
+		when(jobPostingDao.getAllActiveIndexEntriesUpdatedSince(any(LocalDateTime.class))).thenReturn(List.of(entry(1, 6, 7, MONDAY)));
+		when(jobPostingDao.getAllActiveIndexEntriesByIdIn(anyCollection())).thenReturn(List.of(entry(4, 34, 7, MONDAY)));
+
+		jobPostingSearchIndexManager.refresh();
+
+		assertThat(idsOf(filter(34, 0))).containsExactlyInAnyOrder(3, 4);
+		assertThat(idsOf(filter(6, 0))).containsExactly(1);
+	}
+
+	@Test
+	void deactivatedPostingLeavesEveryFacet() {
+
+		when(jobPostingDao.getAllActiveIndexEntries()).thenReturn(List.of(entry(1, 34, 7, MONDAY)));
+		jobPostingSearchIndexManager.rebuild();
+
+		JobPosting jobPosting = jobPosting(1, 34);
+		jobPosting.setActive(false);
+		jobPostingSearchIndexManager.index(jobPosting);
+
+		assertThat(idsOf(filter(0, 0))).isEmpty();
+		assertThat(jobPostingSearchIndexManager.getFacetCounts(filter(0, 0)).getCityCounts()).isEmpty();
+	}
+
+	private List<Integer> idsOf(JobPostingFilterDto filter) {
+		RoaringBitmap ids = jobPostingSearchIndexManager.getAllActiveIdsFilteredBy(filter);
+		return jobPostingSearchIndexManager.getPageOfIdsSortedByPostingDate(ids, 0, ids.getCardinality());
+	}
+
+	private static JobPostingFilterDto filter(int cityId, int jobTitleId) {
+		return new JobPostingFilterDto(cityId, jobTitleId, 0, 0);
+	}
+
+	private static JobPostingIndexEntryDto entry(int id, int cityId, int jobTitleId, LocalDateTime postingDate) {
+		return new JobPostingIndexEntryDto(id, cityId, jobTitleId, null, null, postingDate, null);
+	}
+
+	private static JobPosting jobPosting(int id, int cityId) {
+
+		City city = new City();
+		city.setId(cityId);
+
+		JobPosting jobPosting = new JobPosting();
+		jobPosting.setId(id);
+		jobPosting.setCity(city);
+		jobPosting.setPostingDate(MONDAY);
+		jobPosting.setActive(true);
+		return jobPosting;
+	}
+
+}
@@ -0,0 +1,71 @@
+package io.kodlama.hrms.business.concretes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.kodlama.hrms.dataAccess.abstracts.JobPostingDao;
+import io.kodlama.hrms.entities.concretes.JobPosting;
+
+class JobPostingSnapshotManagerTests {
+
+	private JobPostingDao jobPostingDao;
+	private JobPostingSnapshotManager jobPostingSnapshotManager;
+
+	@BeforeEach
+	void setUp() {
+		jobPostingDao = mock(JobPostingDao.class);
+		jobPostingSnapshotManager = new JobPostingSnapshotManager(jobPostingDao, new ObjectMapper().findAndRegisterModules());
+		ReflectionTestUtils.setField(jobPostingSnapshotManager, "snapshotSize", 6);
+	}
+
+	@Test
+	void servesTheSameBytesUntilInvalidated() {
+
+		when(jobPostingDao.getByIsActive(eq(true), any(Pageable.class))).thenReturn(List.of(jobPosting(1)), List.of(jobPosting(2)));
+
+		byte[] first = jobPostingSnapshotManager.getLatestActiveOnesSnapshot();
+		assertThat(jobPostingSnapshotManager.getLatestActiveOnesSnapshot()).isSameAs(first);
+
+		jobPostingSnapshotManager.onSchedule();
+
+		assertThat(new String(jobPostingSnapshotManager.getLatestActiveOnesSnapshot(), StandardCharsets.UTF_8)).contains("\"id\":2");
+		verify(jobPostingDao, times(2)).getByIsActive(eq(true), any(Pageable.class));
+	}
+
+	@Test
+	void buildThatRacedWithAChangeIsNotKept() {
+
+		when(jobPostingDao.getByIsActive(eq(true), any(Pageable.class))).thenAnswer(invocation -> {
+			jobPostingSnapshotManager.invalidate();
+			return List.of(jobPosting(1));
+		}).thenReturn(List.of(jobPosting(2)));
+
+		jobPostingSnapshotManager.getLatestActiveOnesSnapshot();
+
+		assertThat(new String(jobPostingSnapshotManager.getLatestActiveOnesSnapshot(), StandardCharsets.UTF_8)).contains("\"id\":2");
+	}
+
+	private static JobPosting jobPosting(int id) {
+
+		JobPosting jobPosting = new JobPosting();
+		jobPosting.setId(id);
+		jobPosting.setActive(true);
+		return jobPosting;
+	}
+
+}
@@ -0,0 +1,90 @@
+package io.kodlama.hrms.business.concretes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class JobPostingViewCounterManagerTests {
+
+	private JdbcTemplate jdbcTemplate;
+	private JobPostingViewCounterManager jobPostingViewCounterManager;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		jobPostingViewCounterManager = new JobPostingViewCounterManager(jdbcTemplate);
+	}
+
+	@Test
+	void flushWritesOneDeltaPerViewedPosting() {
+
+		jobPostingViewCounterManager.recordView(1);
+		jobPostingViewCounterManager.recordView(1);
+		jobPostingViewCounterManager.recordView(2);
+
+		jobPostingViewCounterManager.flush();
+
+		assertThat(flushedDeltas(1)).containsOnly(Map.entry(1, 2L), Map.entry(2, 1L));
+	}
+
+	@Test
+	void idleFlushWritesNothing() {
+
+		jobPostingViewCounterManager.recordView(1);
+		jobPostingViewCounterManager.flush();
+		jobPostingViewCounterManager.flush();
+
+		verify(jdbcTemplate, times(1)).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
+	}
+
+	@Test
+	void failedFlushIsRetriedWithTheViewsRecordedSince() {
+
+		when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any()))
+				.thenThrow(new DataAccessResourceFailureException("down"))
+				.thenReturn(new int[0][]);
+
+		jobPostingViewCounterManager.recordView(1);
+		jobPostingViewCounterManager.flush();
+		jobPostingViewCounterManager.recordView(1);
+		jobPostingViewCounterManager.flush();
+
+		assertThat(flushedDeltas(2)).containsOnly(Map.entry(1, 2L));
+	}
+
+	@Test
+	void removedPostingsAreNotFlushed() {
+
+		jobPostingViewCounterManager.recordView(1);
+		jobPostingViewCounterManager.remove(1);
+		jobPostingViewCounterManager.flush();
+
+		verify(jdbcTemplate).update("DELETE FROM job_posting_view_counts WHERE job_posting_id = ?", 1);
+		verify(jdbcTemplate, never()).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<Integer, Long> flushedDeltas(int flushCount) {
+
+		ArgumentCaptor<Collection<long[]>> deltas = ArgumentCaptor.forClass(Collection.class);
+		verify(jdbcTemplate, times(flushCount)).batchUpdate(anyString(), deltas.capture(), anyInt(), any());
+		return deltas.getValue().stream().collect(Collectors.toMap(delta -> (int) delta[0], delta -> delta[1]));
+	}
+
+}
@@ -0,0 +1,100 @@
+package io.kodlama.hrms.business.concretes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import io.kodlama.hrms.business.abstracts.UserService;
+import io.kodlama.hrms.core.entities.User;
+import io.kodlama.hrms.core.utilities.results.Result;
+import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
+import io.kodlama.hrms.dataAccess.abstracts.LeaveBalanceDao;
+import io.kodlama.hrms.dataAccess.abstracts.LeaveDao;
+import io.kodlama.hrms.entities.concretes.Leave;
+
+class LeaveManagerTests {
+
+	private static final LocalDate START = LocalDate.now().plusDays(7);
+	private static final LocalDate END = START.plusDays(2);
+
+	private LeaveDao leaveDao;
+	private JdbcTemplate jdbcTemplate;
+	private PlatformTransactionManager transactionManager;
+	private LeaveManager leaveManager;
+
+	@BeforeEach
+	void setUp() {
+		leaveDao = mock(LeaveDao.class);
+		jdbcTemplate = mock(JdbcTemplate.class);
+		UserService userService = mock(UserService.class);
+		when(userService.getById(1)).thenReturn(new SuccessDataResult<User>(new User()));
+		transactionManager = mock(PlatformTransactionManager.class);
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		leaveManager = new LeaveManager(leaveDao, mock(LeaveBalanceDao.class), userService, jdbcTemplate, transactionManager);
+	}
+
+	@Test
+	void rejectsOverlappingLeaveWithoutSaving() {
+
+		when(leaveDao.existsActiveOverlapping(1, START, END)).thenReturn(true);
+
+		Result result = leaveManager.applyLeave(1, START, END, Leave.LeaveType.SICK, "Grip");
+
+		assertThat(result.isSuccess()).isFalse();
+		assertThat(result.getMessage()).isEqualTo("You already have a leave application for this period");
+		verify(leaveDao, never()).save(any());
+	}
+
+	@Test
+	void reportsOverlapWhenConcurrentApplicationViolatesConstraint() {
+
+		SQLException sqlException = new SQLException("ERROR: conflicting key value violates exclusion constraint \"ex_leaves_employee_period\"", "23P01");
+		when(leaveDao.save(any(Leave.class))).thenThrow(new DataIntegrityViolationException("could not execute statement",
+				new ConstraintViolationException("could not execute statement", sqlException, null)));
+
+		Result result = leaveManager.applyLeave(1, START, END, Leave.LeaveType.SICK, "Grip");
+
+		assertThat(result.isSuccess()).isFalse();
+		assertThat(result.getMessage()).isEqualTo("You already have a leave application for this period");
+		verify(transactionManager).commit(argThat(TransactionStatus::isRollbackOnly));
+	}
+
+	@Test
+	void rethrowsOtherIntegrityViolations() {
+
+		SQLException sqlException = new SQLException("ERROR: insert or update on table \"leaves\" violates foreign key constraint \"fk_leaves_users\"", "23503");
+		when(leaveDao.save(any(Leave.class))).thenThrow(new DataIntegrityViolationException("could not execute statement",
+				new ConstraintViolationException("could not execute statement", sqlException, "fk_leaves_users")));
+
+		assertThatThrownBy(() -> leaveManager.applyLeave(1, START, END, Leave.LeaveType.SICK, "Grip"))
+				.isInstanceOf(DataIntegrityViolationException.class);
+	}
+
+	@Test
+	void submitsLeaveThatDoesNotOverlap() {
+
+		Result result = leaveManager.applyLeave(1, START, END, Leave.LeaveType.SICK, "Grip");
+
+		assertThat(result.isSuccess()).isTrue();
+		verify(jdbcTemplate).queryForList("SELECT id FROM users WHERE id = ? FOR UPDATE", Integer.class, 1);
+		verify(leaveDao).save(any(Leave.class));
+	}
+
+}
@@ -0,0 +1,136 @@
+package io.kodlama.hrms.business.concretes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import io.kodlama.hrms.business.abstracts.CandidateService;
+import io.kodlama.hrms.business.concretes.RecommendationManager.JobPostingVector;
+import io.kodlama.hrms.business.concretes.RecommendationManager.ResumeVector;
+import io.kodlama.hrms.dataAccess.abstracts.JobPostingDao;
+import io.kodlama.hrms.dataAccess.abstracts.ResumeDao;
+import io.kodlama.hrms.entities.concretes.JobPosting;
+import io.kodlama.hrms.entities.dtos.JobPostingFeatureRowDto;
+import io.kodlama.hrms.entities.dtos.JobPostingSummaryDto;
+import io.kodlama.hrms.entities.dtos.ResumeFeatureRowDto;
+
+class RecommendationManagerTests {
+
+	private static final int[][] NONE = new int[0][];
+
+	private ResumeDao resumeDao;
+	private JobPostingDao jobPostingDao;
+	private RecommendationManager recommendationManager;
+
+	@BeforeEach
+	void setUp() {
+		resumeDao = mock(ResumeDao.class);
+		jobPostingDao = mock(JobPostingDao.class);
+		recommendationManager = new RecommendationManager(resumeDao, jobPostingDao, mock(CandidateService.class), new SyncTaskExecutor());
+
+		when(resumeDao.getAllIds()).thenReturn(List.of(5));
+		when(resumeDao.getCandidateFeatureRowsByIdIn(any())).thenReturn(List.of(new ResumeFeatureRowDto(5, (Integer) 10)));
+		when(resumeDao.getSkillFeatureRowsByIdIn(any())).thenReturn(List.of(new ResumeFeatureRowDto(5, "Java")));
+	}
+
+	@Test
+	void rebuildStartsAFreshDictionary() {
+
+		when(jobPostingDao.getAllActiveFeatureRows()).thenReturn(List.of(new JobPostingFeatureRowDto(1, null, null, "java spring", null)));
+		recommendationManager.rebuild();
+		int termCount = recommendationManager.getTermCount();
+
+		JobPosting jobPosting = new JobPosting();
+		jobPosting.setId(2);
+		jobPosting.setActive(true);
+		jobPosting.setJobDescription("kotlin ktor gradle");
+		recommendationManager.indexJobPosting(jobPosting);
+		recommendationManager.removeJobPosting(2);
+		assertThat(recommendationManager.getTermCount()).isEqualTo(termCount + 3);
+
+		recommendationManager.rebuild();
+
+		assertThat(recommendationManager.getTermCount()).isEqualTo(termCount);
+	}
+
+	@Test
+	void refreshScoresPostingsActivatedOnOtherNodesAndDropsDeactivatedOnes() {
+
+		when(jobPostingDao.getAllActiveFeatureRows()).thenReturn(List.of(new JobPostingFeatureRowDto(1, null, null, "java", null)));
+		recommendationManager.rebuild();
+
+		when(jobPostingDao.getAllActiveIds()).thenReturn(List.of(2));
+		when(jobPostingDao.getAllActiveFeatureRowsByIdIn(List.of(2))).thenReturn(List.of(new JobPostingFeatureRowDto(2, null, null, "java geliştirici", null)));
+		recommendationManager.refresh();
+
+		JobPostingSummaryDto summary = new JobPostingSummaryDto();
+		summary.setId(2);
+		when(jobPostingDao.getSummariesByIdIn(List.of(2))).thenReturn(List.of(summary));
+
+		assertThat(recommendationManager.getJobPostingsForCandidate(10, 10).getData()).hasSize(1);
+		verify(jobPostingDao).getSummariesByIdIn(List.of(2));
+	}
+
+	@Test
+	void refreshDropsDeletedResumes() {
+
+		recommendationManager.rebuild();
+		assertThat(recommendationManager.getJobPostingsForCandidate(10, 10).isSuccess()).isTrue();
+
+		when(resumeDao.getAllIds()).thenReturn(List.of());
+		recommendationManager.refresh();
+
+		assertThat(recommendationManager.getJobPostingsForCandidate(10, 10).isSuccess()).isFalse();
+	}
+
+	@Test
+	void matchingJobTitleGrowsWithMonthsUpToTenYears() {
+
+		JobPostingVector jobPosting = new JobPostingVector(1, 7, new int[0], null);
+
+		assertThat(RecommendationManager.score(resume(NONE, NONE, new int[0], new int[0], new int[] { 7 }, new int[] { 60 }), jobPosting))
+				.isCloseTo(3, within(1e-9));
+		assertThat(RecommendationManager.score(resume(NONE, NONE, new int[0], new int[0], new int[] { 7 }, new int[] { 600 }), jobPosting))
+				.isCloseTo(4, within(1e-9));
+		assertThat(RecommendationManager.score(resume(NONE, NONE, new int[0], new int[0], new int[] { 8 }, new int[] { 60 }), jobPosting))
+				.isZero();
+	}
+
+	@Test
+	void skillsAndDepartmentsCountOnlyWhenAllTheirTermsAppear() {
+
+		JobPostingVector jobPosting = new JobPostingVector(1, null, new int[] { 1, 2, 3 }, null);
+		int[][] skills = { { 1, 2 }, { 1, 4 } };
+		int[][] departments = { { 3 }, { 5 } };
+
+		assertThat(RecommendationManager.score(resume(skills, departments, new int[0], new int[0], new int[0], new int[0]), jobPosting))
+				.isCloseTo(1.5, within(1e-9));
+	}
+
+	@Test
+	void mentionedLanguagesScaleWithCappedRank() {
+
+		JobPostingVector jobPosting = new JobPostingVector(1, null, new int[] { 10, 20 }, null);
+
+		assertThat(RecommendationManager.score(resume(NONE, NONE, new int[] { 10 }, new int[] { 3 }, new int[0], new int[0]), jobPosting))
+				.isCloseTo(0.75, within(1e-9));
+		assertThat(RecommendationManager.score(resume(NONE, NONE, new int[] { 20 }, new int[] { 9 }, new int[0], new int[0]), jobPosting))
+				.isCloseTo(1, within(1e-9));
+		assertThat(RecommendationManager.score(resume(NONE, NONE, new int[] { 30 }, new int[] { 6 }, new int[0], new int[0]), jobPosting))
+				.isZero();
+	}
+
+	private static ResumeVector resume(int[][] skills, int[][] departments, int[] languages, int[] languageRanks, int[] jobTitleIds, int[] jobTitleMonths) {
+		return new ResumeVector(1, 1, true, skills, departments, languages, languageRanks, jobTitleIds, jobTitleMonths);
+	}
+
+}
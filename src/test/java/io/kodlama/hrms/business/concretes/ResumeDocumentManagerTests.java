@@ -0,0 +1,115 @@
+package io.kodlama.hrms.business.concretes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.kodlama.hrms.business.abstracts.ResumeService;
+import io.kodlama.hrms.business.events.ResumeChangedEvent;
+import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
+import io.kodlama.hrms.dataAccess.abstracts.ResumeDao;
+import io.kodlama.hrms.entities.concretes.Candidate;
+import io.kodlama.hrms.entities.concretes.Resume;
+import io.kodlama.hrms.entities.dtos.ResumeWithAllRelatedEntitiesDto;
+
+class ResumeDocumentManagerTests {
+
+	private ResumeDao resumeDao;
+	private ResumeService resumeService;
+	private JdbcTemplate jdbcTemplate;
+	private TaskExecutor resumeIndexExecutor;
+	private ResumeDocumentManager resumeDocumentManager;
+
+	@BeforeEach
+	void setUp() {
+		resumeDao = mock(ResumeDao.class);
+		resumeService = mock(ResumeService.class);
+		jdbcTemplate = mock(JdbcTemplate.class);
+		resumeIndexExecutor = mock(TaskExecutor.class);
+		resumeDocumentManager = new ResumeDocumentManager(resumeDao, resumeService, jdbcTemplate, new ObjectMapper().findAndRegisterModules(),
+				resumeIndexExecutor, mock(PlatformTransactionManager.class));
+
+		Candidate candidate = new Candidate();
+		candidate.setId(7);
+		candidate.setEmail("aday@hrms.io");
+		candidate.setPassword("gizli-parola");
+		candidate.setFirstName("Ayşe");
+		Resume resume = new Resume(candidate);
+		resume.setId(5);
+
+		when(resumeDao.findById(5)).thenReturn(Optional.of(resume));
+		when(resumeDao.getByCandidate_Id(7)).thenReturn(resume);
+		ResumeWithAllRelatedEntitiesDto details = new ResumeWithAllRelatedEntitiesDto();
+		details.setId(5);
+		details.setCandidate(candidate);
+		when(resumeService.getResumeDetailsByCandidateId(7)).thenReturn(new SuccessDataResult<ResumeWithAllRelatedEntitiesDto>(details));
+	}
+
+	@Test
+	void storesTheDetailsWithoutThePassword() {
+		resumeDocumentManager.rebuild(5);
+
+		ArgumentCaptor<Object> document = ArgumentCaptor.forClass(Object.class);
+		verify(jdbcTemplate).update(anyString(), eq(7), eq(5), document.capture());
+		assertThat((String) document.getValue()).contains("\"firstName\":\"Ayşe\"").contains("aday@hrms.io").doesNotContain("password", "gizli-parola");
+	}
+
+	@Test
+	void deletesTheDocumentOfADeletedResume() {
+		when(resumeDao.findById(6)).thenReturn(Optional.empty());
+
+		resumeDocumentManager.rebuild(6);
+
+		verify(jdbcTemplate).update("DELETE FROM resume_documents WHERE resume_id = ?", 6);
+		verify(resumeService, never()).getResumeDetailsByCandidateId(any(Integer.class));
+	}
+
+	@Test
+	void deletesTheStaleDocumentWhenTheQueueIsFull() {
+		doThrow(new TaskRejectedException("full")).when(resumeIndexExecutor).execute(any(Runnable.class));
+
+		resumeDocumentManager.onResumeChanged(new ResumeChangedEvent(5));
+
+		verify(jdbcTemplate).update("DELETE FROM resume_documents WHERE resume_id = ?", 5);
+	}
+
+	@Test
+	void servesTheStoredDocumentWithoutBuildingIt() {
+		when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(7))).thenReturn(List.of("{\"success\":true}"));
+
+		assertThat(new String(resumeDocumentManager.getByCandidateId(7), StandardCharsets.UTF_8)).isEqualTo("{\"success\":true}");
+		verify(resumeService, never()).getResumeDetailsByCandidateId(any(Integer.class));
+	}
+
+	@Test
+	void buildsAMissingDocumentAndQueuesItsRebuild() {
+		resumeDocumentManager = new ResumeDocumentManager(resumeDao, resumeService, jdbcTemplate, new ObjectMapper().findAndRegisterModules(),
+				new SyncTaskExecutor(), mock(PlatformTransactionManager.class));
+		when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(7))).thenReturn(List.of());
+
+		assertThat(new String(resumeDocumentManager.getByCandidateId(7), StandardCharsets.UTF_8)).contains("\"id\":5").doesNotContain("gizli-parola");
+		verify(jdbcTemplate).update(anyString(), eq(7), eq(5), any());
+	}
+
+}
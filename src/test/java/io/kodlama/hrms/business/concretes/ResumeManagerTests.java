@@ -0,0 +1,121 @@
+package io.kodlama.hrms.business.concretes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.kodlama.hrms.business.abstracts.CoverLetterService;
+import io.kodlama.hrms.business.abstracts.EducationService;
+import io.kodlama.hrms.business.abstracts.ExperienceService;
+import io.kodlama.hrms.business.abstracts.ImageService;
+import io.kodlama.hrms.business.abstracts.LanguageLevelService;
+import io.kodlama.hrms.business.abstracts.LinkService;
+import io.kodlama.hrms.business.abstracts.SkillService;
+import io.kodlama.hrms.business.events.ResumeChangedEvent;
+import io.kodlama.hrms.core.utilities.results.DataResult;
+import io.kodlama.hrms.core.utilities.results.Result;
+import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
+import io.kodlama.hrms.dataAccess.abstracts.ResumeDao;
+import io.kodlama.hrms.entities.concretes.Candidate;
+import io.kodlama.hrms.entities.concretes.CoverLetter;
+import io.kodlama.hrms.entities.concretes.Resume;
+import io.kodlama.hrms.entities.dtos.ResumePatchDto;
+
+class ResumeManagerTests {
+
+	private static final String CONFLICT_MESSAGE = "Özgeçmiş başka bir oturumda değiştirildi, lütfen yenileyip tekrar deneyin.";
+
+	private ResumeDao resumeDao;
+	private CoverLetterService coverLetterService;
+	private ApplicationEventPublisher applicationEventPublisher;
+	private ResumeManager resumeManager;
+
+	private CoverLetter coverLetter = new CoverLetter();
+
+	@BeforeEach
+	void setUp() {
+		resumeDao = mock(ResumeDao.class);
+		coverLetterService = mock(CoverLetterService.class);
+		applicationEventPublisher = mock(ApplicationEventPublisher.class);
+		resumeManager = new ResumeManager(resumeDao, coverLetterService, mock(ImageService.class), mock(EducationService.class), mock(ExperienceService.class),
+				mock(LanguageLevelService.class), mock(LinkService.class), mock(SkillService.class), applicationEventPublisher,
+				new SyncTaskExecutor(), mock(PlatformTransactionManager.class));
+
+		coverLetter.setId(3);
+		when(coverLetterService.getById(3)).thenReturn(new SuccessDataResult<CoverLetter>(coverLetter));
+		when(resumeDao.existsById(1)).thenReturn(true);
+	}
+
+	@Test
+	void patchReturnsTheNextVersion() {
+		when(resumeDao.updateCoverLetterByIdAndVersion(eq(1), eq(4), eq(coverLetter), any())).thenReturn(1);
+
+		Result result = resumeManager.patch(new ResumePatchDto(1, 4, 3));
+
+		assertThat(result.isSuccess()).isTrue();
+		assertThat(((DataResult<?>) result).getData()).isEqualTo(5);
+		verify(applicationEventPublisher).publishEvent(new ResumeChangedEvent(1));
+	}
+
+	@Test
+	void patchOfAStaleVersionIsAConflict() {
+		when(resumeDao.deleteCoverLetterByIdAndVersion(eq(1), eq(3), any())).thenReturn(0);
+		when(resumeDao.deleteCoverLetterByIdAndVersion(eq(2), eq(3), any())).thenReturn(0);
+
+		assertThat(resumeManager.patch(new ResumePatchDto(1, 3, null)).getMessage()).isEqualTo(CONFLICT_MESSAGE);
+		assertThat(resumeManager.patch(new ResumePatchDto(2, 3, null)).getMessage()).isEqualTo("Özgeçmiş bulunamadı.");
+		verify(applicationEventPublisher, never()).publishEvent(any());
+	}
+
+	@Test
+	void patchWithAnUnknownCoverLetterFails() {
+		when(resumeDao.updateCoverLetterByIdAndVersion(eq(1), eq(4), eq(coverLetter), any())).thenThrow(new DataIntegrityViolationException("fk"));
+
+		assertThat(resumeManager.patch(new ResumePatchDto(1, 4, 3)).getMessage()).isEqualTo("Ön yazı bulunamadı.");
+	}
+
+	@Test
+	void addCoverLetterPatchesTheCurrentVersion() {
+		when(resumeDao.getVersionById(1)).thenReturn(7);
+		when(resumeDao.updateCoverLetterByIdAndVersion(eq(1), eq(7), eq(coverLetter), any())).thenReturn(1);
+
+		assertThat(resumeManager.addCoverLetterToResume(1, 3).getMessage()).isEqualTo("Ön yazı özgeçmişe eklendi.");
+		assertThat(resumeManager.addCoverLetterToResume(2, 3).getMessage()).isEqualTo("Özgeçmiş bulunamadı.");
+	}
+
+	@Test
+	void updateWritesThePayloadUnderTheVersionItRead() {
+		Candidate candidate = new Candidate();
+		candidate.setId(9);
+		Resume resume = new Resume(candidate);
+		resume.setId(1);
+		resume.setVersion(2);
+		when(resumeDao.updateCandidateByIdAndVersion(eq(1), eq(2), eq(candidate), any())).thenReturn(1);
+
+		Result result = resumeManager.update(resume);
+
+		assertThat(result.isSuccess()).isTrue();
+		assertThat(((DataResult<?>) result).getData()).isEqualTo(3);
+
+		resume.setVersion(1);
+		assertThat(resumeManager.update(resume).getMessage()).isEqualTo(CONFLICT_MESSAGE);
+
+		resume.setVersion(null);
+		assertThat(resumeManager.update(resume).isSuccess()).isFalse();
+		verify(resumeDao, times(2)).updateCandidateByIdAndVersion(anyInt(), anyInt(), any(), any());
+	}
+
+}
@@ -0,0 +1,146 @@
+package io.kodlama.hrms.business.concretes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.kodlama.hrms.business.abstracts.ResumeDocumentService;
+import io.kodlama.hrms.core.utilities.results.DataResult;
+
+class ResumePdfManagerTests {
+
+	private static final String DOCUMENT = "{\"success\":true,\"message\":null,\"data\":{\"id\":5,"
+			+ "\"candidate\":{\"firstName\":\"Ayşe\",\"lastName\":\"Yılmaz\",\"email\":\"aday@hrms.io\"},"
+			+ "\"skills\":[{\"skill\":\"Java\"},{\"skill\":\"Spring\"}]}}";
+
+	@TempDir
+	Path cacheDir;
+
+	private ResumeDocumentService resumeDocumentService;
+	private List<Runnable> tasks = new ArrayList<Runnable>();
+	private boolean rejectTasks;
+	private ResumePdfManager resumePdfManager;
+
+	@BeforeEach
+	void setUp() {
+		resumeDocumentService = mock(ResumeDocumentService.class);
+		when(resumeDocumentService.getByCandidateId(7)).thenReturn(DOCUMENT.getBytes(StandardCharsets.UTF_8));
+
+		resumePdfManager = new ResumePdfManager(resumeDocumentService, new ObjectMapper(), task -> {
+			if (rejectTasks) {
+				throw new TaskRejectedException("full");
+			}
+			tasks.add(task);
+		});
+		ReflectionTestUtils.setField(resumePdfManager, "cacheDir", cacheDir.toString());
+		ReflectionTestUtils.setField(resumePdfManager, "cacheMaxAgeHours", 1L);
+	}
+
+	@Test
+	void rendersOnceAndServesTheCachedFile() throws Exception {
+		Path path = get(7).getData();
+
+		assertThat(path.getParent()).isEqualTo(cacheDir);
+		assertThat(new String(Files.readAllBytes(path), 0, 5, StandardCharsets.ISO_8859_1)).isEqualTo("%PDF-");
+
+		CompletableFuture<DataResult<Path>> cached = resumePdfManager.getByCandidateId(7);
+		assertThat(runTasks()).isEqualTo(1);
+		assertThat(cached.get().getData()).isEqualTo(path);
+	}
+
+	@Test
+	void rendersAgainWhenTheDocumentChanges() throws Exception {
+		Path path = get(7).getData();
+
+		when(resumeDocumentService.getByCandidateId(7)).thenReturn(DOCUMENT.replace("Spring", "Docker").getBytes(StandardCharsets.UTF_8));
+
+		assertThat(get(7).getData()).isNotEqualTo(path);
+		assertThat(cachedFileCount()).isEqualTo(2);
+	}
+
+	@Test
+	void concurrentDownloadsShareOneRender() throws Exception {
+		CompletableFuture<DataResult<Path>> first = resumePdfManager.getByCandidateId(7);
+		CompletableFuture<DataResult<Path>> second = resumePdfManager.getByCandidateId(7);
+
+		// Two document loads and a single render.
+		assertThat(runTasks()).isEqualTo(3);
+		assertThat(first.get().getData()).isEqualTo(second.get().getData());
+	}
+
+	@Test
+	void passesOnTheErrorOfAMissingResume() throws Exception {
+		when(resumeDocumentService.getByCandidateId(8)).thenReturn("{\"success\":false,\"message\":\"Özgeçmiş bulunamadı.\"}".getBytes(StandardCharsets.UTF_8));
+
+		DataResult<Path> result = get(8);
+
+		assertThat(result.isSuccess()).isFalse();
+		assertThat(result.getMessage()).isEqualTo("Özgeçmiş bulunamadı.");
+		assertThat(cachedFileCount()).isZero();
+	}
+
+	@Test
+	void failsFastWhenTheQueueIsFull() {
+		rejectTasks = true;
+
+		assertThatThrownBy(() -> resumePdfManager.getByCandidateId(7)).isInstanceOf(RejectedExecutionException.class);
+	}
+
+	@Test
+	void evictsOnlyFilesNotUsedWithinTheMaxAge() throws Exception {
+		Path expired = Files.write(cacheDir.resolve("expired.pdf"), new byte[] { 1 });
+		Files.setLastModifiedTime(expired, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+		Path recent = Files.write(cacheDir.resolve("recent.pdf"), new byte[] { 1 });
+
+		resumePdfManager.evictExpired();
+
+		assertThat(expired).doesNotExist();
+		assertThat(recent).exists();
+	}
+
+	private DataResult<Path> get(int candidateId) throws Exception {
+
+		CompletableFuture<DataResult<Path>> result = resumePdfManager.getByCandidateId(candidateId);
+		runTasks();
+		return result.get();
+	}
+
+	private long cachedFileCount() throws IOException {
+		try (Stream<Path> paths = Files.list(cacheDir)) {
+			return paths.count();
+		}
+	}
+
+	private int runTasks() {
+
+		int count = 0;
+		while (!tasks.isEmpty()) {
+			tasks.remove(0).run();
+			count++;
+		}
+		return count;
+	}
+
+}
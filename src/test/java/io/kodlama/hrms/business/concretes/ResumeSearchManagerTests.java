@@ -0,0 +1,153 @@
+package io.kodlama.hrms.business.concretes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import io.kodlama.hrms.business.abstracts.ResumeService;
+import io.kodlama.hrms.core.utilities.results.DataResult;
+import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
+import io.kodlama.hrms.dataAccess.abstracts.LevelDao;
+import io.kodlama.hrms.dataAccess.abstracts.ResumeDao;
+import io.kodlama.hrms.entities.concretes.Level;
+import io.kodlama.hrms.entities.dtos.LanguageLevelCriterionDto;
+import io.kodlama.hrms.entities.dtos.ResumeFeatureRowDto;
+import io.kodlama.hrms.entities.dtos.ResumeSearchDto;
+import io.kodlama.hrms.entities.dtos.ResumeWithAllRelatedEntitiesDto;
+
+class ResumeSearchManagerTests {
+
+	private static final int ENGLISH = 1;
+	private static final int A2 = 1;
+	private static final int B2 = 2;
+	private static final int BACKEND_DEVELOPER = 10;
+	private static final int FRONTEND_DEVELOPER = 11;
+
+	private ResumeDao resumeDao;
+	private ResumeService resumeService;
+	private ResumeSearchManager resumeSearchManager;
+
+	private List<Integer> resumeIds = new ArrayList<Integer>(List.of(1, 2, 3, 4));
+	private List<Integer> activatedIds = new ArrayList<Integer>(List.of(1, 2, 4));
+	private List<ResumeFeatureRowDto> skillRows = List.of(
+			new ResumeFeatureRowDto(1, "Java"), new ResumeFeatureRowDto(1, "Spring"),
+			new ResumeFeatureRowDto(2, "java"),
+			new ResumeFeatureRowDto(3, "Java"),
+			new ResumeFeatureRowDto(4, "Java"), new ResumeFeatureRowDto(4, "Docker"));
+
+	@BeforeEach
+	void setUp() {
+		resumeDao = mock(ResumeDao.class);
+		resumeService = mock(ResumeService.class);
+		LevelDao levelDao = mock(LevelDao.class);
+		resumeSearchManager = new ResumeSearchManager(resumeDao, levelDao, resumeService, new SyncTaskExecutor());
+
+		when(levelDao.findAll()).thenReturn(List.of(new Level(A2, "A2", 2), new Level(B2, "B2", 4)));
+		when(resumeDao.getAllIds()).thenAnswer(invocation -> resumeIds);
+		when(resumeDao.getCandidateFeatureRowsByIdIn(any())).thenAnswer(invocation -> requested(invocation.getArgument(0), resumeIds).stream()
+				.map(id -> new ResumeFeatureRowDto(id, (Integer) (100 + id)))
+				.collect(Collectors.toList()));
+		when(resumeDao.getActivatedIdsByIdIn(any())).thenAnswer(invocation -> requested(invocation.getArgument(0), activatedIds));
+		when(resumeDao.getSkillFeatureRowsByIdIn(any())).thenAnswer(rowsOf(skillRows));
+		when(resumeDao.getLanguageLevelFeatureRowsByIdIn(any())).thenAnswer(rowsOf(List.of(
+				new ResumeFeatureRowDto(1, ENGLISH, B2), new ResumeFeatureRowDto(2, ENGLISH, A2),
+				new ResumeFeatureRowDto(3, ENGLISH, B2), new ResumeFeatureRowDto(4, ENGLISH, B2))));
+		when(resumeDao.getExperienceFeatureRowsByIdIn(any())).thenAnswer(rowsOf(List.of(
+				new ResumeFeatureRowDto(1, (Integer) BACKEND_DEVELOPER), new ResumeFeatureRowDto(2, (Integer) FRONTEND_DEVELOPER),
+				new ResumeFeatureRowDto(3, (Integer) BACKEND_DEVELOPER), new ResumeFeatureRowDto(4, (Integer) FRONTEND_DEVELOPER))));
+		when(resumeService.getResumesDetailsByIds(anyList())).thenAnswer(invocation -> new SuccessDataResult<List<ResumeWithAllRelatedEntitiesDto>>(
+				invocation.<List<Integer>>getArgument(0).stream().map(ResumeSearchManagerTests::details).collect(Collectors.toList())));
+
+		resumeSearchManager.rebuild();
+	}
+
+	@Test
+	void requiresEverySkillAndLanguageLevelOfActivatedCandidates() {
+		ResumeSearchDto query = new ResumeSearchDto();
+		query.setSkills(List.of("  JAVA "));
+		query.setLanguageLevels(List.of(new LanguageLevelCriterionDto(ENGLISH, B2)));
+
+		DataResult<List<ResumeWithAllRelatedEntitiesDto>> result = resumeSearchManager.search(query, 10);
+
+		assertThat(idsOf(result)).containsExactly(4, 1);
+		assertThat(result.getMessage()).isEqualTo("2 özgeçmiş bulundu.");
+	}
+
+	@Test
+	void matchesLanguagesAtOrAboveTheLevelAndAnyOfTheJobTitles() {
+		ResumeSearchDto query = new ResumeSearchDto();
+		query.setLanguageLevels(List.of(new LanguageLevelCriterionDto(ENGLISH, A2)));
+		assertThat(idsOf(resumeSearchManager.search(query, 10))).containsExactly(4, 2, 1);
+
+		query.setJobTitleIds(List.of(BACKEND_DEVELOPER, 99));
+		assertThat(idsOf(resumeSearchManager.search(query, 10))).containsExactly(1);
+	}
+
+	@Test
+	void excludesSkillsAndRanksPreferredOnesFirst() {
+		ResumeSearchDto query = new ResumeSearchDto();
+		query.setSkills(List.of("java"));
+		query.setPreferredSkills(List.of("spring"));
+		assertThat(idsOf(resumeSearchManager.search(query, 10))).containsExactly(1, 4, 2);
+		assertThat(idsOf(resumeSearchManager.search(query, 2))).containsExactly(1, 4);
+
+		query.setExcludedSkills(List.of("Docker"));
+		assertThat(idsOf(resumeSearchManager.search(query, 10))).containsExactly(1, 2);
+	}
+
+	@Test
+	void treatsNullCriteriaAsNoConstraint() {
+		ResumeSearchDto query = new ResumeSearchDto(null, null, null, null, null);
+
+		assertThat(idsOf(resumeSearchManager.search(query, 10))).containsExactly(4, 2, 1);
+	}
+
+	@Test
+	void refreshPicksUpChangesOfOtherNodesAndDropsDeletedResumes() {
+		// Resume 2 was deleted and the candidate of resume 3 activated on another node.
+		resumeIds.remove(Integer.valueOf(2));
+		activatedIds.add(3);
+		when(resumeDao.getIdsWithDocumentUpdatedSince(any())).thenReturn(List.of(3));
+
+		resumeSearchManager.refresh();
+
+		ResumeSearchDto query = new ResumeSearchDto();
+		query.setSkills(List.of("java"));
+		assertThat(idsOf(resumeSearchManager.search(query, 10))).containsExactly(4, 3, 1);
+	}
+
+	private List<Integer> idsOf(DataResult<List<ResumeWithAllRelatedEntitiesDto>> result) {
+		return result.getData().stream().map(ResumeWithAllRelatedEntitiesDto::getId).collect(Collectors.toList());
+	}
+
+	private static Answer<List<ResumeFeatureRowDto>> rowsOf(List<ResumeFeatureRowDto> rows) {
+		return invocation -> {
+			Collection<Integer> ids = invocation.getArgument(0);
+			return rows.stream().filter(row -> ids.contains(row.getResumeId())).collect(Collectors.toList());
+		};
+	}
+
+	private static List<Integer> requested(Collection<Integer> ids, List<Integer> existing) {
+		return existing.stream().filter(ids::contains).collect(Collectors.toList());
+	}
+
+	private static ResumeWithAllRelatedEntitiesDto details(int id) {
+
+		ResumeWithAllRelatedEntitiesDto details = new ResumeWithAllRelatedEntitiesDto();
+		details.setId(id);
+		return details;
+	}
+
+}
@@ -0,0 +1,162 @@
+package io.kodlama.hrms.business.concretes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.kodlama.hrms.core.utilities.results.Result;
+import io.kodlama.hrms.entities.concretes.Candidate;
+import io.kodlama.hrms.entities.concretes.Experience;
+import io.kodlama.hrms.entities.concretes.JobTitle;
+import io.kodlama.hrms.entities.concretes.Language;
+import io.kodlama.hrms.entities.concretes.LanguageLevel;
+import io.kodlama.hrms.entities.concretes.Level;
+import io.kodlama.hrms.entities.concretes.Resume;
+import io.kodlama.hrms.entities.concretes.Skill;
+import io.kodlama.hrms.entities.dtos.ResumeSectionsDto;
+
+@DataJpaTest(properties = {
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.sql.init.enabled=false"
+})
+@Import(ResumeSectionManager.class)
+class ResumeSectionManagerTests {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ResumeSectionManager resumeSectionManager;
+
+	private Resume resume;
+	private Skill java;
+	private Skill spring;
+	private JobTitle jobTitle;
+
+	@BeforeEach
+	void setUp() {
+		resume = addResume("aday@hrms.io");
+		java = entityManager.persist(new Skill(0, "Java", resume));
+		spring = entityManager.persist(new Skill(0, "Spring", resume));
+		jobTitle = entityManager.persist(new JobTitle(0, "Backend Developer"));
+		entityManager.persist(new Experience(0, "Şirket", LocalDate.of(2020, 1, 1), null, resume, jobTitle));
+		entityManager.flush();
+	}
+
+	@Test
+	void insertsUpdatesAndDeletesOnlyTheRowsThatDiffer() {
+		ResumeSectionsDto resumeSectionsDto = sections();
+		resumeSectionsDto.setSkills(new ArrayList<Skill>(List.of(
+				new Skill(java.getId(), "Java", null),
+				new Skill(0, "Docker", null))));
+
+		Result result = resumeSectionManager.replaceSections(resumeSectionsDto);
+
+		assertThat(result.isSuccess()).isTrue();
+		assertThat(result.getMessage()).isEqualTo("Özgeçmiş bölümleri güncellendi: 1 eklendi, 0 güncellendi, 1 silindi.");
+		assertThat(skillsOfResume()).containsExactlyInAnyOrder("Java", "Docker");
+		assertThat(countOf("experiences")).isEqualTo(1);
+
+		resumeSectionsDto.setSkills(new ArrayList<Skill>(List.of(new Skill(java.getId(), "Java 17", null))));
+		resumeSectionsDto.setExperiences(new ArrayList<Experience>());
+
+		assertThat(resumeSectionManager.replaceSections(resumeSectionsDto).getMessage())
+				.isEqualTo("Özgeçmiş bölümleri güncellendi: 0 eklendi, 1 güncellendi, 2 silindi.");
+		assertThat(skillsOfResume()).containsExactly("Java 17");
+		assertThat(countOf("experiences")).isZero();
+	}
+
+	@Test
+	void rejectsUnknownReferencesWithoutWritingAnything() {
+		ResumeSectionsDto resumeSectionsDto = sections();
+		resumeSectionsDto.setSkills(new ArrayList<Skill>(List.of(new Skill(0, "Docker", null))));
+		resumeSectionsDto.setExperiences(new ArrayList<Experience>(List.of(
+				new Experience(0, "Başka Şirket", LocalDate.of(2022, 1, 1), null, null, new JobTitle(jobTitle.getId() + 1000, null)))));
+
+		Result result = resumeSectionManager.replaceSections(resumeSectionsDto);
+
+		assertThat(result.isSuccess()).isFalse();
+		assertThat(result.getMessage()).isEqualTo((jobTitle.getId() + 1000) + " numaralı iş pozisyonu bulunamadı.");
+		assertThat(skillsOfResume()).containsExactlyInAnyOrder("Java", "Spring");
+	}
+
+	@Test
+	void rejectsUnknownLanguagesAndLevels() {
+		Language language = entityManager.persist(new Language(0, "İngilizce"));
+		Level level = entityManager.persist(new Level(0, "B2", 4));
+		entityManager.flush();
+
+		ResumeSectionsDto resumeSectionsDto = sections();
+		resumeSectionsDto.setLanguageLevels(new ArrayList<LanguageLevel>(List.of(
+				new LanguageLevel(0, null, language, new Level(level.getId() + 1000, null, null)))));
+
+		Result result = resumeSectionManager.replaceSections(resumeSectionsDto);
+
+		assertThat(result.isSuccess()).isFalse();
+		assertThat(result.getMessage()).isEqualTo((level.getId() + 1000) + " numaralı seviye bulunamadı.");
+		assertThat(countOf("language_levels")).isZero();
+	}
+
+	@Test
+	void rejectsRowsOfAnotherResume() {
+		Resume otherResume = addResume("baska@hrms.io");
+		Skill otherSkill = entityManager.persist(new Skill(0, "Go", otherResume));
+		entityManager.flush();
+
+		ResumeSectionsDto resumeSectionsDto = sections();
+		resumeSectionsDto.setSkills(new ArrayList<Skill>(List.of(new Skill(otherSkill.getId(), "Go", null))));
+
+		Result result = resumeSectionManager.replaceSections(resumeSectionsDto);
+
+		assertThat(result.isSuccess()).isFalse();
+		assertThat(result.getMessage()).isEqualTo(otherSkill.getId() + " numaralı kayıt bu özgeçmişe ait değil.");
+		assertThat(skillsOfResume()).containsExactlyInAnyOrder("Java", "Spring");
+	}
+
+	@Test
+	void rejectsUnknownResume() {
+		ResumeSectionsDto resumeSectionsDto = new ResumeSectionsDto();
+		resumeSectionsDto.setResumeId(resume.getId() + 1000);
+
+		assertThat(resumeSectionManager.replaceSections(resumeSectionsDto).getMessage()).isEqualTo("Özgeçmiş bulunamadı.");
+	}
+
+	private ResumeSectionsDto sections() {
+
+		ResumeSectionsDto resumeSectionsDto = new ResumeSectionsDto();
+		resumeSectionsDto.setResumeId(resume.getId());
+		return resumeSectionsDto;
+	}
+
+	private List<String> skillsOfResume() {
+		return jdbcTemplate.queryForList("SELECT skill FROM skills WHERE resume_id = ?", String.class, resume.getId());
+	}
+
+	private int countOf(String table) {
+		return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table + " WHERE resume_id = ?", Integer.class, resume.getId());
+	}
+
+	private Resume addResume(String email) {
+
+		Candidate candidate = new Candidate("Aday", "Bir", email.substring(0, 4) + "0000000", LocalDate.of(1990, 1, 1), null);
+		candidate.setEmail(email);
+		candidate.setPassword("parola");
+		entityManager.persist(candidate);
+
+		return entityManager.persist(new Resume(candidate));
+	}
+
+}
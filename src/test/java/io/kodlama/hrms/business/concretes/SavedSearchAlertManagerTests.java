@@ -0,0 +1,131 @@
+package io.kodlama.hrms.business.concretes;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import io.kodlama.hrms.business.abstracts.CandidateService;
+import io.kodlama.hrms.business.abstracts.EmailService;
+import io.kodlama.hrms.core.utilities.results.SuccessDataResult;
+import io.kodlama.hrms.dataAccess.abstracts.SavedSearchDao;
+import io.kodlama.hrms.entities.concretes.Candidate;
+import io.kodlama.hrms.entities.concretes.City;
+import io.kodlama.hrms.entities.concretes.JobPosting;
+import io.kodlama.hrms.entities.concretes.JobTitle;
+import io.kodlama.hrms.entities.dtos.SavedSearchIndexEntryDto;
+
+class SavedSearchAlertManagerTests {
+
+	private SavedSearchDao savedSearchDao;
+	private CandidateService candidateService;
+	private EmailService emailService;
+	private SavedSearchAlertManager savedSearchAlertManager;
+
+	@BeforeEach
+	void setUp() {
+		savedSearchDao = mock(SavedSearchDao.class);
+		candidateService = mock(CandidateService.class);
+		emailService = mock(EmailService.class);
+		savedSearchAlertManager = new SavedSearchAlertManager(savedSearchDao, candidateService, emailService, new SyncTaskExecutor(), 100);
+
+		when(candidateService.getAllByIds(any())).thenReturn(new SuccessDataResult<List<Candidate>>(List.of(new Candidate())));
+	}
+
+	@Test
+	void keywordPrefixesMatchInflectedPostingWords() {
+
+		when(savedSearchDao.getAllIndexEntries()).thenReturn(List.of(entry(1, 10, 34, "java mühendis")));
+		savedSearchAlertManager.rebuild();
+
+		JobPosting jobPosting = jobPosting(100, 34, "Kıdemli Java Mühendisi");
+		savedSearchAlertManager.notifyMatchingCandidates(jobPosting);
+
+		verify(candidateService).getAllByIds(List.of(10));
+		verify(emailService).sendJobPostingAlertToAll(anyList(), eq(jobPosting));
+	}
+
+	@Test
+	void postingsMissingACriterionOrKeywordDoNotMatch() {
+
+		when(savedSearchDao.getAllIndexEntries()).thenReturn(List.of(entry(1, 10, 34, "java"), entry(2, 11, null, "python")));
+		savedSearchAlertManager.rebuild();
+
+		savedSearchAlertManager.notifyMatchingCandidates(jobPosting(100, 6, "Java Geliştirici"));
+
+		verify(emailService, never()).sendJobPostingAlertToAll(anyList(), any());
+	}
+
+	@Test
+	void searchesWithoutCriteriaMatchEveryPosting() {
+
+		when(savedSearchDao.getAllIndexEntries()).thenReturn(List.of(entry(1, 10, null, null)));
+		savedSearchAlertManager.rebuild();
+
+		savedSearchAlertManager.notifyMatchingCandidates(jobPosting(100, 6, "Muhasebe Uzmanı"));
+
+		verify(candidateService).getAllByIds(List.of(10));
+	}
+
+	@Test
+	void refreshPicksUpSearchesSavedAndDeletedOnOtherNodes() {
+
+		when(savedSearchDao.getAllIndexEntries()).thenReturn(List.of(entry(1, 10, null, "java")));
+		savedSearchAlertManager.rebuild();
+
+		when(savedSearchDao.getAllIds()).thenReturn(List.of(2));
+		when(savedSearchDao.getAllIndexEntriesUpdatedSince(any())).thenReturn(List.of());
+		when(savedSearchDao.getAllIndexEntriesByIdIn(List.of(2))).thenReturn(List.of(entry(2, 11, null, "java")));
+		savedSearchAlertManager.refresh();
+
+		savedSearchAlertManager.notifyMatchingCandidates(jobPosting(100, 34, "Java Geliştirici"));
+
+		verify(candidateService).getAllByIds(List.of(11));
+		verify(candidateService, never()).getAllByIds(List.of(10));
+	}
+
+	@Test
+	void refreshAppliesSearchesUpdatedOnOtherNodes() {
+
+		when(savedSearchDao.getAllIndexEntries()).thenReturn(List.of(entry(1, 10, null, "java")));
+		savedSearchAlertManager.rebuild();
+
+		when(savedSearchDao.getAllIds()).thenReturn(List.of(1));
+		when(savedSearchDao.getAllIndexEntriesUpdatedSince(any())).thenReturn(List.of(entry(1, 10, null, "python")));
+		savedSearchAlertManager.refresh();
+
+		savedSearchAlertManager.notifyMatchingCandidates(jobPosting(100, 34, "Java Geliştirici"));
+
+		verify(emailService, never()).sendJobPostingAlertToAll(anyList(), any());
+	}
+
+	private static SavedSearchIndexEntryDto entry(int id, int candidateId, Integer cityId, String keywords) {
+		return new SavedSearchIndexEntryDto(id, candidateId, cityId, null, null, null, keywords);
+	}
+
+	private static JobPosting jobPosting(int id, int cityId, String title) {
+
+		City city = new City();
+		city.setId(cityId);
+		JobTitle jobTitle = new JobTitle();
+		jobTitle.setId(1);
+		jobTitle.setTitle(title);
+
+		JobPosting jobPosting = new JobPosting();
+		jobPosting.setId(id);
+		jobPosting.setCity(city);
+		jobPosting.setJobTitle(jobTitle);
+		jobPosting.setJobDescription("");
+		return jobPosting;
+	}
+
+}
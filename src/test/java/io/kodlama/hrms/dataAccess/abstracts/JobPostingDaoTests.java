@@ -0,0 +1,65 @@
+package io.kodlama.hrms.dataAccess.abstracts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import io.kodlama.hrms.entities.concretes.JobPosting;
+
+@DataJpaTest(properties = {
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.sql.init.enabled=false"
+})
+class JobPostingDaoTests {
+
+	private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private JobPostingDao jobPostingDao;
+
+	@Test
+	void seekingPastTheLastRowWalksEveryActivePostingOnceEvenWhenDatesTie() {
+
+		// Pairs of postings share a posting date, so only the id breaks the tie.
+		for (int i = 0; i < 7; i++) {
+			addJobPosting(MONDAY.plusHours(i / 2), true);
+		}
+		addJobPosting(MONDAY.plusHours(1), false);
+
+		List<Integer> walked = new ArrayList<Integer>();
+		List<JobPosting> page = jobPostingDao.getByIsActive(true,
+				PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "postingDate").and(Sort.by(Sort.Direction.DESC, "id"))));
+		while (!page.isEmpty()) {
+			page.forEach(jobPosting -> walked.add(jobPosting.getId()));
+			JobPosting last = page.get(page.size() - 1);
+			page = jobPostingDao.getActiveOnesSortedByPostingDateAfter(last.getPostingDate(), last.getId(), PageRequest.of(0, 3));
+		}
+
+		List<Integer> sorted = jobPostingDao.getByIsActive(true, Sort.by(Sort.Direction.DESC, "postingDate").and(Sort.by(Sort.Direction.DESC, "id")))
+				.stream().map(JobPosting::getId).collect(Collectors.toList());
+		assertThat(walked).hasSize(7).isEqualTo(sorted);
+	}
+
+	private JobPosting addJobPosting(LocalDateTime postingDate, boolean isActive) {
+
+		JobPosting jobPosting = new JobPosting();
+		jobPosting.setJobDescription("İlan");
+		jobPosting.setPostingDate(postingDate);
+		jobPosting.setActive(isActive);
+		return entityManager.persistAndFlush(jobPosting);
+	}
+
+}
@@ -0,0 +1,169 @@
+package io.kodlama.hrms.dataAccess.abstracts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import io.kodlama.hrms.entities.concretes.Candidate;
+import io.kodlama.hrms.entities.concretes.Education;
+import io.kodlama.hrms.entities.concretes.Experience;
+import io.kodlama.hrms.entities.concretes.JobTitle;
+import io.kodlama.hrms.entities.concretes.Language;
+import io.kodlama.hrms.entities.concretes.LanguageLevel;
+import io.kodlama.hrms.entities.concretes.Level;
+import io.kodlama.hrms.entities.concretes.Link;
+import io.kodlama.hrms.entities.concretes.LinkName;
+import io.kodlama.hrms.entities.concretes.Resume;
+import io.kodlama.hrms.entities.concretes.Skill;
+import io.kodlama.hrms.entities.concretes.UserActivation;
+
+@DataJpaTest(properties = {
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"spring.sql.init.enabled=false"
+})
+class ResumeDaoTests {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private ResumeDao resumeDao;
+
+	private Statistics statistics;
+
+	private int candidateCount;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void loadingAPageOfResumesRunsTheSameStatementsRegardlessOfChildCount() {
+
+		addResume(1);
+		long statementsForOneChild = countStatementsToLoadPage();
+
+		for (int i = 0; i < 4; i++) {
+			addResume(5);
+		}
+		long statementsForManyChildren = countStatementsToLoadPage();
+
+		assertThat(statementsForManyChildren).isEqualTo(statementsForOneChild);
+		assertThat(statementsForManyChildren).isLessThanOrEqualTo(10);
+	}
+
+	@Test
+	void loadingOneResumeRunsTheSameStatementsRegardlessOfChildCount() {
+
+		int fewChildrenCandidateId = addResume(1);
+		int manyChildrenCandidateId = addResume(8);
+
+		long statementsForOneChild = countStatementsToLoadResume(fewChildrenCandidateId);
+		long statementsForManyChildren = countStatementsToLoadResume(manyChildrenCandidateId);
+
+		assertThat(statementsForManyChildren).isEqualTo(statementsForOneChild);
+		assertThat(statementsForManyChildren).isLessThanOrEqualTo(10);
+	}
+
+	@Test
+	void versionedUpdatesOnlyApplyToTheVersionTheyRead() {
+
+		int candidateId = addResume(0);
+		Candidate otherCandidate = resumeDao.getByCandidate_Id(addResume(0)).getCandidate();
+		int resumeId = resumeDao.getByCandidate_Id(candidateId).getId();
+		entityManager.flush();
+
+		assertThat(resumeDao.getVersionById(resumeId)).isZero();
+		assertThat(resumeDao.deleteCoverLetterByIdAndVersion(resumeId, 0, LocalDateTime.now())).isEqualTo(1);
+		assertThat(resumeDao.deleteCoverLetterByIdAndVersion(resumeId, 0, LocalDateTime.now())).isZero();
+		assertThat(resumeDao.updateCandidateByIdAndVersion(resumeId, 0, otherCandidate, LocalDateTime.now())).isZero();
+		assertThat(resumeDao.getVersionById(resumeId)).isEqualTo(1);
+
+		assertThat(resumeDao.updateCandidateByIdAndVersion(resumeId, 1, otherCandidate, LocalDateTime.now())).isEqualTo(1);
+		assertThat(resumeDao.getVersionById(resumeId)).isEqualTo(2);
+		assertThat(resumeDao.findById(resumeId).get().getCandidate().getId()).isEqualTo(otherCandidate.getId());
+	}
+
+	private long countStatementsToLoadPage() {
+
+		entityManager.flush();
+		entityManager.clear();
+		statistics.clear();
+
+		resumeDao.findAll(PageRequest.of(0, 20, Sort.by("id"))).getContent().forEach(this::touchChildren);
+
+		return statistics.getPrepareStatementCount();
+	}
+
+	private long countStatementsToLoadResume(int candidateId) {
+
+		entityManager.flush();
+		entityManager.clear();
+		statistics.clear();
+
+		touchChildren(resumeDao.getByCandidate_Id(candidateId));
+
+		return statistics.getPrepareStatementCount();
+	}
+
+	private void touchChildren(Resume resume) {
+
+		resume.getCandidate().getUserActivation().isActivated();
+		resume.getEducations().forEach(Education::getDepartment);
+		resume.getExperiences().forEach(experience -> experience.getJobTitle().getTitle());
+		resume.getLanguageLevels().forEach(languageLevel -> {
+			languageLevel.getLanguage().getLanguage();
+			languageLevel.getLevel().getLevel();
+		});
+		resume.getLinks().forEach(link -> link.getLinkName().getName());
+		resume.getSkills().forEach(Skill::getSkill);
+	}
+
+	private int addResume(int childCount) {
+
+		int number = ++candidateCount;
+
+		Candidate candidate = new Candidate("Aday", "Bir", "1000000000" + number, LocalDate.of(1990, 1, 1), null);
+		candidate.setEmail("aday" + number + "@hrms.io");
+		candidate.setPassword("parola");
+		entityManager.persist(candidate);
+
+		UserActivation userActivation = new UserActivation(candidate);
+		userActivation.setActivated(true);
+		entityManager.persist(userActivation);
+
+		Resume resume = new Resume(candidate);
+		resume.setCreationDate(LocalDateTime.now());
+		entityManager.persist(resume);
+
+		for (int i = 0; i < childCount; i++) {
+			JobTitle jobTitle = entityManager.persist(new JobTitle(0, "Pozisyon " + number + "-" + i));
+			Language language = entityManager.persist(new Language(0, "Dil " + number + "-" + i));
+			Level level = entityManager.persist(new Level(0, "Seviye " + number + "-" + i, i + 1));
+			LinkName linkName = entityManager.persist(new LinkName(0, "Bağlantı " + number + "-" + i));
+
+			entityManager.persist(new Education(0, "Üniversite", "Bölüm " + i, "Lisans", LocalDate.of(2008, 9, 1), LocalDate.of(2012, 6, 1), resume));
+			entityManager.persist(new Experience(0, "Şirket " + i, LocalDate.of(2012, 7, 1), null, resume, jobTitle));
+			entityManager.persist(new LanguageLevel(0, resume, language, level));
+			entityManager.persist(new Link(0, "https://hrms.io/" + number + "/" + i, resume, linkName));
+			entityManager.persist(new Skill(0, "Yetenek " + i, resume));
+		}
+
+		return candidate.getId();
+	}
+
+}
@@ -0,0 +1,57 @@
+package io.kodlama.hrms.dataAccess.concretes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import io.kodlama.hrms.dataAccess.abstracts.JobPostingSummaryDao;
+import io.kodlama.hrms.entities.concretes.JobPosting;
+import io.kodlama.hrms.entities.dtos.JobPostingFilterDto;
+import io.kodlama.hrms.entities.dtos.JobPostingSummaryDto;
+
+@DataJpaTest(properties = {
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.sql.init.enabled=false"
+})
+@Import(JobPostingSummaryDaoImpl.class)
+class JobPostingSummaryDaoImplTests {
+
+	private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private JobPostingSummaryDao jobPostingSummaryDao;
+
+	@Test
+	void summarizesOnlyActivePostingsNewestFirst() {
+
+		JobPosting older = addJobPosting(MONDAY, true);
+		JobPosting newer = addJobPosting(MONDAY.plusDays(1), true);
+		addJobPosting(MONDAY.plusDays(2), false);
+
+		Page<JobPostingSummaryDto> summaries = jobPostingSummaryDao.getActiveSummariesFilteredBy(new JobPostingFilterDto(), PageRequest.of(0, 10));
+
+		assertThat(summaries.getTotalElements()).isEqualTo(2);
+		assertThat(summaries.getContent()).extracting(JobPostingSummaryDto::getId).containsExactly(newer.getId(), older.getId());
+	}
+
+	private JobPosting addJobPosting(LocalDateTime postingDate, boolean isActive) {
+
+		JobPosting jobPosting = new JobPosting();
+		jobPosting.setJobDescription("İlan");
+		jobPosting.setPostingDate(postingDate);
+		jobPosting.setActive(isActive);
+		return entityManager.persistAndFlush(jobPosting);
+	}
+
+}